@@ -21,6 +21,7 @@ import org.eclipse.codewind.core.internal.IUpdateHandler;
 import org.eclipse.codewind.core.internal.Logger;
 import org.eclipse.codewind.core.internal.cli.InstallUtil;
 import org.eclipse.codewind.core.internal.connection.CodewindConnectionManager;
+import org.eclipse.codewind.core.internal.console.SocketConsole;
 import org.eclipse.codewind.core.internal.launch.CodewindLaunchListener;
 import org.eclipse.debug.core.DebugPlugin;
 import org.eclipse.jface.resource.ImageDescriptor;
@@ -53,6 +54,9 @@ public class CodewindCorePlugin extends AbstractUIPlugin {
 	public static final String USE_BUILTIN_NODEJS_DEBUG_PREFSKEY = "useBuiltinNodejsDebug"; //$NON-NLS-1$
 	public static final String NODEJS_DEBUG_BROWSER_PREFSKEY = "nodejsDebugBrowserName"; //$NON-NLS-1$
 
+	// Int option for the maximum number of characters kept in each project log console
+	public static final String CONSOLE_BUFFER_SIZE_PREFSKEY = "consoleBufferSize"; //$NON-NLS-1$
+
 	// The shared instance
 	private static CodewindCorePlugin plugin;
 	
@@ -93,6 +97,7 @@ public class CodewindCorePlugin extends AbstractUIPlugin {
 		getPreferenceStore().setDefault(AUTO_OPEN_OVERVIEW_PAGE, true);
 		getPreferenceStore().setDefault(ENABLE_SUPPORT_FEATURES, false);
 		getPreferenceStore().setDefault(USE_BUILTIN_NODEJS_DEBUG_PREFSKEY, true);
+		getPreferenceStore().setDefault(CONSOLE_BUFFER_SIZE_PREFSKEY, SocketConsole.DEFAULT_BUFFER_SIZE);
 	}
 
 	/*
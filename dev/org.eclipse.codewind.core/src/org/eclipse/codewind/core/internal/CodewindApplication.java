@@ -11,17 +11,22 @@
 
 package org.eclipse.codewind.core.internal;
 
-import java.io.IOException;
 import java.net.MalformedURLException;
+import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.Vector;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
 
-import org.eclipse.codewind.core.internal.HttpUtil.HttpResult;
 import org.eclipse.codewind.core.internal.cli.ProjectLinks;
 import org.eclipse.codewind.core.internal.cli.ProjectLinks.LinkInfo;
 import org.eclipse.codewind.core.internal.connection.CodewindConnection;
@@ -37,12 +42,54 @@ import org.eclipse.codewind.core.internal.constants.ProjectType;
 import org.eclipse.codewind.core.internal.constants.StartMode;
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.debug.core.ILaunch;
-import org.json.JSONObject;
 
 /**
  * Represents a Codewind Application / Project
  */
 public class CodewindApplication {
+	
+	/**
+	 * The groups of application state that can change on an update.
+	 */
+	public enum Field {
+		ACTION,
+		ENABLED,
+		APP_STATUS,
+		BUILD_STATUS,
+		LAST_BUILD,
+		START_MODE,
+		AUTO_BUILD,
+		URLS,
+		PORTS,
+		CONTAINER,
+		METRICS,
+		CAPABILITIES,
+		LOGS,
+		LINKS,
+		CONFIG
+	}
+
+	/**
+	 * A problem reported by project validation.
+	 */
+	public static class ValidationResult {
+		public final boolean isError;
+		public final String filePath;
+		public final String message;
+		public final String quickFixId;
+		public final String quickFixDescription;
+
+		public ValidationResult(boolean isError, String filePath, String message, String quickFixId, String quickFixDescription) {
+			this.isError = isError;
+			this.filePath = filePath;
+			this.message = message;
+			this.quickFixId = quickFixId;
+			this.quickFixDescription = quickFixDescription;
+		}
+	}
+
+	// How long to wait before asking for the project capabilities again after a failure
+	private static final long CAPABILITIES_RETRY_MS = 30 * 1000;
 
 	public final CodewindConnection connection;
 	public final String projectID, name, host;
@@ -51,48 +98,65 @@ public class CodewindApplication {
 	public final ProjectLanguage projectLanguage;
 
 	
-	private String contextRoot;	// can be null
-	private StartMode startMode;
-	private AppStatus appStatus;
-	private DetailedAppStatus appStatusDetails;
-	private BuildStatus buildStatus;
-	private String buildDetails;
-	private boolean autoBuild = true;
-	private boolean canInjectMetrics = false;
-	private boolean metricsInjected = false;
-	private String metricsHosting = null;
-	private String metricsPath = null;
-	private String perfPath = null;
-	private boolean metricsAvailable = false;
-	private boolean hasConfirmedMetrics = false; 		// see confirmMetricsAvailable
-	private boolean enabled = true;
-	private String containerId;
-	private String podName;
-	private String namespace;
-	private boolean capabilitiesReady = false;
-	private ProjectCapabilities projectCapabilities;
-	private String action;
-	private List<ProjectLogInfo> logInfos = new ArrayList<ProjectLogInfo>();
-	private long lastBuild = -1;
-	private long lastImageBuild = -1;
-	private boolean isHttps = false;
-	private boolean deleteContents = false;
+	// The mutable state is volatile so that readers (label provider, overview editor, actions)
+	// never have to take the application monitor.  Writers are serialized on the application
+	// monitor and bump the version whenever a value actually changes.
+	private volatile String contextRoot;	// can be null
+	private volatile StartMode startMode;
+	private volatile AppStatus appStatus;
+	private volatile DetailedAppStatus appStatusDetails;
+	private volatile BuildStatus buildStatus;
+	private volatile String buildDetails;
+	private volatile boolean autoBuild = true;
+	private volatile boolean canInjectMetrics = false;
+	private volatile boolean metricsInjected = false;
+	private volatile String metricsHosting = null;
+	private volatile String metricsPath = null;
+	private volatile String perfPath = null;
+	private volatile boolean metricsAvailable = false;
+	private CompletableFuture<Boolean> metricsConfirmation = null;	// see confirmMetricsAvailable, guarded by the monitor
+	private volatile boolean enabled = true;
+	private volatile String containerId;
+	private volatile String podName;
+	private volatile String namespace;
+	private volatile boolean capabilitiesReady = false;
+	private volatile ProjectCapabilities projectCapabilities;
+	// The capabilities request for the current revision, see getProjectCapabilities
+	private final AtomicReference<CompletableFuture<ProjectCapabilities>> capabilitiesRequest = new AtomicReference<CompletableFuture<ProjectCapabilities>>();
+	private volatile long capabilitiesFailureTime = 0;
+	private volatile String action;
+	private volatile List<ProjectLogInfo> logInfos = Collections.emptyList();
+	private volatile long lastBuild = -1;
+	private volatile long lastImageBuild = -1;
+	private volatile boolean isHttps = false;
+	private volatile boolean deleteContents = false;
 	private final Vector<String> activeNotificationIDs = new Vector<String>();
-	private ExtensionConfig extensionConfig;
-	private ProjectLinks projectLinks;	
+	private volatile ExtensionConfig extensionConfig;
+	private volatile ProjectLinks projectLinks;	
+
+	// Incremented on every change to the application state, only written while holding the monitor
+	private volatile long version = 0;
+	// Incremented on every change to each field, indexed by Field ordinal
+	private final AtomicLongArray fieldVersions = new AtomicLongArray(Field.values().length);
+	
+	// Fields changed since beginChanges was called, null if not recording
+	private Set<Field> recordedChanges = null;
+	private int recordingDepth = 0;
+	// Whether the changes being recorded come from the project list, which already has the latest information
+	private boolean projectListUpdate = false;
 
 	// Must be updated whenever httpPort changes. Can be null
-	private URL baseUrl;
+	private volatile URL baseUrl;
 	
 	// Application base url
-	private String appBaseUrl;
+	private volatile String appBaseUrl;
 	
 	// Full application url ((appBaseUrl if set or baseUrl) + context root)
-	private URL rootUrl;
+	private volatile URL rootUrl;
 
-	// These are set by the CodewindSocket so we have to make sure the reads and writes are synchronized
+	// These are set by the CodewindSocket so the writes are synchronized
 	// An httpPort of -1 indicates the app is not started - could be building or disabled.
-	private int httpPort = -1, debugPort = -1, containerAppPort = -1, containerDebugPort = -1;
+	private volatile int httpPort = -1, debugPort = -1, containerAppPort = -1, containerDebugPort = -1;
 
 	CodewindApplication(CodewindConnection connection, String id, String name, 
 			ProjectType projectType, ProjectLanguage projectLanguage, IPath localPath)
@@ -114,26 +178,127 @@ public class CodewindApplication {
 
 	private void setUrls() throws MalformedURLException {
 		if (httpPort == -1) {
-			Logger.log("Un-setting baseUrl because httpPort is not valid"); //$NON-NLS-1$
-			baseUrl = null;
-			rootUrl = null;
+			if (baseUrl != null || rootUrl != null) {
+				Logger.log("Un-setting baseUrl because httpPort is not valid"); //$NON-NLS-1$
+				baseUrl = null;
+				rootUrl = null;
+				changed(Field.URLS);
+			}
 			return;
 		}
 
 		String httpStr = getIsHttps() ? "https" : "http";
-		baseUrl = new URL(httpStr, host, httpPort, ""); //$NON-NLS-1$ //$NON-NLS-2$
+		URL newBaseUrl = new URL(httpStr, host, httpPort, ""); //$NON-NLS-1$ //$NON-NLS-2$
 		
 		// The root URL is the app base URL plus the context root if there is one
-		rootUrl = getAppBaseUrl();
+		URL newRootUrl = newBaseUrl;
+		if (appBaseUrl != null && !appBaseUrl.isEmpty()) {
+			newRootUrl = new URL(appBaseUrl);
+		}
 		if (contextRoot != null && !contextRoot.isEmpty()) {
-			rootUrl = new URL(rootUrl, contextRoot);
+			newRootUrl = new URL(newRootUrl, contextRoot);
+		}
+		
+		// Compare the string forms since URL.equals does host name resolution
+		if (!sameUrl(newBaseUrl, baseUrl) || !sameUrl(newRootUrl, rootUrl)) {
+			baseUrl = newBaseUrl;
+			rootUrl = newRootUrl;
+			changed(Field.URLS);
+		}
+	}
+	
+	private static boolean sameUrl(URL a, URL b) {
+		return a == null ? b == null : b != null && a.toExternalForm().equals(b.toExternalForm());
+	}
+	
+	private static boolean sameJson(Object a, Object b) {
+		// The JSON backed objects do not implement equals so compare their string forms
+		return a == null ? b == null : b != null && a.toString().equals(b.toString());
+	}
+	
+	/**
+	 * Record a change to the application state.  Must be called while holding the monitor.
+	 */
+	protected void changed(Field field) {
+		version++;
+		fieldVersions.incrementAndGet(field.ordinal());
+		if (recordedChanges != null) {
+			recordedChanges.add(field);
 		}
 	}
+	
+	/**
+	 * Whether an update is recording the changes, in which case the caller passes the
+	 * update on to the UI.  Must be called while holding the monitor.
+	 */
+	protected boolean isRecordingChanges() {
+		return recordedChanges != null;
+	}
+	
+	/**
+	 * Start recording which fields change.  Must be called while holding the monitor
+	 * and followed by a call to endChanges.
+	 */
+	synchronized void beginChanges() {
+		beginChanges(false);
+	}
+	
+	/**
+	 * Start recording which fields change.  If the update comes from the project list then
+	 * re-enabling the application does not refresh it again.
+	 */
+	synchronized void beginChanges(boolean fromProjectList) {
+		// Updates can nest (re-enabling an application refreshes it) so only start a new set at the top level
+		if (recordingDepth++ == 0) {
+			recordedChanges = EnumSet.noneOf(Field.class);
+			projectListUpdate = fromProjectList;
+		}
+	}
+	
+	/**
+	 * Stop recording and return the set of fields that changed since beginChanges.
+	 */
+	synchronized Set<Field> endChanges() {
+		Set<Field> changes = recordedChanges == null ? EnumSet.noneOf(Field.class) : EnumSet.copyOf(recordedChanges);
+		if (recordingDepth > 0 && --recordingDepth == 0) {
+			recordedChanges = null;
+			projectListUpdate = false;
+		}
+		return changes;
+	}
+	
+	/**
+	 * The version is incremented every time the application state changes so callers
+	 * can cheaply detect whether anything they rendered is out of date.
+	 */
+	public long getVersion() {
+		return version;
+	}
+	
+	/**
+	 * Like getVersion but only changes when one of the given fields changes, so
+	 * callers that only show part of the application state can skip other updates.
+	 */
+	public long getVersion(Field... fields) {
+		long result = 0;
+		for (Field field : fields) {
+			result += fieldVersions.get(field.ordinal());
+		}
+		return result;
+	}
 
 	public synchronized void setAppStatus(String appStatus, DetailedAppStatus appStatusDetails) {
 		if (appStatus != null) {
-			this.appStatus = AppStatus.get(appStatus);
-			this.appStatusDetails = appStatusDetails;
+			AppStatus newStatus = AppStatus.get(appStatus);
+			if (newStatus != this.appStatus || !sameJson(appStatusDetails, this.appStatusDetails)) {
+				this.appStatus = newStatus;
+				this.appStatusDetails = appStatusDetails;
+				changed(Field.APP_STATUS);
+				if (newStatus == AppStatus.STARTED) {
+					// Check the metrics dashboard now rather than when the user asks for it
+					confirmMetricsAvailable();
+				}
+			}
 		}
 	}
 	
@@ -141,11 +306,11 @@ public class CodewindApplication {
 		if (buildStatus != null) {
 			BuildStatus newStatus = BuildStatus.get(buildStatus);
 			boolean hasChanged = newStatus != this.buildStatus;
-			this.buildStatus = newStatus;
-			if (buildDetails == null || buildDetails.trim().isEmpty()) {
-				this.buildDetails = null;
-			} else {
-				this.buildDetails = buildDetails;
+			String newDetails = buildDetails == null || buildDetails.trim().isEmpty() ? null : buildDetails;
+			if (hasChanged || !Objects.equals(newDetails, this.buildDetails)) {
+				this.buildStatus = newStatus;
+				this.buildDetails = newDetails;
+				changed(Field.BUILD_STATUS);
 			}
 			if (hasChanged && newStatus.isComplete()) {
 				buildComplete();
@@ -154,7 +319,11 @@ public class CodewindApplication {
 	}
 	
 	public synchronized void setAppBaseUrl(String appBaseUrl) {
+		if (Objects.equals(appBaseUrl, this.appBaseUrl)) {
+			return;
+		}
 		this.appBaseUrl = appBaseUrl;
+		changed(Field.URLS);
 		try {
 			setUrls();
 		} catch (MalformedURLException e) {
@@ -163,7 +332,11 @@ public class CodewindApplication {
 	}
 	
 	public synchronized void setContextRoot(String contextRoot) {
+		if (Objects.equals(contextRoot, this.contextRoot)) {
+			return;
+		}
 		this.contextRoot = contextRoot;
+		changed(Field.URLS);
 		try {
 			setUrls();
 		} catch (MalformedURLException e) {
@@ -171,25 +344,46 @@ public class CodewindApplication {
 		}
 	}
 	
-	public synchronized String getContextRoot() {
+	public String getContextRoot() {
 		return this.contextRoot;
 	}
 	
 	public synchronized void setStartMode(StartMode startMode) {
-		this.startMode = startMode;
+		if (startMode != this.startMode) {
+			this.startMode = startMode;
+			changed(Field.START_MODE);
+		}
 	}
 	
-	public synchronized void setAutoBuild(boolean enabled) {
-		this.autoBuild = enabled;
-		CoreUtil.updateApplication(this);
+	public void setAutoBuild(boolean enabled) {
+		boolean notify;
+		synchronized (this) {
+			if (enabled == this.autoBuild) {
+				return;
+			}
+			this.autoBuild = enabled;
+			changed(Field.AUTO_BUILD);
+			notify = !isRecordingChanges();
+		}
+		// Notify outside of the monitor, an update that is recording changes is passed on by the caller
+		if (notify) {
+			CoreUtil.updateApplication(this);
+		}
 	}
 	
 	public synchronized void setEnabled(boolean enabled) {
 		boolean reenabled = enabled && !this.enabled;
-		this.enabled = enabled;
+		if (enabled != this.enabled) {
+			this.enabled = enabled;
+			changed(Field.ENABLED);
+		}
 		if (reenabled) {
-			connection.refreshApps(projectID);
-			CoreUtil.updateApplication(this);
+			if (!projectListUpdate) {
+				connection.refreshApps(projectID);
+			}
+			if (!isRecordingChanges()) {
+				CoreUtil.updateApplication(this);
+			}
 		} else if (!enabled) {
 			// Reset fields that are only valid when the app is enabled
 			setHttpPort(-1);
@@ -199,20 +393,32 @@ public class CodewindApplication {
 	}
 	
 	public synchronized void setContainerId(String id) {
-		this.containerId = id;
+		if (!Objects.equals(id, this.containerId)) {
+			this.containerId = id;
+			changed(Field.CONTAINER);
+		}
 	}
 	
 	public synchronized void setPodInfo(String podName, String namespace) {
-		this.podName = podName;
-		this.namespace = namespace;
+		if (!Objects.equals(podName, this.podName) || !Objects.equals(namespace, this.namespace)) {
+			this.podName = podName;
+			this.namespace = namespace;
+			changed(Field.CONTAINER);
+		}
 	}
 	
 	public synchronized void setPodName(String podName) {
-		this.podName = podName;
+		if (!Objects.equals(podName, this.podName)) {
+			this.podName = podName;
+			changed(Field.CONTAINER);
+		}
 	}
 	
 	public synchronized void setAction(String action) {
-		this.action = action;
+		if (!Objects.equals(action, this.action)) {
+			this.action = action;
+			changed(Field.ACTION);
+		}
 	}
 	
 	public synchronized void addLogInfos(List<ProjectLogInfo> newLogInfos) {
@@ -220,13 +426,11 @@ public class CodewindApplication {
 			Logger.logError("Trying to add empty log infos to project: " + name);
 			return;
 		}
-		if (this.logInfos == null || this.logInfos.isEmpty()) {
-			this.logInfos = newLogInfos;
-			return;
-		}
+		// Copy on write so that readers can iterate the list without holding the monitor
+		List<ProjectLogInfo> updatedLogInfos = new ArrayList<ProjectLogInfo>(this.logInfos);
 		for (ProjectLogInfo newLogInfo : newLogInfos) {
 			boolean found = false;
-			for (ProjectLogInfo logInfo : this.logInfos) {
+			for (ProjectLogInfo logInfo : updatedLogInfos) {
 				// There should not be more than one log with the same name for a project
 				if (logInfo.logName.equals(newLogInfo.logName)) {
 					found = true;
@@ -234,9 +438,13 @@ public class CodewindApplication {
 				}
 			}
 			if (!found) {
-				this.logInfos.add(newLogInfo);
+				updatedLogInfos.add(newLogInfo);
 			}
 		}
+		if (updatedLogInfos.size() != this.logInfos.size()) {
+			this.logInfos = Collections.unmodifiableList(updatedLogInfos);
+			changed(Field.LOGS);
+		}
 	}
 	
 	public synchronized void setLogInfos(List<ProjectLogInfo> logInfos) {
@@ -244,7 +452,24 @@ public class CodewindApplication {
 			Logger.logError("The logs should not be set to null for project: " + name);
 			return;
 		}
-		this.logInfos = logInfos;
+		if (!sameLogInfos(logInfos, this.logInfos)) {
+			this.logInfos = Collections.unmodifiableList(new ArrayList<ProjectLogInfo>(logInfos));
+			changed(Field.LOGS);
+		}
+	}
+	
+	private static boolean sameLogInfos(List<ProjectLogInfo> a, List<ProjectLogInfo> b) {
+		if (a.size() != b.size()) {
+			return false;
+		}
+		for (int i = 0; i < a.size(); i++) {
+			ProjectLogInfo infoA = a.get(i);
+			ProjectLogInfo infoB = b.get(i);
+			if (!infoA.isThisLogInfo(infoB) || !Objects.equals(infoA.workspaceLogPath, infoB.workspaceLogPath)) {
+				return false;
+			}
+		}
+		return true;
 	}
 	
 	/**
@@ -304,90 +529,126 @@ public class CodewindApplication {
 	 * So after the application is running, GET that page to make sure. If it fails, we set metricsAvailable to false.
 	 * 
 	 * Workaround for https://github.com/eclipse/codewind/issues/258
+	 * 
+	 * The page is checked in the background, once for each change to the metrics dashboard
+	 * info.  The returned future completes with the result of hasMetricsDashboard once the
+	 * check is done.
 	 */
-	public synchronized void confirmMetricsAvailable() {
-		if (this.hasConfirmedMetrics) {
-			return;
-		}
-		this.hasConfirmedMetrics = true;
+	public CompletableFuture<Boolean> confirmMetricsAvailable() {
+		final CompletableFuture<Boolean> confirmation;
+		final URI metricsUri;
+		synchronized (this) {
+			if (this.metricsConfirmation != null) {
+				return this.metricsConfirmation;
+			}
+			this.metricsConfirmation = CompletableFuture.completedFuture(this.metricsAvailable);
 
-		// Only extension projects which report they DO support metrics require this extra check; 
-		// for normal projects the metricsAvailable is accurate.
-		if (!this.metricsAvailable || !this.projectType.isExtension()) {
-			return;
+			// Only extension projects which report they DO support metrics require this extra check; 
+			// for normal projects the metricsAvailable is accurate.
+			if (!this.metricsAvailable || !this.projectType.isExtension()) {
+				return this.metricsConfirmation;
+			}
+			
+			try {
+				URL metricsUrl = this.getMetricsDashboardUrl();
+				if (metricsUrl == null) {
+					// we should not have made it this far
+					return this.metricsConfirmation;
+				}
+				metricsUri = metricsUrl.toURI();
+			}
+			catch (URISyntaxException e) {
+				Logger.logError("An error occurred trying to confirm the application metrics status", e);
+				return this.metricsConfirmation;
+			}
+			
+			confirmation = new CompletableFuture<Boolean>();
+			this.metricsConfirmation = confirmation;
 		}
 		
-		try {
-			URL metricsUrl = this.getMetricsDashboardUrl();
-			if (metricsUrl == null) {
-				// we should not have made it this far
-				return;
+		// The caller may hold the application lock (setAppStatus does) and the request can
+		// complete immediately, so run the callback asynchronously to notify without the lock
+		HttpUtil.getAsync(metricsUri, null).whenCompleteAsync((result, error) -> {
+			if (error != null) {
+				Logger.logError("An error occurred trying to confirm the application metrics status", error);
 			}
-			HttpResult getMetricsResult = HttpUtil.get(metricsUrl.toURI());
-			this.metricsAvailable = getMetricsResult.isGoodResponse;
-		}
-		catch (IOException | URISyntaxException e) {
-			Logger.logError("An error occurred trying to confirm the application metrics status", e);
-		}		
+			boolean updated = false;
+			boolean available;
+			synchronized (this) {
+				// Ignore the result if the metrics dashboard info changed while checking
+				if (error == null && !result.isGoodResponse && this.metricsConfirmation == confirmation && this.metricsAvailable) {
+					this.metricsAvailable = false;
+					changed(Field.METRICS);
+					// An update that is recording the changes notifies the UI itself
+					updated = !isRecordingChanges();
+				}
+				available = this.metricsAvailable;
+			}
+			if (updated) {
+				CoreUtil.updateApplication(this);
+			}
+			confirmation.complete(available);
+		});
+		return confirmation;
 	}
 
-	public synchronized AppStatus getAppStatus() {
+	public AppStatus getAppStatus() {
 		return appStatus;
 	}
 	
-	public synchronized DetailedAppStatus getAppStatusDetails() {
+	public DetailedAppStatus getAppStatusDetails() {
 		return appStatusDetails;
 	}
 	
-	public synchronized BuildStatus getBuildStatus() {
+	public BuildStatus getBuildStatus() {
 		return buildStatus;
 	}
 	
-	public synchronized String getBuildDetails() {
+	public String getBuildDetails() {
 		return buildDetails;
 	}
 	
-	public synchronized int getHttpPort() {
+	public int getHttpPort() {
 		return httpPort;
 	}
 
-	public synchronized int getDebugPort() {
+	public int getDebugPort() {
 		return debugPort;
 	}
 	
-	public synchronized int getDebugConnectPort() {
+	public int getDebugConnectPort() {
 		return debugPort;
 	}
 	
-	public synchronized String getDebugConnectHost() {
+	public String getDebugConnectHost() {
 		return host;
 	}
 
-	public synchronized StartMode getStartMode() {
+	public StartMode getStartMode() {
 		return startMode;
 	}
 	
-	public synchronized boolean isAutoBuild() {
+	public boolean isAutoBuild() {
 		return autoBuild;
 	}
 	
-	public synchronized boolean isMetricsInjected() {
+	public boolean isMetricsInjected() {
 		return metricsInjected;
 	}
 	
-	public synchronized boolean isEnabled() {
+	public boolean isEnabled() {
 		return enabled;
 	}
 	
-	public synchronized String getContainerId() {
+	public String getContainerId() {
 		return containerId;
 	}
 	
-	public synchronized String getPodName() {
+	public String getPodName() {
 		return podName;
 	}
 	
-	public synchronized String getNamespace() {
+	public String getNamespace() {
 		return namespace;
 	}
 	
@@ -420,74 +681,87 @@ public class CodewindApplication {
 		return (projectType != ProjectType.TYPE_NODEJS);
 	}
 	
-	public synchronized boolean hasMetricsDashboard() {
+	public boolean hasMetricsDashboard() {
 		return metricsAvailable;
 	}
 	
-	public synchronized boolean hasPerfDashboard() {
+	public boolean hasPerfDashboard() {
 		return perfPath != null;
 	}
 	
 	public synchronized void setMetricsInjectionInfo(boolean injectable, boolean injected) {
-		this.canInjectMetrics = injectable;
-		this.metricsInjected = injected;
+		if (injectable != this.canInjectMetrics || injected != this.metricsInjected) {
+			this.canInjectMetrics = injectable;
+			this.metricsInjected = injected;
+			changed(Field.METRICS);
+		}
 	}
 	
 	public synchronized void setMetricsDashboardInfo(String hosting, String path) {
 		// If there is no change then just return
-		if ((hosting == null ? this.metricsHosting == null : hosting.equals(this.metricsHosting)) &&
-			(path == null ? this.metricsPath == null : path.equals(this.metricsPath))) {
+		if (Objects.equals(hosting, this.metricsHosting) && Objects.equals(path, this.metricsPath)) {
 			return;
 		}
 		Logger.log("Updating metrics dashboard info, hosting: " + hosting + ", path: " + path); //$NON-NLS-1$ //$NON-NLS-2$
 		this.metricsHosting = hosting;
 		this.metricsPath = path;
 		this.metricsAvailable = hosting != null && path != null;
-		this.hasConfirmedMetrics = false;
+		this.metricsConfirmation = null;
+		changed(Field.METRICS);
 	}
 	
 	public synchronized void setPerfDashboardInfo(String path) {
-		this.perfPath = path;
+		if (!Objects.equals(path, this.perfPath)) {
+			this.perfPath = path;
+			changed(Field.METRICS);
+		}
 	}
 	
 	public synchronized void setLastBuild(long timestamp) {
-		lastBuild = timestamp;
+		if (timestamp != lastBuild) {
+			lastBuild = timestamp;
+			changed(Field.LAST_BUILD);
+		}
 	}
 	
-	public synchronized long getLastBuild() {
+	public long getLastBuild() {
 		return lastBuild;
 	}
 	
 	public synchronized void setLastImageBuild(long timestamp) {
-		lastImageBuild = timestamp;
+		if (timestamp != lastImageBuild) {
+			lastImageBuild = timestamp;
+			changed(Field.LAST_BUILD);
+		}
 	}
 	
-	public synchronized long getLastImageBuild() {
+	public long getLastImageBuild() {
 		return lastImageBuild;
 	}
 	
 	public synchronized void setProjectLinks(ProjectLinks projectLinks) {
-		this.projectLinks = projectLinks;
+		if (!sameJson(projectLinks, this.projectLinks)) {
+			this.projectLinks = projectLinks;
+			changed(Field.LINKS);
+			connection.linksChanged();
+		}
 	}
 	
-	public synchronized ProjectLinks getProjectLinks() {
+	public ProjectLinks getProjectLinks() {
 		return projectLinks;
 	}
 
 	public Map<CodewindApplication, List<LinkInfo>> getLinksToThisProject() {
-		Map<CodewindApplication, List<LinkInfo>> linkMap = new HashMap<CodewindApplication, List<LinkInfo>>();
-		connection.getApps().stream().forEach(app -> {
-			List<LinkInfo> links = app.getProjectLinks().getLinkedProjects(projectID);
-			if (!links.isEmpty()) {
-				linkMap.put(app, links);
-			}
-		});
-		return linkMap;
+		return connection.getLinksToProject(projectID);
 	}
 
 	public synchronized void setHttpPort(int httpPort) {
+		if (httpPort == this.httpPort) {
+			return;
+		}
 		Logger.log("Set HTTP port for " + rootUrl + " to " + httpPort); //$NON-NLS-1$ //$NON-NLS-2$
 		this.httpPort = httpPort;
+		changed(Field.PORTS);
 		try {
 			setUrls();
 		} catch (MalformedURLException e) {
@@ -496,8 +770,12 @@ public class CodewindApplication {
 	}
 
 	public synchronized void setDebugPort(int debugPort) {
+		if (debugPort == this.debugPort) {
+			return;
+		}
 		Logger.log("Set debug port for " + rootUrl + " to " + debugPort); //$NON-NLS-1$ //$NON-NLS-2$
 		this.debugPort = debugPort;
+		changed(Field.PORTS);
 	}
 
 	/**
@@ -510,26 +788,37 @@ public class CodewindApplication {
 		Logger.log("Invalidate ports for " + name); //$NON-NLS-1$
 		httpPort = -1;
 		debugPort = -1;
+		changed(Field.PORTS);
 	}
 	
 	public synchronized void setContainerAppPort(int port) {
-		this.containerAppPort = port;
+		if (port != this.containerAppPort) {
+			this.containerAppPort = port;
+			changed(Field.PORTS);
+		}
 	}
 	
-	public synchronized int getContainerAppPort() {
+	public int getContainerAppPort() {
 		return this.containerAppPort;
 	}
 	
 	public synchronized void setContainerDebugPort(int port) {
-		this.containerDebugPort = port;
+		if (port != this.containerDebugPort) {
+			this.containerDebugPort = port;
+			changed(Field.PORTS);
+		}
 	}
 	
-	public synchronized int getContainerDebugPort() {
+	public int getContainerDebugPort() {
 		return this.containerDebugPort;
 	}
 	
 	public synchronized void setIsHttps(boolean value) {
+		if (value == isHttps) {
+			return;
+		}
 		isHttps = value;
+		changed(Field.URLS);
 		try {
 			setUrls();
 		} catch (MalformedURLException e) {
@@ -537,15 +826,18 @@ public class CodewindApplication {
 		}
 	}
 	
-	public synchronized boolean getIsHttps() {
+	public boolean getIsHttps() {
 		return isHttps;
 	}
 	
 	public synchronized void setExtensionConfig(ExtensionConfig config) {
-		extensionConfig = config;
+		if (!sameJson(config, extensionConfig)) {
+			extensionConfig = config;
+			changed(Field.CONFIG);
+		}
 	}
 	
-	public synchronized String getContainerAppRoot() {
+	public String getContainerAppRoot() {
 		return extensionConfig == null ? null : extensionConfig.getContainerAppRoot();
 	}
 	
@@ -553,36 +845,79 @@ public class CodewindApplication {
 		deleteContents = value;
 	}
 	
-	public synchronized boolean getDeleteContents() {
+	public boolean getDeleteContents() {
 		return deleteContents;
 	}
 	
 	public synchronized void setCapabilitiesReady(boolean capabilitiesReady) {
-		this.capabilitiesReady = capabilitiesReady;
+		if (capabilitiesReady != this.capabilitiesReady) {
+			this.capabilitiesReady = capabilitiesReady;
+			changed(Field.CAPABILITIES);
+			if (capabilitiesReady) {
+				// New revision of the project so get the capabilities again, the old
+				// ones are used until the new ones arrive
+				capabilitiesRequest.set(null);
+				capabilitiesFailureTime = 0;
+				requestProjectCapabilities();
+			}
+		}
 	}
 	
-	public synchronized boolean getCapabilitiesReady() {
+	public boolean getCapabilitiesReady() {
 		return capabilitiesReady;
 	}
 
 	/**
 	 * Get the capabilities of a project.  Cache them because they should not change
 	 * and since they are used to decide which menu items are shown/enabled this method
-	 * needs to be fast.
+	 * needs to be fast.  It never waits for the capabilities: if they have not arrived
+	 * yet the empty capabilities are returned and the request is started in the
+	 * background.  The application is updated (Field.CAPABILITIES) when they arrive.
 	 */
 	public ProjectCapabilities getProjectCapabilities() {
-		if (projectCapabilities == null && capabilitiesReady) {
-			try {
-				JSONObject obj = connection.requestProjectCapabilities(this);
-				projectCapabilities = new ProjectCapabilities(obj);
-			} catch (Exception e) {
-				Logger.logError("Failed to get the project capabilities for application: " + name, e); //$NON-NLS-1$
+		ProjectCapabilities capabilities = projectCapabilities;
+		if (capabilities == null) {
+			if (capabilitiesReady) {
+				requestProjectCapabilities();
 			}
-		}
-		if (projectCapabilities == null) {
 			return ProjectCapabilities.emptyCapabilities;
 		}
-		return projectCapabilities;
+		return capabilities;
+	}
+	
+	/**
+	 * Start a request for the capabilities if there is not one already for the current
+	 * revision of the project.  A failed request is retried after CAPABILITIES_RETRY_MS.
+	 */
+	private void requestProjectCapabilities() {
+		CompletableFuture<ProjectCapabilities> current = capabilitiesRequest.get();
+		if (current != null && (!current.isCompletedExceptionally()
+				|| System.currentTimeMillis() - capabilitiesFailureTime < CAPABILITIES_RETRY_MS)) {
+			return;
+		}
+		CompletableFuture<ProjectCapabilities> request = new CompletableFuture<ProjectCapabilities>();
+		if (!capabilitiesRequest.compareAndSet(current, request)) {
+			// Another thread started the request
+			return;
+		}
+		connection.requestProjectCapabilitiesAsync(this).whenComplete((capabilities, error) -> {
+			if (error != null) {
+				Logger.logError("Failed to get the project capabilities for application: " + name, error); //$NON-NLS-1$
+				capabilitiesFailureTime = System.currentTimeMillis();
+				request.completeExceptionally(error);
+				return;
+			}
+			synchronized (this) {
+				// Drop the result if a newer request was started while this one was running
+				if (capabilitiesRequest.get() != request) {
+					return;
+				}
+				projectCapabilities = capabilities;
+				changed(Field.CAPABILITIES);
+			}
+			request.complete(capabilities);
+			CoreUtil.updateApplication(this);
+		});
 	}
 	
 	public void clearDebugger() {
@@ -605,15 +940,11 @@ public class CodewindApplication {
 		// Override as needed
 	}
 	
-	public void resetValidation() {
-		// Override as needed
-	}
-	
-	public void validationError(String filePath, String message, String quickFixId, String quickFixDescription) {
-		// Override as needed
-	}
-	
-	public void validationWarning(String filePath, String message, String quickFixId, String quickFixDescription) {
+	/**
+	 * Replace the validation problems for the project with the given results.  An empty
+	 * list clears them.
+	 */
+	public void setValidationResults(List<ValidationResult> results) {
 		// Override as needed
 	}
 	
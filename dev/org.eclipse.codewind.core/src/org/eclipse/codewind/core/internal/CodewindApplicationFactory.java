@@ -11,10 +11,14 @@
 
 package org.eclipse.codewind.core.internal;
 
+import java.io.Reader;
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 
+import org.eclipse.codewind.core.internal.CodewindApplication.Field;
 import org.eclipse.codewind.core.internal.cli.ProjectLinks;
 import org.eclipse.codewind.core.internal.connection.CodewindConnection;
 import org.eclipse.codewind.core.internal.connection.ExtensionConfig;
@@ -32,6 +36,10 @@ import org.json.JSONObject;
 
 public class CodewindApplicationFactory {
 	
+	// Number of application updates that were passed on to the UI and that were dropped because nothing changed
+	private static final AtomicLong forwardedUpdates = new AtomicLong();
+	private static final AtomicLong suppressedUpdates = new AtomicLong();
+	
 	/**
 	 * Process the json for all projects, create or update applications as needed.
 	 */
@@ -45,52 +53,132 @@ public class CodewindApplicationFactory {
 	public static void getAppsFromProjectsJson(CodewindConnection connection,
 			String projectsJson, String projectID) {
 
+		ProjectList list = new ProjectList(projectID);
 		try {
 			Logger.log(projectsJson);
 			JSONArray appArray = new JSONArray(projectsJson);
-			Set<String> idSet = new HashSet<String>();
-	
 			for(int i = 0; i < appArray.length(); i++) {
-				JSONObject appJso = appArray.getJSONObject(i);
-				try {
-					String id = appJso.getString(CoreConstants.KEY_PROJECT_ID);
-					idSet.add(id);
-					// If a project id was passed in then only process the JSON object for that project
-					if (projectID == null || projectID.equals(id)) {
-						synchronized(CodewindApplicationFactory.class) {
-							CodewindApplication app = connection.getAppByID(id);
-							if (app != null) {
-								updateApp(app, appJso);
-								if (app.isDeleting()) {
-									// Remove the app from the list
-									connection.removeApp(id);
-								}
-							} else {
-								app = createApp(connection, appJso);
-								if (app != null && !app.isDeleting()) {
-									connection.addApp(app);
-								}
-							}
-						}
-					}
-				} catch (Exception e) {
-					Logger.logError("Error parsing project json: " + appJso, e); //$NON-NLS-1$
+				processProject(connection, appArray.getJSONObject(i), list);
+			}
+			list.complete = true;
+		} catch (Exception e) {
+			Logger.logError("Error parsing json for project array.", e); //$NON-NLS-1$
+		}
+		finishProjects(connection, list);
+	}
+	
+	/**
+	 * The state of a project list that is being read.  Applications are updated as each
+	 * project is parsed, but any work that makes a request to Codewind is deferred until
+	 * the project list response is closed.  New applications are added to the connection
+	 * and deleted ones removed together once the list has been read so that the connection
+	 * only copies its application index once.
+	 */
+	public static class ProjectList {
+		private final String projectID;
+		private final Set<String> idSet = new HashSet<String>();
+		private final List<Runnable> deferred = new ArrayList<Runnable>();
+		private final List<CodewindApplication> added = new ArrayList<CodewindApplication>();
+		private final List<String> removed = new ArrayList<String>();
+		private boolean complete = false;
+		
+		private ProjectList(String projectID) {
+			this.projectID = projectID;
+		}
+		
+		public boolean isComplete() {
+			return complete;
+		}
+	}
+	
+	/**
+	 * Process the project array from the reader, create or update applications as needed.
+	 */
+	public static void getAppsFromProjectsStream(CodewindConnection connection,
+			Reader projectsReader, String projectID) {
+		finishProjects(connection, readProjectsStream(connection, projectsReader, projectID));
+	}
+	
+	/**
+	 * Read the project array from the reader and create or update the application for
+	 * each project as it is parsed so the response is never held in memory.  If the
+	 * content is incomplete or not valid then the projects read so far are applied.
+	 * Call finishProjects once the response is closed.
+	 */
+	public static ProjectList readProjectsStream(CodewindConnection connection, Reader projectsReader, String projectID) {
+		ProjectList list = new ProjectList(projectID);
+		try {
+			int count = JSONStreamUtil.forEachObject(projectsReader, appJso ->
+				processProject(connection, appJso, list));
+			list.complete = true;
+			Logger.log("Read " + count + " projects from the project list"); //$NON-NLS-1$ //$NON-NLS-2$
+		} catch (Exception e) {
+			Logger.logError("Error parsing json for project array.", e); //$NON-NLS-1$
+		}
+		return list;
+	}
+	
+	/**
+	 * Add the new applications, run the work that was deferred while the project list
+	 * was read and remove any applications that are deleted or no longer in the list.
+	 * Must not be called while the project list response is still open since the deferred
+	 * work makes requests to Codewind.
+	 */
+	public static void finishProjects(CodewindConnection connection, ProjectList list) {
+		for (CodewindApplication existing : connection.addAppsIfAbsent(list.added)) {
+			// Another refresh added the application first, it has at least as recent information
+			Logger.log("The application was already added by another refresh: " + existing.name); //$NON-NLS-1$
+		}
+		list.added.clear();
+		
+		for (Runnable work : list.deferred) {
+			work.run();
+		}
+		list.deferred.clear();
+		
+		// Only remove applications that are missing if the whole list was read so a
+		// truncated response does not cause applications to be removed
+		if (list.projectID == null && list.complete) {
+			for (String id : connection.getAppIds()) {
+				if (!list.idSet.contains(id)) {
+					// This will only happen if something goes wrong and no delete event is received
+					// from Codewind for a project
+					Logger.log("The application is no longer in the project list so removing: " + id); //$NON-NLS-1$
+					list.removed.add(id);
 				}
 			}
-			
-			// If refreshing all of the projects, remove any projects that are not in the list returned by Codewind.
-			// This will only happen if something goes wrong and no delete event is received from Codewind for a
-			// project.
-			if (projectID == null) {
-				for (String id : connection.getAppIds()) {
-					if (!idSet.contains(id)) {
-						Logger.log("The application is no longer in the project list so removing: " + id);
-						connection.removeApp(id);
+		}
+		if (!list.removed.isEmpty()) {
+			connection.removeApps(list.removed);
+			list.removed.clear();
+		}
+	}
+	
+	private static void processProject(CodewindConnection connection, JSONObject appJso, ProjectList list) {
+		try {
+			String id = appJso.getString(CoreConstants.KEY_PROJECT_ID);
+			list.idSet.add(id);
+			// If a project id was passed in then only process the JSON object for that project
+			if (list.projectID == null || list.projectID.equals(id)) {
+				// Updates are serialized per application (see updateApp) so there is no
+				// need to block refreshes of other applications or connections
+				CodewindApplication app = connection.getAppByID(id);
+				if (app == null) {
+					app = createApp(connection, appJso, list.deferred);
+					if (app != null && !app.isDeleting()) {
+						list.added.add(app);
+					}
+				} else {
+					Set<Field> changes = updateApp(app, appJso, list.deferred);
+					if (app.isDeleting()) {
+						list.removed.add(app.projectID);
+					} else {
+						updateApplicationIfChanged(app, changes);
 					}
 				}
 			}
 		} catch (Exception e) {
-			Logger.logError("Error parsing json for project array.", e); //$NON-NLS-1$
+			Logger.logError("Error parsing project json: " + appJso, e); //$NON-NLS-1$
 		}
 	}
 	
@@ -98,6 +186,10 @@ public class CodewindApplicationFactory {
 	 * Use the static information in the JSON object to create the application.
 	 */
 	public static CodewindApplication createApp(CodewindConnection connection, JSONObject appJso) {
+		return createApp(connection, appJso, null);
+	}
+	
+	private static CodewindApplication createApp(CodewindConnection connection, JSONObject appJso, List<Runnable> deferred) {
 		try {
 			// MCLogger.log("app: " + appJso.toString());
 			String name = appJso.getString(CoreConstants.KEY_NAME);
@@ -125,7 +217,7 @@ public class CodewindApplicationFactory {
 			
 			app.setExtensionConfig(ExtensionConfig.getExtensionConfig(appJso));
 			
-			updateApp(app, appJso);
+			updateApp(app, appJso, deferred);
 			return app;
 		} catch(JSONException e) {
 			Logger.logError("Error parsing project json: " + appJso, e); //$NON-NLS-1$
@@ -137,8 +229,87 @@ public class CodewindApplicationFactory {
 	
 	/**
 	 * Update the application with the dynamic information in the JSON object.
+	 * Updates to the same application are serialized on the application monitor, readers
+	 * do not need the monitor since the application fields are volatile.
+	 * 
+	 * @return The set of fields that actually changed, empty if the update was a no-op.
+	 */
+	public static Set<Field> updateApp(CodewindApplication app, JSONObject appJso) {
+		return updateApp(app, appJso, null);
+	}
+	
+	/**
+	 * Update the application with the dynamic information in the JSON object.  If deferred
+	 * is not null then the update comes from the project list which is still being read,
+	 * so the log information request is added to it rather than run and re-enabling the
+	 * application does not refresh it.
 	 */
-	public static void updateApp(CodewindApplication app, JSONObject appJso) {
+	private static Set<Field> updateApp(CodewindApplication app, JSONObject appJso, List<Runnable> deferred) {
+		Set<Field> changes;
+		boolean requestLogs = false;
+		synchronized(app) {
+			app.beginChanges(deferred != null);
+			try {
+				requestLogs = updateAppState(app, appJso);
+			} finally {
+				changes = app.endChanges();
+			}
+		}
+		
+		// Request the log information outside of the monitor since it requires a round trip to Codewind
+		if (requestLogs) {
+			if (deferred == null) {
+				changes.addAll(updateLogInfos(app));
+			} else {
+				deferred.add(() -> updateApplicationIfChanged(app, updateLogInfos(app)));
+			}
+		}
+		return changes;
+	}
+	
+	private static Set<Field> updateLogInfos(CodewindApplication app) {
+		Set<Field> changes = new HashSet<Field>();
+		try {
+			// Set the log information
+			List<ProjectLogInfo> logInfos = app.connection.requestProjectLogs(app);
+			synchronized(app) {
+				app.beginChanges();
+				try {
+					app.setLogInfos(logInfos);
+				} finally {
+					changes.addAll(app.endChanges());
+				}
+			}
+		} catch (Exception e) {
+			Logger.logError("An error occurred while updating the log information for project: " + app.name, e);
+		}
+		return changes;
+	}
+	
+	/**
+	 * Update the application in the UI only if something changed.
+	 * 
+	 * @return True if the update was passed on, false if it was suppressed.
+	 */
+	public static boolean updateApplicationIfChanged(CodewindApplication app, Set<Field> changes) {
+		if (changes.isEmpty()) {
+			suppressedUpdates.incrementAndGet();
+			return false;
+		}
+		forwardedUpdates.incrementAndGet();
+		CoreUtil.updateApplication(app);
+		return true;
+	}
+	
+	public static long getForwardedUpdateCount() {
+		return forwardedUpdates.get();
+	}
+	
+	public static long getSuppressedUpdateCount() {
+		return suppressedUpdates.get();
+	}
+	
+	private static boolean updateAppState(CodewindApplication app, JSONObject appJso) {
 		try {
 			// Set the action
 			if (appJso.has(CoreConstants.KEY_ACTION)) {
@@ -146,7 +317,7 @@ public class CodewindApplicationFactory {
 				app.setAction(action);
 				if (CoreConstants.VALUE_ACTION_DELETING.equals(action)) {
 					// No point in updating any further since this app should be removed from the list
-					return;
+					return false;
 				}
 			} else {
 				app.setAction(null);
@@ -157,7 +328,7 @@ public class CodewindApplicationFactory {
 				String state = appJso.getString(CoreConstants.KEY_OPEN_STATE);
 				if (CoreConstants.VALUE_STATE_CLOSED.equals(state)) {
 					app.setEnabled(false);
-					return;
+					return false;
 				}
 			}
 			app.setEnabled(true);
@@ -308,14 +479,11 @@ public class CodewindApplicationFactory {
 		}
 		
 		try {
-			if (appJso.has(CoreConstants.KEY_LOGS) && appJso.getJSONObject(CoreConstants.KEY_LOGS).length() > 0) {
-				// Set the log information
-				List<ProjectLogInfo> logInfos = app.connection.requestProjectLogs(app);
-				app.setLogInfos(logInfos);
-			}
-		} catch (Exception e) {
+			return appJso.has(CoreConstants.KEY_LOGS) && appJso.getJSONObject(CoreConstants.KEY_LOGS).length() > 0;
+		} catch (JSONException e) {
 			Logger.logError("An error occurred while updating the log information for project: " + app.name, e);
 		}
+		return false;
 	}
 	
 	public static void setPorts(JSONObject appJso, CodewindApplication app) {
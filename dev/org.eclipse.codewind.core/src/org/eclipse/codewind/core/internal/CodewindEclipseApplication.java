@@ -12,8 +12,15 @@
 package org.eclipse.codewind.core.internal;
 
 import java.net.MalformedURLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.eclipse.codewind.core.CodewindCorePlugin;
 import org.eclipse.codewind.core.internal.connection.CodewindConnection;
@@ -28,6 +35,8 @@ import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IMarker;
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IWorkspace;
+import org.eclipse.core.resources.IWorkspaceRunnable;
 import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IPath;
@@ -66,24 +75,73 @@ public class CodewindEclipseApplication extends CodewindApplication {
 	// in seconds
 	public static final int DEFAULT_DEBUG_CONNECT_TIMEOUT = 180;
 	
-	// New consoles
-	private Set<SocketConsole> activeConsoles = new HashSet<SocketConsole>();
+	// New consoles, copy on write so the actions can check them without taking the application monitor
+	private final Set<SocketConsole> activeConsoles = new CopyOnWriteArraySet<SocketConsole>();
 	
 	// Debug launch, null if not debugging
-	private ILaunch launch = null;
-	private boolean debugPortNotify = false;
+	private volatile ILaunch launch = null;
+	private volatile boolean debugPortNotify = false;
+	
+	// Validation results waiting to be applied as markers, only the latest are kept
+	private final AtomicReference<List<ValidationResult>> pendingValidationResults = new AtomicReference<List<ValidationResult>>();
+	private final Job validationJob;
+
+	// Project relative folders waiting to be refreshed after a build, an empty path means the whole project
+	private final Set<IPath> pendingRefreshFolders = new HashSet<IPath>();
+	private final Job refreshJob;
 
 	CodewindEclipseApplication(CodewindConnection connection, String id, String name,
 			ProjectType projectType, ProjectLanguage language, IPath localPath)
 					throws MalformedURLException {
 		super(connection, id, name, projectType, language, localPath);
+		validationJob = new Job(NLS.bind(Messages.ValidationMarkersJobLabel, name)) {
+			@Override
+			protected IStatus run(IProgressMonitor monitor) {
+				List<ValidationResult> results = pendingValidationResults.getAndSet(null);
+				if (results != null) {
+					try {
+						updateValidationMarkers(results, monitor);
+					} catch (CoreException e) {
+						Logger.logError("Failed to update the validation markers for the " + name + " project.", e); //$NON-NLS-1$ //$NON-NLS-2$
+					}
+				}
+				return Status.OK_STATUS;
+			}
+		};
+		validationJob.setSystem(true);
+
+		refreshJob = new Job(NLS.bind(Messages.RefreshResourceJobLabel, name)) {
+			@Override
+			protected IStatus run(IProgressMonitor monitor) {
+				IProject project = ResourcesPlugin.getWorkspace().getRoot().getProject(CodewindEclipseApplication.this.name);
+				List<IPath> folders;
+				synchronized (pendingRefreshFolders) {
+					folders = new ArrayList<IPath>(pendingRefreshFolders);
+					pendingRefreshFolders.clear();
+				}
+				if (!project.isAccessible()) {
+					return Status.OK_STATUS;
+				}
+				try {
+					// Changes to the build output come from Codewind so they should not be synced back
+					connection.runRefresh(project, folders, getBuildOutputFolders(),
+							mon -> refreshFolders(project, folders, mon), monitor);
+					return Status.OK_STATUS;
+				} catch (Exception e) {
+					Logger.logError("An error occurred while refreshing the resource: " + project.getLocation()); //$NON-NLS-1$
+					return new Status(IStatus.ERROR, CodewindCorePlugin.PLUGIN_ID,
+							NLS.bind(Messages.RefreshResourceError, project.getLocation()), e);
+				}
+			}
+		};
+		refreshJob.setPriority(Job.LONG);
 	}
 	
-	public synchronized void addConsole(SocketConsole console) {
+	public void addConsole(SocketConsole console) {
 		activeConsoles.add(console);
 	}
 	
-	public synchronized SocketConsole getConsole(ProjectLogInfo logInfo) {
+	public SocketConsole getConsole(ProjectLogInfo logInfo) {
 		for (SocketConsole console : activeConsoles) {
 			if (console.logInfo.isThisLogInfo(logInfo)) {
 				return console;
@@ -92,21 +150,21 @@ public class CodewindEclipseApplication extends CodewindApplication {
 		return null;
 	}
 	
-	public synchronized void removeConsole(SocketConsole console) {
+	public void removeConsole(SocketConsole console) {
 		if (console != null) {
 			activeConsoles.remove(console);
 		}
 	}
 	
-	public synchronized void setLaunch(ILaunch launch) {
+	public void setLaunch(ILaunch launch) {
 		this.launch = launch;
 	}
 	
-	public synchronized ILaunch getLaunch() {
+	public ILaunch getLaunch() {
 		return launch;
 	}
 	
-	public synchronized void setDebugPortNotify(boolean value) {
+	public void setDebugPortNotify(boolean value) {
 		debugPortNotify = value;
 	}
 	
@@ -260,58 +318,84 @@ public class CodewindEclipseApplication extends CodewindApplication {
 	}
 	
 	@Override
-	public void resetValidation() {
-		// Delete all Codewind markers for a project
+	public void setValidationResults(List<ValidationResult> results) {
+		pendingValidationResults.set(results);
+		// Has no effect if the job is already waiting to run so only the latest results are applied
+		validationJob.schedule();
+	}
+	
+	/**
+	 * Update the validation markers for the project to match the results.  Markers that are
+	 * already there are left alone and only the added or removed markers are changed, all in
+	 * one workspace operation.
+	 */
+	public void updateValidationMarkers(List<ValidationResult> results, IProgressMonitor monitor) throws CoreException {
 		IProject project = ResourcesPlugin.getWorkspace().getRoot().getProject(name);
-		if (project != null && project.isAccessible()) {
-			try {
-				project.deleteMarkers(MARKER_TYPE, true, IResource.DEPTH_INFINITE);
-			} catch (CoreException e) {
-				Logger.logError("Failed to delete existing markers for the " + name + " project.", e); //$NON-NLS-1$
-			}
+		if (project == null || !project.isAccessible()) {
+			return;
 		}
+		IWorkspaceRunnable runnable = new IWorkspaceRunnable() {
+			@Override
+			public void run(IProgressMonitor mon) throws CoreException {
+				// Index the existing markers by resource, severity and message
+				Map<List<Object>, List<IMarker>> existing = new HashMap<List<Object>, List<IMarker>>();
+				for (IMarker marker : project.findMarkers(MARKER_TYPE, true, IResource.DEPTH_INFINITE)) {
+					List<Object> key = getMarkerKey(marker.getResource(), marker.getAttribute(IMarker.SEVERITY, -1), marker.getAttribute(IMarker.MESSAGE, null));
+					existing.computeIfAbsent(key, k -> new ArrayList<IMarker>()).add(marker);
+				}
+				
+				int added = 0;
+				for (ValidationResult result : results) {
+					// Create a marker on the specific file if there is one or the project if not
+					IResource resource = getMarkerResource(project, result.filePath);
+					int severity = result.isError ? IMarker.SEVERITY_ERROR : IMarker.SEVERITY_WARNING;
+					List<IMarker> matches = existing.get(getMarkerKey(resource, severity, result.message));
+					if (matches != null && !matches.isEmpty()) {
+						// Already there
+						matches.remove(matches.size() - 1);
+						continue;
+					}
+					IMarker marker = resource.createMarker(MARKER_TYPE);
+					marker.setAttributes(new String[] {IMarker.SEVERITY, IMarker.MESSAGE}, new Object[] {severity, result.message});
+//					if (result.quickFixId != null && !result.quickFixId.isEmpty()) {
+//						marker.setAttribute(CONNECTION_URL, connection.baseUrl.toString());
+//						marker.setAttribute(PROJECT_ID, projectID);
+//						marker.setAttribute(QUICK_FIX_ID, result.quickFixId);
+//						marker.setAttribute(QUICK_FIX_DESCRIPTION, result.quickFixDescription);
+//					}
+					added++;
+				}
+				
+				int removed = 0;
+				for (List<IMarker> markers : existing.values()) {
+					for (IMarker marker : markers) {
+						marker.delete();
+						removed++;
+					}
+				}
+				Logger.log("Updated the validation markers for the " + name + " project, added: " + added + ", removed: " + removed); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			}
+		};
+		ResourcesPlugin.getWorkspace().run(runnable, project, IWorkspace.AVOID_UPDATE, monitor);
 	}
 	
-	@Override
-	public void validationError(String filePath, String message, String quickFixId, String quickFixDescription) {
-		validationEvent(IMarker.SEVERITY_ERROR, filePath, message, quickFixId, quickFixDescription);
+	private static List<Object> getMarkerKey(IResource resource, int severity, String message) {
+		return Arrays.<Object>asList(resource, severity, message);
 	}
 	
-	@Override
-	public void validationWarning(String filePath, String message, String quickFixId, String quickFixDescription) {
-		validationEvent(IMarker.SEVERITY_WARNING, filePath, message, quickFixId, quickFixDescription);
+	private static IResource getMarkerResource(IProject project, String filePath) {
+		if (filePath != null && !filePath.isEmpty()) {
+			IPath path = new Path(filePath);
+			if (filePath.startsWith(project.getName())) {
+				path = path.removeFirstSegments(1);
+			}
+			IFile file = project.getFile(path);
+			if (file != null && file.exists()) {
+				return file;
+			}
+		}
+		return project;
 	}
-	
-    private void validationEvent(int severity, String filePath, String message, String quickFixId, String quickFixDescription) {
-        // Create a marker and quick fix (if available) on the specific file if there is one or the project if not.
-    	try {
-        	IProject project = ResourcesPlugin.getWorkspace().getRoot().getProject(name);
-        	if (project != null && project.isAccessible()) {
-	        	IResource resource = project;
-	        	if (filePath != null && !filePath.isEmpty()) {
-		        	IPath path = new Path(filePath);
-		        	if (filePath.startsWith(project.getName())) {
-		        		path = path.removeFirstSegments(1);
-		        	}
-		        	IFile file = project.getFile(path);
-		        	if (file != null && file.exists()) {
-		        		resource = file;
-		        	}
-	        	}
-	            final IMarker marker = resource.createMarker(MARKER_TYPE);
-	            marker.setAttribute(IMarker.SEVERITY, IMarker.SEVERITY_ERROR);
-	            marker.setAttribute(IMarker.MESSAGE, message);
-//	            if (quickFixId != null && !quickFixId.isEmpty()) {
-//	            	marker.setAttribute(CONNECTION_URL, connection.baseUrl.toString());
-//	            	marker.setAttribute(PROJECT_ID, projectID);
-//	            	marker.setAttribute(QUICK_FIX_ID, quickFixId);
-//	            	marker.setAttribute(QUICK_FIX_DESCRIPTION, quickFixDescription);
-//	            }
-        	}
-        } catch (CoreException e) {
-            Logger.logError("Failed to create a marker for the " + name + " application: " + message, e); //$NON-NLS-1$
-        }
-    }
 
 	public boolean canInitiateDebugSession() {
 		// Only supported for certain languages
@@ -325,23 +409,62 @@ public class CodewindEclipseApplication extends CodewindApplication {
 	@Override
 	public void buildComplete() {
 		IProject project = ResourcesPlugin.getWorkspace().getRoot().getProject(name);
-    	if (project != null && project.isAccessible()) {
-    		Job job = new Job(NLS.bind(Messages.RefreshResourceJobLabel, project.getName())) {
-				@Override
-				protected IStatus run(IProgressMonitor monitor) {
-					try {
-						project.refreshLocal(IResource.DEPTH_INFINITE, monitor);
-			            return Status.OK_STATUS;
-					} catch (Exception e) {
-						Logger.logError("An error occurred while refreshing the resource: " + project.getLocation()); //$NON-NLS-1$
-						return new Status(IStatus.ERROR, CodewindCorePlugin.PLUGIN_ID,
-								NLS.bind(Messages.RefreshResourceError, project.getLocation()), e);
-					}
+		if (project == null || !project.isAccessible()) {
+			return;
+		}
+		// Only refresh the folders that were changed and the build output rather than the whole project
+		synchronized (pendingRefreshFolders) {
+			pendingRefreshFolders.addAll(connection.takeRecentChanges(project));
+			pendingRefreshFolders.addAll(getBuildOutputFolders());
+		}
+		// Has no effect if the job is already waiting to run
+		refreshJob.schedule();
+	}
+
+	private List<IPath> getBuildOutputFolders() {
+		List<IPath> folders = new ArrayList<IPath>();
+		if (projectType == ProjectType.TYPE_LIBERTY || projectType == ProjectType.TYPE_SPRING || projectLanguage.isJava()) {
+			folders.add(new Path("target")); //$NON-NLS-1$
+		}
+		if (projectType == ProjectType.TYPE_SWIFT || projectLanguage.isSwift()) {
+			folders.add(new Path(".build")); //$NON-NLS-1$
+		}
+		return folders;
+	}
+
+	private void refreshFolders(IProject project, List<IPath> folders, IProgressMonitor monitor) throws CoreException {
+		if (folders.contains(Path.EMPTY)) {
+			project.refreshLocal(IResource.DEPTH_INFINITE, monitor);
+			return;
+		}
+		// Pick up new and deleted files and folders at the top level
+		project.refreshLocal(IResource.DEPTH_ONE, monitor);
+		for (IPath folder : folders) {
+			if (monitor != null && monitor.isCanceled()) {
+				return;
+			}
+			refreshFolder(project, folder, monitor);
+		}
+	}
+
+	private void refreshFolder(IProject project, IPath folder, IProgressMonitor monitor) throws CoreException {
+		// The folder may not be known to the workspace yet so refresh its parents one level at a time
+		for (int i = 1; i < folder.segmentCount(); i++) {
+			IContainer parent = project.getFolder(folder.uptoSegment(i));
+			if (!parent.exists()) {
+				parent.getParent().refreshLocal(IResource.DEPTH_ONE, monitor);
+				if (!parent.exists()) {
+					return;
 				}
-			};
-			job.setPriority(Job.LONG);
-			job.schedule();
-    	}
+			}
+		}
+		IContainer container = project.getFolder(folder);
+		if (!container.exists()) {
+			container.getParent().refreshLocal(IResource.DEPTH_ONE, monitor);
+		}
+		if (container.exists()) {
+			container.refreshLocal(IResource.DEPTH_INFINITE, monitor);
+		}
 	}
 
 	private void deleteProject() {
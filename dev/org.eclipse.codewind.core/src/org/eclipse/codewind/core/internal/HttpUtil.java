@@ -11,30 +11,45 @@
 
 package org.eclipse.codewind.core.internal;
 
-import java.io.DataOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
 import java.net.HttpURLConnection;
 import java.net.URI;
 import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.nio.charset.StandardCharsets;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
 
 import javax.net.ssl.HostnameVerifier;
-import javax.net.ssl.HttpsURLConnection;
 import javax.net.ssl.KeyManager;
 import javax.net.ssl.SSLContext;
 import javax.net.ssl.TrustManager;
 import javax.net.ssl.X509TrustManager;
 
 import org.json.JSONArray;
+import org.json.JSONException;
 import org.json.JSONObject;
 
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.ConnectionPool;
+import okhttp3.Headers;
 import okhttp3.MediaType;
 import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
 import okhttp3.Request;
 import okhttp3.RequestBody;
 import okhttp3.Response;
+import okhttp3.ResponseBody;
 
 /**
  * Static utilities to allow easy HTTP communication, and make diagnosing and handling errors a bit easier.
@@ -46,17 +61,57 @@ public class HttpUtil {
 	
 	public static final MediaType JSON = MediaType.parse("application/json; charset=utf-8");
 	
+	// Idle connections are kept alive so that repeated requests to the same Codewind do not pay
+	// for connection setup and the TLS handshake every time
+	private static final int MAX_IDLE_CONNECTIONS = 10;
+	private static final long KEEP_ALIVE_MINUTES = 5;
+	
+	private static final byte[] EMPTY_BODY = new byte[0];
+	
+	// Path segments that are project IDs or other generated IDs are collapsed in the latency statistics
+	private static final Pattern ID_SEGMENT = Pattern.compile("[0-9a-fA-F]{8}-[0-9a-fA-F-]{27,}|[0-9a-zA-Z]{20,}");
+	
 	public static final X509TrustManager trustManager;
 	public static final SSLContext sslContext;
 	public static final HostnameVerifier hostnameVerifier;
 	
+	// All clients are derived from the base client so they share the connection pool and dispatcher
+	private static final OkHttpClient baseClient;
+	private static final OkHttpClient trustAllClient;
+	private static final Map<String, OkHttpClient> clients = new ConcurrentHashMap<String, OkHttpClient>();
+	
+	private static final Map<String, LatencyHistogram> latencies = new ConcurrentHashMap<String, LatencyHistogram>();
+	
 	static {
 		trustManager = getTrustAllCertsManager();
 		sslContext = getTrustAllCertsContext(trustManager);
 		hostnameVerifier = getHostnameVerifier();
+		
+		List<Protocol> protocols = new ArrayList<Protocol>();
+		protocols.add(Protocol.HTTP_2);
+		protocols.add(Protocol.HTTP_1_1);
+		baseClient = new OkHttpClient.Builder()
+				.connectionPool(new ConnectionPool(MAX_IDLE_CONNECTIONS, KEEP_ALIVE_MINUTES, TimeUnit.MINUTES))
+				.protocols(protocols)
+				// HttpURLConnection does not follow redirects that change the protocol and
+				// callers rely on seeing the 302 when authentication fails
+				.followSslRedirects(false)
+				.build();
+		OkHttpClient.Builder builder = baseClient.newBuilder();
+		if (sslContext != null) {
+			builder.sslSocketFactory(sslContext.getSocketFactory(), trustManager).hostnameVerifier(hostnameVerifier);
+		}
+		trustAllClient = builder.build();
 	}
 	
 	private HttpUtil() {}
+	
+	/**
+	 * Reads the body of a good response directly from the connection.
+	 */
+	public interface ResponseReader {
+		void read(Reader reader) throws IOException, JSONException;
+	}
 
 	public static class HttpResult {
 		public final int responseCode;
@@ -99,17 +154,19 @@ public class HttpUtil {
 			}
 		}
 		
-		// HttpResult for OkHttp (used for PATCH)
+		// HttpResult for OkHttp
 		public HttpResult(URI uri, Response httpResponse) throws IOException {
 			responseCode = httpResponse.code();
 			isGoodResponse = responseCode > 199 && responseCode < 300;
 			
-			headerFields = null;
+			headerFields = isGoodResponse ? getHeaderFields(httpResponse.headers()) : null;
 
-			InputStream stream = httpResponse.body().byteStream();
 			String content = null;
-			if (stream != null) {
-				content = CoreUtil.readAllFromStream(stream);
+			try (ResponseBody body = httpResponse.body()) {
+				InputStream stream = body == null ? null : body.byteStream();
+				if (stream != null) {
+					content = CoreUtil.readAllFromStream(stream);
+				}
 			}
 			if (isGoodResponse) {
 				response = content;
@@ -125,6 +182,42 @@ public class HttpUtil {
 			}
 		}
 		
+		// HttpResult for OkHttp where a good response is passed to the reader instead of
+		// being stored, so response is always null
+		public HttpResult(URI uri, Response httpResponse, ResponseReader reader) throws IOException {
+			responseCode = httpResponse.code();
+			isGoodResponse = responseCode > 199 && responseCode < 300;
+			
+			headerFields = isGoodResponse ? getHeaderFields(httpResponse.headers()) : null;
+			response = null;
+
+			try (ResponseBody body = httpResponse.body()) {
+				if (!isGoodResponse) {
+					error = body == null ? null : body.string();
+					Logger.logError("Received bad response code " + responseCode + " from "
+							+ uri + " - Error:\n" + error);
+				} else {
+					error = null;
+					if (body != null) {
+						try (Reader bodyReader = new InputStreamReader(body.byteStream(), StandardCharsets.UTF_8)) {
+							reader.read(bodyReader);
+						} catch (JSONException e) {
+							throw new IOException("Failed to parse the response from " + uri, e); //$NON-NLS-1$
+						}
+					}
+				}
+			}
+		}
+		
+		private static Map<String, List<String>> getHeaderFields(Headers headers) {
+			// Header names are case insensitive
+			Map<String, List<String>> fields = new TreeMap<String, List<String>>(String.CASE_INSENSITIVE_ORDER);
+			for (String name : headers.names()) {
+				fields.put(name, headers.values(name));
+			}
+			return fields;
+		}
+		
 		public String getHeader(String key) {
 			if (headerFields == null) {
 				return null;
@@ -145,6 +238,21 @@ public class HttpUtil {
 		return sendRequest("GET", uri, auth, null);
 	}
 	
+	/**
+	 * Send a GET request and pass the body of a good response to the reader as it
+	 * is received rather than reading it into a string first.  Use this for
+	 * responses that can be large such as the project list.
+	 */
+	public static HttpResult get(URI uri, IAuthInfo auth, ResponseReader reader) throws IOException {
+		Call call = newCall("GET", uri, auth, null, DEFAULT_CONNECT_TIMEOUT_MS, DEFAULT_READ_TIMEOUT_MS);
+		long start = System.nanoTime();
+		try (Response response = call.execute()) {
+			return new HttpResult(uri, response, reader);
+		} finally {
+			recordLatency("GET", uri, start);
+		}
+	}
+	
 	public static HttpResult get(URI uri, IAuthInfo auth, int connectTimeoutMS, int readTimeoutMS) throws IOException {
 		return sendRequest("GET", uri, auth, null, connectTimeoutMS, readTimeoutMS);
 	}
@@ -190,55 +298,131 @@ public class HttpUtil {
 	}
 
 	public static HttpResult sendRequest(String method, URI uri, IAuthInfo auth, JSONObject payload, int connectTimeoutMS, int readTimeoutMS) throws IOException {
-		HttpURLConnection connection = null;
-		if (payload != null) {
-			Logger.log("Making a " + method + " request on " + uri + " with payload: " + payload.toString());
-		} else {
-			Logger.log("Making a " + method + " request on " + uri);
+		Call call = newCall(method, uri, auth, payload == null ? null : payload.toString(), connectTimeoutMS, readTimeoutMS);
+		long start = System.nanoTime();
+		try (Response response = call.execute()) {
+			return new HttpResult(uri, response);
+		} finally {
+			recordLatency(method, uri, start);
 		}
-
-		try {
-			connection = (HttpURLConnection) uri.toURL().openConnection();
-
-			connection.setRequestMethod(method);
-			connection.setConnectTimeout(connectTimeoutMS);
-			connection.setReadTimeout(readTimeoutMS);
-			addAuthorization(connection, auth);
-			
-			if (payload != null) {
-				connection.setRequestProperty("Content-Type", "application/json");
-				connection.setDoOutput(true);
+	}
+	
+	public static CompletableFuture<HttpResult> getAsync(URI uri, IAuthInfo auth) {
+		return sendRequestAsync("GET", uri, auth, null);
+	}
+	
+	public static CompletableFuture<HttpResult> postAsync(URI uri, IAuthInfo auth, JSONObject payload) {
+		return sendRequestAsync("POST", uri, auth, payload);
+	}
+	
+	public static CompletableFuture<HttpResult> putAsync(URI uri, IAuthInfo auth, JSONObject payload) {
+		return sendRequestAsync("PUT", uri, auth, payload);
+	}
+	
+	public static CompletableFuture<HttpResult> deleteAsync(URI uri, IAuthInfo auth) {
+		return sendRequestAsync("DELETE", uri, auth, null);
+	}
+	
+	public static CompletableFuture<HttpResult> sendRequestAsync(String method, URI uri, IAuthInfo auth, JSONObject payload) {
+		return sendRequestAsync(method, uri, auth, payload, DEFAULT_CONNECT_TIMEOUT_MS, DEFAULT_READ_TIMEOUT_MS);
+	}
 	
-				DataOutputStream payloadStream = new DataOutputStream(connection.getOutputStream());
-				payloadStream.write(payload.toString().getBytes());
+	/**
+	 * Send the request on the shared client's dispatcher threads.  The future is completed
+	 * with the result or completed exceptionally with the IOException.
+	 */
+	public static CompletableFuture<HttpResult> sendRequestAsync(String method, URI uri, IAuthInfo auth, JSONObject payload, int connectTimeoutMS, int readTimeoutMS) {
+		CompletableFuture<HttpResult> future = new CompletableFuture<HttpResult>();
+		Call call;
+		try {
+			call = newCall(method, uri, auth, payload == null ? null : payload.toString(), connectTimeoutMS, readTimeoutMS);
+		} catch (IOException e) {
+			future.completeExceptionally(e);
+			return future;
+		}
+		long start = System.nanoTime();
+		call.enqueue(new Callback() {
+			@Override
+			public void onFailure(Call call, IOException e) {
+				recordLatency(method, uri, start);
+				future.completeExceptionally(e);
 			}
 
-			return new HttpResult(connection);
-		} finally {
-			if (connection != null) {
-				connection.disconnect();
+			@Override
+			public void onResponse(Call call, Response response) {
+				try (Response r = response) {
+					future.complete(new HttpResult(uri, r));
+				} catch (Exception e) {
+					future.completeExceptionally(e);
+				} finally {
+					recordLatency(method, uri, start);
+				}
 			}
-		}
+		});
+		// Cancelling the future cancels the call
+		future.whenComplete((result, e) -> {
+			if (future.isCancelled()) {
+				call.cancel();
+			}
+		});
+		return future;
 	}
 	
-	private static void addAuthorization(HttpURLConnection connection, IAuthInfo auth) {
-		if (sslContext == null || auth == null || !auth.isValid() || !(connection instanceof HttpsURLConnection)) {
-			return;
+	private static Call newCall(String method, URI uri, IAuthInfo auth, String payload, int connectTimeoutMS, int readTimeoutMS) throws IOException {
+		if (payload != null) {
+			Logger.log("Making a " + method + " request on " + uri + " with payload: " + payload);
+		} else {
+			Logger.log("Making a " + method + " request on " + uri);
 		}
-		connection.setRequestProperty("Authorization", auth.getHttpAuthorization());
-		((HttpsURLConnection)connection).setSSLSocketFactory(sslContext.getSocketFactory());
-		((HttpsURLConnection)connection).setHostnameVerifier(hostnameVerifier);
+		
+		Request.Builder builder = new Request.Builder().url(uri.toURL());
+		boolean useAuth = sslContext != null && auth != null && auth.isValid() && "https".equalsIgnoreCase(uri.getScheme());
+		if (useAuth) {
+			builder.header("Authorization", auth.getHttpAuthorization());
+		}
+		
+		RequestBody body = null;
+		if (payload != null) {
+			body = RequestBody.create(JSON, payload);
+		} else if ("POST".equals(method) || "PUT".equals(method) || "PATCH".equals(method)) {
+			// OkHttp requires a body for these methods
+			body = RequestBody.create(null, EMPTY_BODY);
+		}
+		builder.method(method, body);
+		
+		return getClient(useAuth, connectTimeoutMS, readTimeoutMS).newCall(builder.build());
+	}
+	
+	private static OkHttpClient getClient(boolean trustAll, int connectTimeoutMS, int readTimeoutMS) {
+		String key = trustAll + ":" + connectTimeoutMS + ":" + readTimeoutMS;
+		return clients.computeIfAbsent(key, k -> (trustAll ? trustAllClient : baseClient).newBuilder()
+				.connectTimeout(connectTimeoutMS, TimeUnit.MILLISECONDS)
+				.readTimeout(readTimeoutMS, TimeUnit.MILLISECONDS)
+				.build());
+	}
+	
+	private static void recordLatency(String method, URI uri, long startNanos) {
+		String path = uri.getPath() == null ? "" : ID_SEGMENT.matcher(uri.getPath()).replaceAll("*");
+		String key = method + " " + path;
+		latencies.computeIfAbsent(key, k -> new LatencyHistogram()).record(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+	}
+	
+	/**
+	 * Get the request latency histograms keyed by method and endpoint path (with
+	 * any project IDs replaced by '*').
+	 */
+	public static Map<String, LatencyHistogram> getLatencyHistograms() {
+		return Collections.unmodifiableMap(latencies);
 	}
 
 	public static HttpResult patch(URI uri, JSONArray payload) throws IOException {
-		Logger.log("PATCH " + uri);
-		
-		// No PATCH for HttpURLConnection so use OkHttp
-		RequestBody body = RequestBody.create(JSON, payload.toString());
-		OkHttpClient client = new OkHttpClient();
-		Request request = new Request.Builder().url(uri.toURL()).patch(body).build();
-		Response response = client.newCall(request).execute();
-		return new HttpResult(uri, response);
+		Call call = newCall("PATCH", uri, null, payload.toString(), DEFAULT_CONNECT_TIMEOUT_MS, DEFAULT_READ_TIMEOUT_MS);
+		long start = System.nanoTime();
+		try (Response response = call.execute()) {
+			return new HttpResult(uri, response);
+		} finally {
+			recordLatency("PATCH", uri, start);
+		}
 	}
 	
 	private static X509TrustManager getTrustAllCertsManager() {
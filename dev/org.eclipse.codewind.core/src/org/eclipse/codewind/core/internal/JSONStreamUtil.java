@@ -0,0 +1,68 @@
+/*******************************************************************************
+ * Copyright (c) 2020 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.codewind.core.internal;
+
+import java.io.Reader;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.json.JSONTokener;
+
+/**
+ * Utilities for reading large JSON arrays one element at a time so that
+ * the whole response is never held as a string or a JSONArray.
+ */
+public class JSONStreamUtil {
+
+	public interface ObjectHandler {
+		void handle(JSONObject jso) throws JSONException;
+	}
+
+	private JSONStreamUtil() {}
+
+	/**
+	 * Read a JSON array of objects from the reader and pass each object to the
+	 * handler as soon as it has been parsed.
+	 *
+	 * @return the number of objects read
+	 * @throws JSONException if the content is not an array of objects
+	 */
+	public static int forEachObject(Reader reader, ObjectHandler handler) throws JSONException {
+		JSONTokener tokener = new JSONTokener(reader);
+		if (tokener.nextClean() != '[') {
+			throw tokener.syntaxError("A JSON array must start with '['"); //$NON-NLS-1$
+		}
+		if (tokener.nextClean() == ']') {
+			return 0;
+		}
+		tokener.back();
+
+		int count = 0;
+		while (true) {
+			Object value = tokener.nextValue();
+			if (!(value instanceof JSONObject)) {
+				throw tokener.syntaxError("Expected a JSON object but found: " + value); //$NON-NLS-1$
+			}
+			handler.handle((JSONObject) value);
+			count++;
+
+			switch (tokener.nextClean()) {
+				case ',':
+					break;
+				case ']':
+					return count;
+				default:
+					throw tokener.syntaxError("Expected a ',' or ']'"); //$NON-NLS-1$
+			}
+		}
+	}
+}
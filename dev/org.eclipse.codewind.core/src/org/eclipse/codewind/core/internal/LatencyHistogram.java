@@ -0,0 +1,81 @@
+/*******************************************************************************
+ * Copyright (c) 2020 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.codewind.core.internal;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock free histogram of latencies in milliseconds using fixed buckets.
+ */
+public class LatencyHistogram {
+	
+	// Upper bound (inclusive) of each bucket in milliseconds, the last bucket holds everything larger
+	private static final long[] BUCKETS = {1, 2, 5, 10, 20, 50, 100, 200, 500, 1000, 2000, 5000, 10000};
+	
+	private final AtomicLongArray counts = new AtomicLongArray(BUCKETS.length + 1);
+	private final AtomicLong total = new AtomicLong();
+	private final AtomicLong count = new AtomicLong();
+	private final AtomicLong max = new AtomicLong();
+	
+	public void record(long millis) {
+		int i = 0;
+		while (i < BUCKETS.length && millis > BUCKETS[i]) {
+			i++;
+		}
+		counts.incrementAndGet(i);
+		total.addAndGet(millis);
+		count.incrementAndGet();
+		long currentMax;
+		while (millis > (currentMax = max.get()) && !max.compareAndSet(currentMax, millis)) {
+			// Retry
+		}
+	}
+	
+	public long getCount() {
+		return count.get();
+	}
+	
+	public long getMax() {
+		return max.get();
+	}
+	
+	public double getMean() {
+		long n = count.get();
+		return n == 0 ? 0 : (double) total.get() / n;
+	}
+	
+	/**
+	 * Get an upper bound for the given percentile (0 - 100) based on the bucket boundaries.
+	 */
+	public long getPercentile(double percentile) {
+		long n = count.get();
+		if (n == 0) {
+			return 0;
+		}
+		long target = (long) Math.ceil(n * percentile / 100);
+		long seen = 0;
+		for (int i = 0; i < BUCKETS.length; i++) {
+			seen += counts.get(i);
+			if (seen >= target) {
+				return BUCKETS[i];
+			}
+		}
+		return max.get();
+	}
+	
+	@Override
+	public String toString() {
+		return String.format("count=%d mean=%.1fms p50=%dms p90=%dms p99=%dms max=%dms", //$NON-NLS-1$
+				getCount(), getMean(), getPercentile(50), getPercentile(90), getPercentile(99), getMax());
+	}
+}
@@ -11,9 +11,21 @@
 
 package org.eclipse.codewind.core.internal;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.UnsupportedEncodingException;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.codewind.core.internal.messages.Messages;
 import org.eclipse.core.runtime.IProgressMonitor;
@@ -21,6 +33,8 @@ import org.eclipse.core.runtime.SubMonitor;
 
 public class ProcessHelper {
 
+    private static final int BUFFER_SIZE = 8192;
+
     public static class ProcessResult {
         private final int exitValue;
         private final String sysOut;
@@ -55,84 +69,147 @@ public class ProcessHelper {
         }
     }
 
+    // Threads that drain the process output and wait for it to exit
+    private static final ExecutorService executor = Executors.newCachedThreadPool(new ThreadFactory() {
+        private final AtomicInteger count = new AtomicInteger();
+        @Override
+        public Thread newThread(Runnable r) {
+            Thread thread = new Thread(r, "Codewind Process Reader " + count.incrementAndGet()); //$NON-NLS-1$
+            thread.setDaemon(true);
+            return thread;
+        }
+    });
+
+    // How long to wait for the output streams to close after the process has exited.  They can
+    // stay open if the process started a child that inherited them.
+    private static final long OUTPUT_CLOSE_TIMEOUT_MS = 2000;
+
     /**
-     * Wait for the given process to finish, and return the exit value and output. Checks for status every
-     * <code>pollingDelay</code> ms, and terminates the process if it takes more than <code>timeout</code>
+     * Wait for the given process to finish, and return the exit value and output. The result is returned
+     * as soon as the process exits. The progress monitor is checked for cancellation every
+     * <code>pollingDelay</code> ms, and the process is terminated if it takes more than <code>timeout</code>
      * seconds. The progress monitor passed in must be <code>null</code> or already begun, and this method
      * will add <code>totalWork</code> to it's progress.
      * 
      * @param p the process to monitor
-     * @param pollingDelay the delay between polling the process, in ms
+     * @param pollingDelay the delay between checks of the progress monitor, in ms
      * @param timeout the process timeout, in seconds
      * @return the exit value
      * @throws IOException if the process fails to exit normally and cannot be terminated
      */
     public static ProcessResult waitForProcess(final Process p, int pollingDelay, int timeout, IProgressMonitor monitor) throws IOException, TimeoutException {
-        final int BUFFER_STEP = 1024;
-        byte[] buf = new byte[BUFFER_STEP];
-        InputStream in = null;
-        InputStream err = null;
-        StringBuilder inBuilder = new StringBuilder();
-        StringBuilder errBuilder = new StringBuilder();
-        int iter = timeout * 1000 / pollingDelay;
-        int work = 50;
-        SubMonitor mon = SubMonitor.convert(monitor, work);
+        CompletableFuture<ProcessResult> future = waitForProcessAsync(p);
         try {
-            in = p.getInputStream();
-            err = p.getErrorStream();
-            for (int i = 0; i < iter; i++) {
-                try {
-                    Thread.sleep(pollingDelay);
-                } catch (InterruptedException e) {
-                    // ignore
-                }
-
-                if (mon.isCanceled()) {
-                	p.destroy();
-                	return new ProcessResult(0, "", "");
-                }
-
-                mon.worked(1);
-                mon.setWorkRemaining(work);
-
-                // read data from the process
-                inBuilder.append(readInput(in, buf));
-                errBuilder.append(readInput(err, buf));
-
-                try {
-                    int exitValue = p.exitValue();
-
-                    // finish reading the data
-                    inBuilder.append(readInput(in, buf));
-                    errBuilder.append(readInput(err, buf));
-                    
-                    return new ProcessResult(exitValue, inBuilder.toString(), errBuilder.toString());
-                } catch (IllegalThreadStateException e) {
-                    // process has not terminated yet
-                }
+            ProcessResult result = waitForResult(future, pollingDelay, timeout, monitor);
+            if (result == null) {
+                future.cancel(true);
+                return new ProcessResult(0, "", "");
             }
-        } finally {
+            return result;
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw e;
+        }
+    }
+
+    /**
+     * Wait for the result of a process started with {@link #waitForProcessAsync(Process)}. The process
+     * is not terminated if the monitor is canceled or the timeout expires so that the caller can decide
+     * whether it should be (the process may be shared with other callers).
+     * 
+     * @return the result or <code>null</code> if the monitor was canceled
+     * @throws IOException if the process failed or was terminated by someone else
+     * @throws TimeoutException if the process did not complete within <code>timeout</code> seconds
+     */
+    public static ProcessResult waitForResult(CompletableFuture<ProcessResult> future, int pollingDelay, int timeout, IProgressMonitor monitor) throws IOException, TimeoutException {
+        int work = 50;
+        SubMonitor mon = SubMonitor.convert(monitor, work);
+        long deadline = System.currentTimeMillis() + timeout * 1000L;
+        long remaining;
+        while ((remaining = deadline - System.currentTimeMillis()) > 0) {
             try {
-                if (in != null)
-                    in.close();
-            } catch (Exception ex) {
+                return future.get(Math.min(pollingDelay, remaining), TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                // process has not terminated yet
+            } catch (InterruptedException e) {
                 // ignore
+            } catch (CancellationException e) {
+                // Only the owner of the process can cancel it so this is not a normal result
+                throw new IOException("The process was terminated before it completed", e); //$NON-NLS-1$
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                throw cause instanceof IOException ? (IOException) cause : new IOException(cause);
+            }
+
+            if (mon.isCanceled()) {
+                return null;
             }
-        }
 
-        p.destroy();
+            mon.worked(1);
+            mon.setWorkRemaining(work);
+        }
 
         throw new TimeoutException("Process did not complete and had to be terminated");
     }
-    
-    private static String readInput(InputStream stream, byte[] buffer) throws IOException {
-    	StringBuilder builder = new StringBuilder();
-    	int n = stream.available();
-        while (n > 0) {
-            int len = stream.read(buffer, 0, Math.min(n, buffer.length));
-            builder.append(new String(buffer, 0, len, "UTF-8"));
-            n = stream.available();
+
+    /**
+     * Read the output of the given process as it is produced and complete the returned future with
+     * the exit value and output once the process exits. Cancelling the future terminates the process.
+     */
+    public static CompletableFuture<ProcessResult> waitForProcessAsync(final Process p) {
+        // The output is drained continuously so the process never blocks on a full pipe
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final ByteArrayOutputStream err = new ByteArrayOutputStream();
+        final Future<?> outReader = executor.submit(() -> drain(p.getInputStream(), out));
+        final Future<?> errReader = executor.submit(() -> drain(p.getErrorStream(), err));
+
+        final CompletableFuture<ProcessResult> future = CompletableFuture.supplyAsync(() -> {
+            try {
+                int exitValue = p.waitFor();
+                waitForOutput(outReader);
+                waitForOutput(errReader);
+                return new ProcessResult(exitValue, toString(out), toString(err));
+            } catch (InterruptedException e) {
+                throw new CompletionException(e);
+            }
+        }, executor);
+
+        future.whenComplete((result, e) -> {
+            if (future.isCancelled()) {
+                p.destroy();
+            }
+        });
+        return future;
+    }
+
+    private static void drain(InputStream stream, ByteArrayOutputStream builder) {
+        byte[] buf = new byte[BUFFER_SIZE];
+        try (InputStream in = stream) {
+            int len;
+            while ((len = in.read(buf)) != -1) {
+                builder.write(buf, 0, len);
+            }
+        } catch (IOException e) {
+            // The stream is closed when the process is destroyed
+        }
+    }
+
+    private static void waitForOutput(Future<?> reader) throws InterruptedException {
+        try {
+            reader.get(OUTPUT_CLOSE_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // Use the output that has been read so far
+            Logger.log("The process output was not closed after the process exited"); //$NON-NLS-1$
+        } catch (ExecutionException e) {
+            Logger.logError("An error occurred reading the process output", e.getCause()); //$NON-NLS-1$
+        }
+    }
+
+    private static String toString(ByteArrayOutputStream builder) {
+        try {
+            return builder.toString("UTF-8"); //$NON-NLS-1$
+        } catch (UnsupportedEncodingException e) {
+            return builder.toString();
         }
-        return builder.toString();
     }
 }
\ No newline at end of file
@@ -0,0 +1,224 @@
+/*******************************************************************************
+ * Copyright (c) 2020 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.codewind.core.internal;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+import org.eclipse.codewind.core.internal.messages.Messages;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.MultiStatus;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.SubMonitor;
+import org.eclipse.osgi.util.NLS;
+
+/**
+ * Runs an operation, such as a build or restart request, on a number of applications.
+ * Up to MAX_PARALLEL applications are processed at the same time.  Progress is reported
+ * as the operations report it and the errors are collected into one status.
+ *
+ * Canceling the monitor stops any applications that have not started yet and cancels
+ * the monitors passed to the running operations.
+ * 
+ * Other operations on a number of projects, such as adding projects to a connection,
+ * use runAll to process the projects the same way.
+ */
+public class ProjectBatchOperation {
+
+	public static final int MAX_PARALLEL = 4;
+
+	// How often the progress monitor is checked for cancellation and progress while waiting
+	private static final long CANCEL_CHECK_MS = 200;
+
+	public interface Operation<T extends CodewindApplication> {
+		void run(T app, IProgressMonitor monitor) throws Exception;
+	}
+
+	public interface Task<T, R> {
+		/**
+		 * Run the task for the item.  The task should handle its own errors and check the monitor
+		 * before starting since it is canceled if the batch is canceled before the task runs.
+		 */
+		R run(T item, IProgressMonitor monitor);
+	}
+
+	private ProjectBatchOperation() {}
+
+	/**
+	 * Run the operation on each of the applications.
+	 *
+	 * @param errorMsg the message for an application that fails, {0} is the application name
+	 * @param multiErrorMsg the message for the status holding the errors when there is more than one application
+	 * @return OK if all of the operations succeeded, CANCEL if the monitor was canceled and
+	 * there were no errors, otherwise the error for a single application or a MultiStatus
+	 * with the errors for each application that failed
+	 */
+	public static <T extends CodewindApplication> IStatus run(List<T> apps, Operation<T> operation, String pluginId,
+			String errorMsg, String multiErrorMsg, IProgressMonitor monitor) {
+		List<IStatus> results = runAll(apps, app -> app.name, (app, mon) -> runOperation(app, operation, pluginId, errorMsg, mon), monitor);
+
+		boolean canceled = results.size() < apps.size();
+		List<IStatus> errors = new ArrayList<IStatus>();
+		for (IStatus status : results) {
+			if (status.getSeverity() == IStatus.ERROR) {
+				errors.add(status);
+			} else if (status.getSeverity() == IStatus.CANCEL) {
+				canceled = true;
+			}
+		}
+		if (errors.isEmpty()) {
+			return canceled ? Status.CANCEL_STATUS : Status.OK_STATUS;
+		}
+		if (apps.size() == 1) {
+			return errors.get(0);
+		}
+		return new MultiStatus(pluginId, 0, errors.toArray(new IStatus[errors.size()]), multiErrorMsg, null);
+	}
+
+	/**
+	 * Run the task for each of the items, up to MAX_PARALLEL at a time.  Each task gets its
+	 * own share of the monitor and the progress it reports moves the progress bar.  If the
+	 * thread is interrupted then the results of the tasks that had not finished are missing.
+	 *
+	 * @param nameFn gives the name of an item for the progress messages
+	 * @return the results in the order that the tasks finished
+	 */
+	public static <T, R> List<R> runAll(List<T> items, Function<T, String> nameFn, Task<T, R> task, IProgressMonitor monitor) {
+		SubMonitor mon = SubMonitor.convert(monitor, items.size());
+		List<R> results = new ArrayList<R>(items.size());
+		if (items.isEmpty()) {
+			return results;
+		}
+
+		AtomicBoolean canceled = new AtomicBoolean(false);
+		ExecutorService executor = Executors.newFixedThreadPool(Math.min(MAX_PARALLEL, items.size()), r -> {
+			Thread thread = new Thread(r, "Codewind Project Operation"); //$NON-NLS-1$
+			thread.setDaemon(true);
+			return thread;
+		});
+		CompletionService<R> completionService = new ExecutorCompletionService<R>(executor);
+		try {
+			Map<Future<R>, TaskMonitor> running = new HashMap<Future<R>, TaskMonitor>();
+			for (T item : items) {
+				TaskMonitor taskMonitor = new TaskMonitor(nameFn.apply(item), canceled);
+				running.put(completionService.submit(() -> task.run(item, taskMonitor)), taskMonitor);
+			}
+			double reported = 0;
+			while (!running.isEmpty()) {
+				// Tasks that have not started are skipped and the running ones see the canceled monitor
+				if (mon.isCanceled()) {
+					canceled.set(true);
+				}
+				Future<R> future = completionService.poll(CANCEL_CHECK_MS, TimeUnit.MILLISECONDS);
+				if (future != null) {
+					TaskMonitor finished = running.remove(future);
+					results.add(future.get());
+					mon.subTask(NLS.bind(Messages.BatchOperationProgress, new String[] {finished.name,
+							Integer.toString(results.size()), Integer.toString(items.size())}));
+				}
+				// The monitors of the tasks are updated on the task threads so report the
+				// progress from here since the monitor is not thread safe
+				double done = results.size();
+				for (TaskMonitor taskMonitor : running.values()) {
+					done += taskMonitor.getDone();
+				}
+				if (done > reported) {
+					mon.internalWorked(done - reported);
+					reported = done;
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			canceled.set(true);
+		} catch (ExecutionException e) {
+			// Should not happen since the tasks handle their own errors
+			Logger.logError("An unexpected error occurred running an operation on multiple projects", e); //$NON-NLS-1$
+			canceled.set(true);
+		} finally {
+			executor.shutdown();
+		}
+		return results;
+	}
+
+	private static <T extends CodewindApplication> IStatus runOperation(T app, Operation<T> operation, String pluginId,
+			String errorMsg, IProgressMonitor monitor) {
+		if (monitor.isCanceled()) {
+			return Status.CANCEL_STATUS;
+		}
+		try {
+			operation.run(app, monitor);
+			return monitor.isCanceled() ? Status.CANCEL_STATUS : Status.OK_STATUS;
+		} catch (Exception e) {
+			if (monitor.isCanceled()) {
+				return Status.CANCEL_STATUS;
+			}
+			String msg = NLS.bind(errorMsg, app.name);
+			Logger.logError(msg, e);
+			return new Status(IStatus.ERROR, pluginId, msg, e);
+		}
+	}
+
+	/**
+	 * The monitor for one task.  It is canceled when the batch is canceled and records the
+	 * fraction of the task that is done so that it can be reported on the batch monitor.
+	 */
+	private static class TaskMonitor extends NullProgressMonitor {
+		private final String name;
+		private final AtomicBoolean canceled;
+		private double totalWork = 0;
+		private double worked = 0;
+
+		private TaskMonitor(String name, AtomicBoolean canceled) {
+			this.name = name;
+			this.canceled = canceled;
+		}
+
+		@Override
+		public boolean isCanceled() {
+			return canceled.get();
+		}
+
+		@Override
+		public synchronized void beginTask(String name, int totalWork) {
+			if (this.totalWork == 0 && totalWork > 0) {
+				this.totalWork = totalWork;
+			}
+		}
+
+		@Override
+		public void worked(int work) {
+			internalWorked(work);
+		}
+
+		@Override
+		public synchronized void internalWorked(double work) {
+			worked += work;
+		}
+
+		private synchronized double getDone() {
+			return totalWork <= 0 ? 0 : Math.min(1, worked / totalWork);
+		}
+	}
+}
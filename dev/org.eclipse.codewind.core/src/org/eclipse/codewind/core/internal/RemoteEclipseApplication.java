@@ -34,7 +34,7 @@ public class RemoteEclipseApplication extends CodewindEclipseApplication {
 	
 	private static final String NOTIFY_PORT_FORWARD_TERMINATED_PREFSKEY = "portForwardTerminated";
 	
-	private PortForwardInfo debugPFInfo = null;
+	private volatile PortForwardInfo debugPFInfo = null;
 	
 	RemoteEclipseApplication(CodewindConnection connection, String id, String name,
 			ProjectType projectType, ProjectLanguage language, IPath localPath)
@@ -67,12 +67,13 @@ public class RemoteEclipseApplication extends CodewindEclipseApplication {
 	}
 	
 	@Override
-	public synchronized int getDebugConnectPort() {
-		return debugPFInfo == null ? -1 : debugPFInfo.localPort;
+	public int getDebugConnectPort() {
+		PortForwardInfo info = debugPFInfo;
+		return info == null ? -1 : info.localPort;
 	}
 
 	@Override
-	public synchronized String getDebugConnectHost() {
+	public String getDebugConnectHost() {
 		return "localhost";
 	}
 	
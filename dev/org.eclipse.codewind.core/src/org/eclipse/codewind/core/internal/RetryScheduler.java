@@ -0,0 +1,167 @@
+/*******************************************************************************
+ * Copyright (c) 2020 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.codewind.core.internal;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+
+/**
+ * Shared scheduler for probing whether a resource such as Codewind or a debug port is
+ * ready.  Probes are retried with a backoff rather than each caller sleeping in its own
+ * loop, and the returned future completes as soon as the probe succeeds.  The delays
+ * are timed on a small scheduler pool but the probes themselves run on a separate pool
+ * since they can block (for example on a cwctl call), so a slow probe does not hold
+ * up the retries of other callers.
+ */
+public class RetryScheduler {
+
+	public interface Probe<T> {
+		/**
+		 * @return the result if the resource is ready or <code>null</code> to try again
+		 */
+		T probe() throws Exception;
+	}
+
+	// How often a waiting caller checks its progress monitor for cancellation
+	private static final long CANCEL_CHECK_MS = 100;
+
+	// Only used to time the delays, must never run anything that blocks
+	private static final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(1, new ThreadFactory() {
+		@Override
+		public Thread newThread(Runnable runnable) {
+			Thread thread = new Thread(runnable, "Codewind Retry Scheduler"); //$NON-NLS-1$
+			thread.setDaemon(true);
+			return thread;
+		}
+	});
+
+	// Runs the probes, threads are created as needed and reused between attempts
+	private static final ExecutorService probeExecutor = Executors.newCachedThreadPool(new ThreadFactory() {
+		private final AtomicInteger count = new AtomicInteger();
+
+		@Override
+		public Thread newThread(Runnable runnable) {
+			Thread thread = new Thread(runnable, "Codewind Retry Probe " + count.incrementAndGet()); //$NON-NLS-1$
+			thread.setDaemon(true);
+			return thread;
+		}
+	});
+
+	private RetryScheduler() {}
+
+	/**
+	 * Run the probe straight away and then again after each delay until it returns a
+	 * result or the timeout expires.  The delay starts at <code>initialDelay</code> and
+	 * doubles up to <code>maxDelay</code>.  If the timeout expires the future completes
+	 * exceptionally with the last exception thrown by the probe, or a TimeoutException
+	 * if there was none.  Cancelling the future stops the retries.
+	 */
+	public static <T> CompletableFuture<T> schedule(Probe<T> probe, long initialDelay, long maxDelay, long timeout) {
+		return schedule(probe, initialDelay, maxDelay, timeout, null);
+	}
+
+	/**
+	 * As above but if the probe returns a result after the future was cancelled then the
+	 * result is passed to <code>discard</code> so that it can be cleaned up.
+	 */
+	public static <T> CompletableFuture<T> schedule(Probe<T> probe, long initialDelay, long maxDelay, long timeout, Consumer<T> discard) {
+		CompletableFuture<T> future = new CompletableFuture<T>();
+		long deadline = System.currentTimeMillis() + timeout;
+		probeExecutor.execute(() -> attempt(future, probe, initialDelay, maxDelay, deadline, null, discard));
+		return future;
+	}
+
+	private static <T> void attempt(CompletableFuture<T> future, Probe<T> probe, long delay, long maxDelay, long deadline, Exception lastException, Consumer<T> discard) {
+		if (future.isDone()) {
+			return;
+		}
+		Exception exception = lastException;
+		try {
+			T result = probe.probe();
+			if (result != null) {
+				if (!future.complete(result) && discard != null) {
+					discard.accept(result);
+				}
+				return;
+			}
+		} catch (Exception e) {
+			exception = e;
+		}
+
+		long remaining = deadline - System.currentTimeMillis();
+		if (remaining <= 0) {
+			future.completeExceptionally(exception != null ? exception : new TimeoutException());
+			return;
+		}
+		final Exception ex = exception;
+		scheduler.schedule(() -> probeExecutor.execute(() -> attempt(future, probe, Math.min(delay * 2, maxDelay), maxDelay, deadline, ex, discard)),
+				Math.min(delay, remaining), TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * Wait for the future to complete, returning as soon as it does.
+	 *
+	 * @return the result or <code>null</code> if the monitor was canceled.  The future is
+	 * not canceled since it may be shared, so callers that own it should cancel it.
+	 * @throws ExecutionException if the future completed exceptionally
+	 */
+	public static <T> T await(CompletableFuture<T> future, IProgressMonitor monitor) throws ExecutionException {
+		try {
+			return await(future, Long.MAX_VALUE, monitor);
+		} catch (TimeoutException e) {
+			// Cannot happen with no timeout
+			return null;
+		}
+	}
+
+	/**
+	 * Wait up to <code>timeout</code> ms for the future to complete, returning as soon as it does.
+	 *
+	 * @return the result or <code>null</code> if the monitor was canceled.  The future is
+	 * not canceled since it may be shared, so callers that own it should cancel it.
+	 * @throws ExecutionException if the future completed exceptionally
+	 * @throws TimeoutException if the future did not complete in time
+	 */
+	public static <T> T await(CompletableFuture<T> future, long timeout, IProgressMonitor monitor) throws ExecutionException, TimeoutException {
+		long start = System.currentTimeMillis();
+		while (true) {
+			long remaining = timeout - (System.currentTimeMillis() - start);
+			if (remaining <= 0) {
+				throw new TimeoutException();
+			}
+			try {
+				return future.get(Math.min(CANCEL_CHECK_MS, remaining), TimeUnit.MILLISECONDS);
+			} catch (TimeoutException e) {
+				// Not complete yet
+			} catch (CancellationException e) {
+				return null;
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return null;
+			}
+			if (monitor != null && monitor.isCanceled()) {
+				return null;
+			}
+		}
+	}
+}
@@ -56,6 +56,14 @@ public class AuthToken extends JSONObjectResult implements IAuthInfo {
 		return System.currentTimeMillis() > (expiryTime - EXPIRY_BUFFER);
 	}
 	
+	public boolean isExpired() {
+		Integer expiresInSeconds = getExpiresInSeconds();
+		if (expiresInSeconds == null) {
+			return false;
+		}
+		return System.currentTimeMillis() > createTimeMillis + (expiresInSeconds * 1000);
+	}
+	
 	public boolean recentlyCreated() {
 		return (createTimeMillis + CREATE_BUFFER) > System.currentTimeMillis();
 	}
@@ -70,24 +70,16 @@ public class AuthUtil {
 	
 	public static AuthToken getAuthToken(String username, String conid, IProgressMonitor monitor) throws IOException, JSONException, TimeoutException {
 		SubMonitor mon = SubMonitor.convert(monitor, Messages.AuthGetTaskLabel, 100);
-		Process process = null;
-		try {
-			process = CLIUtil.runCWCTL(CLIUtil.GLOBAL_INSECURE, SECTOKEN_GET_CMD, new String[] {USERNAME_OPTION, username, CLIUtil.CON_ID_OPTION, conid});
-			ProcessResult result = ProcessHelper.waitForProcess(process, 500, 60, mon.split(100));
-			if (result.getExitValue() != 0) {
-				Logger.logError("Sectoken get failed with rc: " + result.getExitValue() + " and error: " + result.getErrorMsg()); //$NON-NLS-1$ //$NON-NLS-2$
-				throw new IOException(result.getErrorMsg());
-			}
-			if (result.getOutput() == null || result.getOutput().trim().isEmpty()) {
-				// This should not happen
-				Logger.logError("Sectoken get had 0 return code but the output is empty"); //$NON-NLS-1$
-				throw new IOException("The output from sectoken get is empty."); //$NON-NLS-1$
-			}
-			return new AuthToken(new JSONObject(result.getOutput()));
-		} finally {
-			if (process != null && process.isAlive()) {
-				process.destroy();
-			}
+		ProcessResult result = CLIUtil.runQuery(CLIUtil.GLOBAL_INSECURE, SECTOKEN_GET_CMD, new String[] {USERNAME_OPTION, username, CLIUtil.CON_ID_OPTION, conid}, null, 60, mon.split(100));
+		if (result.getExitValue() != 0) {
+			Logger.logError("Sectoken get failed with rc: " + result.getExitValue() + " and error: " + result.getErrorMsg()); //$NON-NLS-1$ //$NON-NLS-2$
+			throw new IOException(result.getErrorMsg());
+		}
+		if (result.getOutput() == null || result.getOutput().trim().isEmpty()) {
+			// This should not happen
+			Logger.logError("Sectoken get had 0 return code but the output is empty"); //$NON-NLS-1$
+			throw new IOException("The output from sectoken get is empty."); //$NON-NLS-1$
 		}
+		return new AuthToken(new JSONObject(result.getOutput()));
 	}
 }
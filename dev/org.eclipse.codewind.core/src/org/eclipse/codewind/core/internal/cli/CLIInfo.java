@@ -16,7 +16,7 @@ import java.util.Map;
 import org.eclipse.codewind.core.internal.PlatformUtil.OperatingSystem;
 
 public class CLIInfo {
-	private String installPath = null;
+	private volatile String installPath = null;
 	private Map<OperatingSystem, String> osPathMap;
 	private String name = null;
 	
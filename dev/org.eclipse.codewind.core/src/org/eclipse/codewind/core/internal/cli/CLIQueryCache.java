@@ -0,0 +1,181 @@
+/*******************************************************************************
+ * Copyright (c) 2020 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.codewind.core.internal.cli;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.codewind.core.internal.Logger;
+import org.eclipse.codewind.core.internal.ProcessHelper.ProcessResult;
+import org.eclipse.codewind.core.internal.messages.Messages;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+
+/**
+ * Cache for the results of read only cwctl commands.  Entries are keyed by the full
+ * command line so results for different connections (--conid) are kept separately.
+ * Results that are older than the time to live but still within the stale limit are
+ * returned straight away and refreshed in the background.  Commands that change
+ * state must invalidate the results they affect.
+ */
+public class CLIQueryCache {
+
+	public static final long TEMPLATES_TTL_MS = 60 * 1000;
+	public static final long REGISTRY_TTL_MS = 60 * 1000;
+	public static final long LINKS_TTL_MS = 10 * 1000;
+	public static final long LOGLEVELS_TTL_MS = 30 * 1000;
+	public static final long MAX_STALE_MS = 10 * 60 * 1000;
+
+	private static class Entry {
+		final ProcessResult result;
+		final long timestamp;
+		final AtomicBoolean refreshing = new AtomicBoolean(false);
+
+		Entry(ProcessResult result) {
+			this.result = result;
+			this.timestamp = System.currentTimeMillis();
+		}
+	}
+
+	private static final Map<List<String>, Entry> entries = new ConcurrentHashMap<List<String>, Entry>();
+
+	// Incremented on every invalidation so that a query that was started before the
+	// invalidation does not put its out of date result in the cache
+	private static final AtomicLong generation = new AtomicLong();
+
+	private static final AtomicLong hits = new AtomicLong();
+	private static final AtomicLong staleHits = new AtomicLong();
+	private static final AtomicLong misses = new AtomicLong();
+
+	private CLIQueryCache() {}
+
+	/**
+	 * Get the result of a read only cwctl command from the cache or run the command if
+	 * there is no usable result.  Only successful results are cached.
+	 *
+	 * @param ttl how long a result is used without running the command again, in ms
+	 * @param maxStale how long after the ttl has expired a result is still returned while
+	 * it is refreshed in the background, in ms
+	 */
+	public static ProcessResult run(String[] globalOptions, String[] cmd, String[] options, String[] args, int timeout, long ttl, long maxStale, IProgressMonitor monitor) throws IOException, TimeoutException {
+		List<String> key = CLIUtil.getCWCTLCommandList(globalOptions, cmd, options, args);
+		Entry entry = entries.get(key);
+		if (entry != null) {
+			long age = System.currentTimeMillis() - entry.timestamp;
+			if (age < ttl) {
+				hits.incrementAndGet();
+				return entry.result;
+			}
+			if (age < ttl + maxStale) {
+				staleHits.incrementAndGet();
+				refresh(key, entry, globalOptions, cmd, options, args, timeout);
+				return entry.result;
+			}
+		}
+
+		misses.incrementAndGet();
+		long gen = generation.get();
+		ProcessResult result = CLIUtil.runQuery(globalOptions, cmd, options, args, timeout, monitor);
+		store(key, result, gen);
+		return result;
+	}
+
+	/**
+	 * Run a read only cwctl command without using a cached result, for callers that keep
+	 * their own copy of the result.  A successful result replaces the cached one.
+	 */
+	public static ProcessResult runUncached(String[] globalOptions, String[] cmd, String[] options, String[] args, int timeout, IProgressMonitor monitor) throws IOException, TimeoutException {
+		List<String> key = CLIUtil.getCWCTLCommandList(globalOptions, cmd, options, args);
+		long gen = generation.get();
+		ProcessResult result = CLIUtil.runQuery(globalOptions, cmd, options, args, timeout, monitor);
+		store(key, result, gen);
+		return result;
+	}
+
+	private static void refresh(List<String> key, Entry entry, String[] globalOptions, String[] cmd, String[] options, String[] args, int timeout) {
+		if (!entry.refreshing.compareAndSet(false, true)) {
+			// Already being refreshed
+			return;
+		}
+		final long gen = generation.get();
+		Job job = new Job(Messages.CLIQueryRefreshJobLabel) {
+			@Override
+			protected IStatus run(IProgressMonitor monitor) {
+				try {
+					store(key, CLIUtil.runQuery(globalOptions, cmd, options, args, timeout, monitor), gen);
+				} catch (Exception e) {
+					Logger.logError("An error occurred refreshing the result of the cwctl command: " + key, e); //$NON-NLS-1$
+				} finally {
+					entry.refreshing.set(false);
+				}
+				return Status.OK_STATUS;
+			}
+		};
+		job.setSystem(true);
+		job.schedule();
+	}
+
+	private static void store(List<String> key, ProcessResult result, long gen) {
+		if (!CLIUtil.isSuccessful(result)) {
+			return;
+		}
+		entries.put(key, new Entry(result));
+		if (generation.get() != gen) {
+			// Invalidated while the command was running
+			entries.remove(key);
+		}
+	}
+
+	/**
+	 * Remove the cached results for the given command.  If a value such as a connection id or
+	 * project id is passed then only results for commands that include it are removed.
+	 */
+	public static void invalidate(String[] cmd, String value) {
+		generation.incrementAndGet();
+		List<String> cmdList = Arrays.asList(cmd);
+		entries.keySet().removeIf(key -> Collections.indexOfSubList(key, cmdList) >= 0 && (value == null || key.contains(value)));
+	}
+
+	/**
+	 * Remove all cached results for the given connection.
+	 */
+	public static void invalidateConnection(String conid) {
+		generation.incrementAndGet();
+		entries.keySet().removeIf(key -> key.contains(conid));
+	}
+
+	public static void invalidateAll() {
+		generation.incrementAndGet();
+		entries.clear();
+	}
+
+	public static long getHitCount() {
+		return hits.get();
+	}
+
+	public static long getStaleHitCount() {
+		return staleHits.get();
+	}
+
+	public static long getMissCount() {
+		return misses.get();
+	}
+}
@@ -15,15 +15,24 @@ import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
+import java.net.URLConnection;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.nio.file.attribute.PosixFilePermission;
 import java.nio.file.attribute.PosixFilePermissions;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeoutException;
 
 import org.eclipse.codewind.core.CodewindCorePlugin;
 import org.eclipse.codewind.core.internal.CoreUtil;
@@ -31,8 +40,10 @@ import org.eclipse.codewind.core.internal.FileUtil;
 import org.eclipse.codewind.core.internal.Logger;
 import org.eclipse.codewind.core.internal.PlatformUtil;
 import org.eclipse.codewind.core.internal.PlatformUtil.OperatingSystem;
+import org.eclipse.codewind.core.internal.ProcessHelper;
 import org.eclipse.codewind.core.internal.ProcessHelper.ProcessResult;
 import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.IProgressMonitor;
 import org.json.JSONException;
 import org.json.JSONObject;
 
@@ -55,6 +66,7 @@ public class CLIUtil {
 	public static final String ERROR_DESCRIPTION_KEY = "error_description";
 		
 	private static final String INSTALLER_DIR = "installerWorkDir";
+	private static final String CHECKSUM_ALGORITHM = "SHA-256";
 	
 	private static final Map<OperatingSystem, String> cwctlMap = new HashMap<OperatingSystem, String>();
 	private static final Map<OperatingSystem, String> appsodyMap = new HashMap<OperatingSystem, String>();
@@ -76,12 +88,103 @@ public class CLIUtil {
 	
 	private static final CLIInfo[] cliInfos = {codewindInfo, appsodyInfo};
 	
+	// Read only commands that are currently running, keyed by the full command line.  Synchronize
+	// on the map before accessing it or the waiter count of a query.
+	private static final Map<List<String>, RunningQuery> runningQueries = new HashMap<List<String>, RunningQuery>();
+	
+	private static class RunningQuery {
+		// Cancelling the result terminates the process
+		final CompletableFuture<ProcessResult> result = new CompletableFuture<ProcessResult>();
+		int waiters = 0;
+	}
+	
 	public static Process runCWCTL(String[] globalOptions, String[] cmd, String[] options) throws IOException {
 		return runCWCTL(globalOptions, cmd, options, null);
 	}
 	
 	public static Process runCWCTL(String[] globalOptions, String[] cmd, String[] options, String[] args) throws IOException {
-		String[] command = getCWCTLCommand(globalOptions, cmd, options, args);
+		return startProcess(getCWCTLCommandList(globalOptions, cmd, options, args));
+	}
+	
+	/**
+	 * Run a cwctl command that only reads state and wait for the result.  If the same command
+	 * is already running then its result is shared rather than starting another process, so
+	 * several views or wizard pages asking for the same information at once cost a single fork.
+	 * A caller that times out or is canceled stops waiting, the process is only terminated once
+	 * no callers are waiting for it.  Commands that change state must use runCWCTL instead.
+	 * 
+	 * @return the result, or an empty result if the monitor was canceled
+	 */
+	public static ProcessResult runQuery(String[] globalOptions, String[] cmd, String[] options, String[] args, int timeout, IProgressMonitor monitor) throws IOException, TimeoutException {
+		final List<String> command = getCWCTLCommandList(globalOptions, cmd, options, args);
+		final RunningQuery query;
+		boolean start = false;
+		synchronized (runningQueries) {
+			RunningQuery running = runningQueries.get(command);
+			if (running == null) {
+				running = new RunningQuery();
+				runningQueries.put(command, running);
+				start = true;
+			}
+			running.waiters++;
+			query = running;
+		}
+		
+		try {
+			if (start) {
+				startQuery(command, query);
+			} else {
+				Logger.log("Using the result of the cwctl command that is already running: " + CoreUtil.formatString(cmd, " ")); //$NON-NLS-1$ //$NON-NLS-2$
+			}
+			ProcessResult result = ProcessHelper.waitForResult(query.result, 500, timeout, monitor);
+			// Only null if this caller's monitor was canceled
+			return result == null ? new ProcessResult(0, "", "") : result;
+		} finally {
+			leaveQuery(command, query);
+		}
+	}
+	
+	private static void startQuery(List<String> command, RunningQuery query) throws IOException {
+		CompletableFuture<ProcessResult> processFuture;
+		try {
+			processFuture = ProcessHelper.waitForProcessAsync(startProcess(command));
+		} catch (IOException e) {
+			synchronized (runningQueries) {
+				runningQueries.remove(command, query);
+			}
+			// Any other callers that joined in the meantime get the same error
+			query.result.completeExceptionally(e);
+			throw e;
+		}
+		processFuture.whenComplete((result, e) -> {
+			synchronized (runningQueries) {
+				runningQueries.remove(command, query);
+			}
+			if (e != null) {
+				query.result.completeExceptionally(e);
+			} else {
+				query.result.complete(result);
+			}
+		});
+		query.result.whenComplete((result, e) -> {
+			if (query.result.isCancelled()) {
+				processFuture.cancel(true);
+			}
+		});
+	}
+	
+	private static void leaveQuery(List<String> command, RunningQuery query) {
+		synchronized (runningQueries) {
+			if (--query.waiters > 0 || query.result.isDone()) {
+				return;
+			}
+			// Nobody is waiting for the result any more so a new caller starts a new process
+			runningQueries.remove(command, query);
+		}
+		query.result.cancel(true);
+	}
+	
+	private static Process startProcess(List<String> command) throws IOException {
 		ProcessBuilder builder = new ProcessBuilder(command);
 		if (PlatformUtil.getOS() == PlatformUtil.OperatingSystem.MAC) {
 			String pathVar = System.getenv("PATH");
@@ -93,10 +196,12 @@ public class CLIUtil {
 	}
 	
 	public static List<String> getCWCTLCommandList(String[] globalOptions, String[] cmd, String[] options, String[] args) throws IOException {
-		// Make sure the executables are installed
+		// Make sure the executables are installed.  cwctl runs appsody for some commands so
+		// it is installed alongside.  Once verified for the install version this does not
+		// touch the file system again.
 		for (int i=0; i< cliInfos.length; i++) {
 			if (cliInfos[i] != null)
-				cliInfos[i].setInstallPath(getCLIExecutable(cliInfos[i]));
+				getCLIExecutable(cliInfos[i]);
 		}
 		
 		List<String> cmdList = new ArrayList<String>();
@@ -126,11 +231,6 @@ public class CLIUtil {
 	}
 	
 	public static String getCLIExecutable(CLIInfo operation) throws IOException {
-		String installPath = operation.getInstallPath();
-		if (installPath != null && (new File(installPath).exists())) {
-			return installPath;
-		}
-
 		// Get the current platform and choose the correct executable path
 		OperatingSystem os = PlatformUtil.getOS(System.getProperty("os.name"));
 		
@@ -152,34 +252,103 @@ public class CLIUtil {
 		String installerDir = getCLIInstallDir();
 		String execName = relPath.substring(relPath.lastIndexOf('/') + 1);
 		String execPath = installerDir + File.separator + execName;
-				
-		// Make the installer directory
-		if (!FileUtil.makeDir(installerDir)) {
-			String msg = "Failed to make the directory for the installer utility: " + installerDir;
-			Logger.logError(msg);
-			throw new IOException(msg);
+		
+		// The install path is only set once the executable has been verified for the
+		// install version so if it matches there is nothing more to do
+		if (execPath.equals(operation.getInstallPath())) {
+			return execPath;
 		}
 		
-		// Copy the executable over
-		InputStream stream = null;
-		try {
+		synchronized (operation) {
+			if (execPath.equals(operation.getInstallPath())) {
+				return execPath;
+			}
+			
+			// Make the installer directory
+			if (!FileUtil.makeDir(installerDir)) {
+				String msg = "Failed to make the directory for the installer utility: " + installerDir;
+				Logger.logError(msg);
+				throw new IOException(msg);
+			}
+			
 			URL url = CodewindCorePlugin.getDefault().getBundle().getEntry(relPath);
-			stream = url.openStream();
-			FileUtil.copyFile(stream, execPath);
+			if (url == null) {
+				String msg = "Failed to find the executable in the bundle: " + relPath;
+				Logger.logError(msg);
+				throw new IOException(msg);
+			}
+			
+			Path target = Paths.get(execPath);
+			if (!isInstalled(url, target)) {
+				extractExecutable(url, target);
+			}
+			operation.setInstallPath(execPath);
+			return execPath;
+		}
+	}
+	
+	/**
+	 * Check if the executable at the target path is the same as the one in the
+	 * bundle by comparing the size and then the checksum.
+	 */
+	private static boolean isInstalled(URL url, Path target) {
+		try {
+			if (!Files.isRegularFile(target)) {
+				return false;
+			}
+			URLConnection connection = url.openConnection();
+			long size = connection.getContentLengthLong();
+			if (size >= 0 && size != Files.size(target)) {
+				connection.getInputStream().close();
+				return false;
+			}
+			byte[] expected;
+			try (InputStream stream = connection.getInputStream()) {
+				expected = checksum(stream);
+			}
+			byte[] actual;
+			try (InputStream stream = Files.newInputStream(target)) {
+				actual = checksum(stream);
+			}
+			return MessageDigest.isEqual(expected, actual);
+		} catch (Exception e) {
+			Logger.logError("Failed to verify the installed executable: " + target, e); //$NON-NLS-1$
+			return false;
+		}
+	}
+	
+	private static byte[] checksum(InputStream stream) throws IOException, NoSuchAlgorithmException {
+		MessageDigest digest = MessageDigest.getInstance(CHECKSUM_ALGORITHM);
+		byte[] buffer = new byte[8192];
+		int len;
+		while ((len = stream.read(buffer)) != -1) {
+			digest.update(buffer, 0, len);
+		}
+		return digest.digest();
+	}
+	
+	/**
+	 * Extract the executable from the bundle into a temporary file in the target directory
+	 * and then move it into place so that a partially written executable is never run.
+	 */
+	private static void extractExecutable(URL url, Path target) throws IOException {
+		Logger.log("Extracting the executable to: " + target); //$NON-NLS-1$
+		Path temp = Files.createTempFile(target.getParent(), target.getFileName().toString(), ".tmp"); //$NON-NLS-1$
+		try {
+			try (InputStream stream = url.openStream()) {
+				Files.copy(stream, temp, StandardCopyOption.REPLACE_EXISTING);
+			}
 			if (PlatformUtil.getOS() != PlatformUtil.OperatingSystem.WINDOWS) {
 				Set<PosixFilePermission> permissions = PosixFilePermissions.fromString("rwxr-xr-x");
-				File file = new File(execPath);
-				Files.setPosixFilePermissions(file.toPath(), permissions);
+				Files.setPosixFilePermissions(temp, permissions);
 			}
-			return execPath;
-		} finally {
-			if (stream != null) {
-				try {
-					stream.close();
-				} catch (IOException e) {
-					// Ignore
-				}
+			try {
+				Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			} catch (AtomicMoveNotSupportedException e) {
+				Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
 			}
+		} finally {
+			Files.deleteIfExists(temp);
 		}
 	}
 	
@@ -192,6 +361,23 @@ public class CLIUtil {
 		return stateLoc.append(INSTALLER_DIR).toOSString();
 	}
 	
+	/**
+	 * Check if the command succeeded and produced output without running the full
+	 * checks or logging anything.
+	 */
+	static boolean isSuccessful(ProcessResult result) {
+		if (result.getExitValue() != 0 || result.getOutput() == null || result.getOutput().isEmpty()) {
+			return false;
+		}
+		try {
+			JSONObject obj = new JSONObject(result.getOutput());
+			return !(obj.has(ERROR_KEY) && obj.has(ERROR_DESCRIPTION_KEY));
+		} catch (JSONException e) {
+			// Not an error object
+			return true;
+		}
+	}
+	
 	public static void checkResult(String[] command, ProcessResult result, boolean checkOutput) throws IOException {
 		// Check for json error output (may still get a 0 return code in this case). If it is in the expected format
 		// then use this for the error message, otherwise fall back to using the system error if not empty or the
@@ -242,6 +428,12 @@ public class CLIUtil {
 			return;
 		}
 		File cwctlFolder = userHome.append(CODEWIND_STORE_DIR).append(version).toFile();
+		for (CLIInfo info : cliInfos) {
+			String installPath = info.getInstallPath();
+			if (installPath != null && installPath.startsWith(cwctlFolder.getAbsolutePath())) {
+				info.setInstallPath(null);
+			}
+		}
 		if (!cwctlFolder.exists() || !cwctlFolder.isDirectory()) {
 			return;
 		}
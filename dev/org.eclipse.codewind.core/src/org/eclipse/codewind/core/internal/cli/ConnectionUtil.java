@@ -37,7 +37,8 @@ public class ConnectionUtil {
 	private static final String ID_KEY = "id";
 	
 	public static List<ConnectionInfo> listConnections(IProgressMonitor monitor) throws IOException, JSONException, TimeoutException {
-		ProcessResult result = runConnectionCmd(LIST_CMD, null, null, true, monitor);
+		ProcessResult result = CLIUtil.runQuery(CLIUtil.GLOBAL_JSON_INSECURE, LIST_CMD, null, null, 60, monitor);
+		CLIUtil.checkResult(LIST_CMD, result, true);
 		JSONObject resultJson = new JSONObject(result.getOutput());
 		return ConnectionInfo.getInfos(resultJson);
 	}
@@ -49,11 +50,19 @@ public class ConnectionUtil {
 	}
 	
 	public static void removeConnection(String conid, IProgressMonitor monitor) throws IOException, JSONException, TimeoutException {
-		runConnectionCmd(REMOVE_CMD, new String[] {CLIUtil.CON_ID_OPTION, conid}, null, false, monitor);
+		try {
+			runConnectionCmd(REMOVE_CMD, new String[] {CLIUtil.CON_ID_OPTION, conid}, null, false, monitor);
+		} finally {
+			CLIQueryCache.invalidateConnection(conid);
+		}
 	}
 	
 	public static void updateConnection(String conid, String name, String url, String username, IProgressMonitor monitor) throws IOException, JSONException, TimeoutException {
-		runConnectionCmd(UPDATE_CMD, new String[] {CLIUtil.CON_ID_OPTION, conid, LABEL_OPTION, name, URL_OPTION, url, USERNAME_OPTION, username}, null, false, monitor);
+		try {
+			runConnectionCmd(UPDATE_CMD, new String[] {CLIUtil.CON_ID_OPTION, conid, LABEL_OPTION, name, URL_OPTION, url, USERNAME_OPTION, username}, null, false, monitor);
+		} finally {
+			CLIQueryCache.invalidateConnection(conid);
+		}
 	}
 	
 	private static ProcessResult runConnectionCmd(String[] command, String[] options, String[] args, boolean checkOutput, IProgressMonitor monitor) throws IOException, JSONException, TimeoutException {
@@ -71,18 +71,10 @@ public class InstallUtil {
 	
 	public static InstallStatus getInstallStatus(IProgressMonitor monitor) throws IOException, JSONException, TimeoutException {
 		SubMonitor mon = SubMonitor.convert(monitor, Messages.CodewindStatusJobLabel, 100);
-		Process process = null;
-		try {
-			process = CLIUtil.runCWCTL(CLIUtil.GLOBAL_JSON, STATUS_CMD, null);
-			ProcessResult result = ProcessHelper.waitForProcess(process, 500, 120, mon);
-			CLIUtil.checkResult(STATUS_CMD, result, true);
-			JSONObject status = new JSONObject(result.getOutput());
-			return new InstallStatus(status);
-		} finally {
-			if (process != null && process.isAlive()) {
-				process.destroy();
-			}
-		}
+		ProcessResult result = CLIUtil.runQuery(CLIUtil.GLOBAL_JSON, STATUS_CMD, null, null, 120, mon);
+		CLIUtil.checkResult(STATUS_CMD, result, true);
+		JSONObject status = new JSONObject(result.getOutput());
+		return new InstallStatus(status);
 	}
 	
 	public static ProcessResult startCodewind(String version, IProgressMonitor monitor) throws IOException, TimeoutException {
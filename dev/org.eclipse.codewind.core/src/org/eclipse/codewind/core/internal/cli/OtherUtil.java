@@ -46,18 +46,10 @@ public class OtherUtil {
 	
 	public static LogLevels getLoglevels(String connectionName, String conid, IProgressMonitor monitor) throws IOException, JSONException, TimeoutException {
 		SubMonitor mon = SubMonitor.convert(monitor, NLS.bind(Messages.FetchLogLevelsTaskLabel, connectionName), 100);
-		Process process = null;
-		try {
-			process = CLIUtil.runCWCTL(CLIUtil.GLOBAL_JSON_INSECURE, LOGLEVELS_CMD, new String[] {CLIUtil.CON_ID_OPTION, conid});
-			ProcessResult result = ProcessHelper.waitForProcess(process, 500, 300, mon);
-			CLIUtil.checkResult(LOGLEVELS_CMD, result, true);
-			JSONObject resultJson = new JSONObject(result.getOutput());
-			return new LogLevels(resultJson);
-		} finally {
-			if (process != null && process.isAlive()) {
-				process.destroy();
-			}
-		}
+		ProcessResult result = CLIQueryCache.run(CLIUtil.GLOBAL_JSON_INSECURE, LOGLEVELS_CMD, new String[] {CLIUtil.CON_ID_OPTION, conid}, null, 300, CLIQueryCache.LOGLEVELS_TTL_MS, CLIQueryCache.MAX_STALE_MS, mon);
+		CLIUtil.checkResult(LOGLEVELS_CMD, result, true);
+		JSONObject resultJson = new JSONObject(result.getOutput());
+		return new LogLevels(resultJson);
 	}
 	
 	public static void setLoglevels(String connectionName, String level, String conid, IProgressMonitor monitor) throws IOException, JSONException, TimeoutException {
@@ -78,6 +70,7 @@ public class OtherUtil {
 			if (process != null && process.isAlive()) {
 				process.destroy();
 			}
+			CLIQueryCache.invalidate(LOGLEVELS_CMD, conid);
 		}
 	}
 	
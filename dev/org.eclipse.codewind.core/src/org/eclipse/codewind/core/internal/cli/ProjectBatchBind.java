@@ -0,0 +1,211 @@
+/*******************************************************************************
+ * Copyright (c) 2020 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.codewind.core.internal.cli;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeoutException;
+
+import org.eclipse.codewind.core.internal.CodewindApplication;
+import org.eclipse.codewind.core.internal.Logger;
+import org.eclipse.codewind.core.internal.ProjectBatchOperation;
+import org.eclipse.codewind.core.internal.connection.CodewindConnection;
+import org.eclipse.codewind.core.internal.constants.ProjectInfo;
+import org.eclipse.codewind.core.internal.messages.Messages;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.SubMonitor;
+import org.eclipse.osgi.util.NLS;
+
+/**
+ * Adds a number of projects to a connection.  Each project is validated and bound
+ * by its own cwctl processes and the projects are processed in parallel by
+ * ProjectBatchOperation.  The application list of the connection is refreshed once,
+ * after all of the projects are done.
+ *
+ * The projects can also be validated first with validateProjects so that the
+ * detected types can be checked before any of the projects are added.
+ */
+public class ProjectBatchBind {
+
+	public static class BindRequest {
+		public final String name;
+		public final String path;
+		public final String language;
+		public final String projectType;
+		public final String typeHint;
+
+		/**
+		 * Bind the project using the language and type detected by validating it.
+		 */
+		public BindRequest(String name, String path) {
+			this(name, path, null, null, null);
+		}
+
+		/**
+		 * Bind the project with the given language and type.  If there is a type hint then
+		 * the project is validated with it first so that any extension commands for the
+		 * type and subtype are run.
+		 */
+		public BindRequest(String name, String path, String language, String projectType, String typeHint) {
+			this.name = name;
+			this.path = path;
+			this.language = language;
+			this.projectType = projectType;
+			this.typeHint = typeHint;
+		}
+	}
+
+	public static class BindResult {
+		public final BindRequest request;
+		public final Exception error;
+		public final boolean canceled;
+
+		private BindResult(BindRequest request, Exception error, boolean canceled) {
+			this.request = request;
+			this.error = error;
+			this.canceled = canceled;
+		}
+
+		public boolean isOK() {
+			return error == null && !canceled;
+		}
+
+		public boolean isTimeout() {
+			return error instanceof TimeoutException;
+		}
+	}
+
+	public static class ValidateResult {
+		public final BindRequest request;
+		public final ProjectInfo info;
+		public final Exception error;
+		public final boolean canceled;
+
+		private ValidateResult(BindRequest request, ProjectInfo info, Exception error, boolean canceled) {
+			this.request = request;
+			this.info = info;
+			this.error = error;
+			this.canceled = canceled;
+		}
+
+		public boolean isOK() {
+			return info != null && !canceled;
+		}
+
+		/**
+		 * A request to bind the project with the detected language and type.
+		 */
+		public BindRequest getBindRequest() {
+			return new BindRequest(request.name, request.path, info.language.getId(), info.type.getId(), null);
+		}
+	}
+
+	private ProjectBatchBind() {}
+
+	/**
+	 * Validate the projects to detect their language and type so that the caller can check
+	 * them before binding.  Nothing is added to the connection.
+	 *
+	 * @return the results in the order that the projects finished
+	 */
+	public static List<ValidateResult> validateProjects(CodewindConnection connection, List<BindRequest> requests, IProgressMonitor monitor) {
+		return ProjectBatchOperation.runAll(requests, request -> request.name,
+				(request, taskMonitor) -> validate(connection, request, taskMonitor), monitor);
+	}
+
+	/**
+	 * Validate and bind the projects.  Projects that time out or are canceled part way
+	 * through are removed from the connection again.
+	 *
+	 * @return the results in the order that the projects finished
+	 */
+	public static List<BindResult> bindProjects(CodewindConnection connection, List<BindRequest> requests, IProgressMonitor monitor) {
+		SubMonitor mon = SubMonitor.convert(monitor, NLS.bind(Messages.BatchBindTaskLabel, connection.getName()), requests.size() * 10 + 10);
+		if (requests.isEmpty()) {
+			return new ArrayList<BindResult>(0);
+		}
+
+		List<BindResult> results = ProjectBatchOperation.runAll(requests, request -> request.name,
+				(request, taskMonitor) -> bind(connection, request, taskMonitor), mon.newChild(requests.size() * 10));
+
+		// One refresh for all of the projects
+		connection.refreshApps(null);
+		mon.worked(5);
+
+		for (BindResult result : results) {
+			if (result.canceled || result.isTimeout()) {
+				cleanup(connection, result.request.name);
+			}
+		}
+		mon.worked(5);
+
+		return results;
+	}
+
+	private static ValidateResult validate(CodewindConnection connection, BindRequest request, IProgressMonitor monitor) {
+		if (monitor.isCanceled()) {
+			return new ValidateResult(request, null, null, true);
+		}
+		try {
+			ProjectInfo info = ProjectUtil.validateProject(request.name, request.path, request.typeHint, connection.getConid(), monitor);
+			return new ValidateResult(request, info, null, monitor.isCanceled());
+		} catch (Exception e) {
+			if (monitor.isCanceled()) {
+				return new ValidateResult(request, null, null, true);
+			}
+			Logger.logError("An error occurred trying to validate the " + request.name + " project for connection: " + connection.getName(), e); //$NON-NLS-1$ //$NON-NLS-2$
+			return new ValidateResult(request, null, e, false);
+		}
+	}
+
+	private static BindResult bind(CodewindConnection connection, BindRequest request, IProgressMonitor monitor) {
+		SubMonitor mon = SubMonitor.convert(monitor, 100);
+		if (mon.isCanceled()) {
+			return new BindResult(request, null, true);
+		}
+		try {
+			String language = request.language;
+			String projectType = request.projectType;
+			if (language == null || projectType == null) {
+				ProjectInfo info = ProjectUtil.validateProject(request.name, request.path, null, connection.getConid(), mon.newChild(40));
+				language = info.language.getId();
+				projectType = info.type.getId();
+			} else if (request.typeHint != null) {
+				ProjectUtil.validateProject(request.name, request.path, request.typeHint, connection.getConid(), mon.newChild(40));
+			}
+			if (mon.isCanceled()) {
+				return new BindResult(request, null, true);
+			}
+			mon.setWorkRemaining(60);
+			ProjectUtil.bindProject(request.name, request.path, language, projectType, connection.getConid(), mon.newChild(60));
+			return new BindResult(request, null, mon.isCanceled());
+		} catch (Exception e) {
+			if (mon.isCanceled()) {
+				return new BindResult(request, null, true);
+			}
+			Logger.logError("An error occurred trying to add the " + request.name + " project to connection: " + connection.getName(), e); //$NON-NLS-1$ //$NON-NLS-2$
+			return new BindResult(request, e, false);
+		}
+	}
+
+	private static void cleanup(CodewindConnection connection, String name) {
+		CodewindApplication app = connection.getAppByName(name);
+		if (app != null) {
+			try {
+				ProjectUtil.removeProject(app.name, app.projectID, new NullProgressMonitor());
+			} catch (Exception e) {
+				Logger.logError("An error occurred while trying to remove the project after bind project terminated for: " + name, e); //$NON-NLS-1$
+			}
+		}
+	}
+}
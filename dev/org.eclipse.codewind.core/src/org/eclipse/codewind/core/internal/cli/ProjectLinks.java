@@ -74,4 +74,9 @@ public class ProjectLinks {
 		return links.stream().filter(link -> conn.getAppByID(link.getProjectId()) == null).collect(Collectors.toList());
 	}
 
+	@Override
+	public String toString() {
+		return links.toString();
+	}
+
 }
@@ -162,17 +162,9 @@ public class ProjectUtil {
 	
 	public static ProjectLinks getLinks(String name, String projectId, IProgressMonitor monitor) throws IOException, JSONException, TimeoutException {
 		SubMonitor mon = SubMonitor.convert(monitor, NLS.bind(Messages.GetProjectLinksTaskLabel, name), 100);
-		Process process = null;
-		try {
-			process = CLIUtil.runCWCTL(CLIUtil.GLOBAL_JSON_INSECURE, LINK_LIST_CMD, new String[] {PROJECT_ID_OPTION, projectId});
-			ProcessResult result = ProcessHelper.waitForProcess(process, 500, 300, mon);
-			CLIUtil.checkResult(LINK_LIST_CMD, result, true);
-			return new ProjectLinks(new JSONArray(result.getOutput()));
-		} finally {
-			if (process != null && process.isAlive()) {
-				process.destroy();
-			}
-		}
+		ProcessResult result = CLIQueryCache.run(CLIUtil.GLOBAL_JSON_INSECURE, LINK_LIST_CMD, new String[] {PROJECT_ID_OPTION, projectId}, null, 300, CLIQueryCache.LINKS_TTL_MS, 0, mon);
+		CLIUtil.checkResult(LINK_LIST_CMD, result, true);
+		return new ProjectLinks(new JSONArray(result.getOutput()));
 	}
 	
 	public static void createLink(String name, String projectId, String targetName, String targetId, String env, IProgressMonitor monitor) throws IOException, TimeoutException {
@@ -186,6 +178,7 @@ public class ProjectUtil {
 			if (process != null && process.isAlive()) {
 				process.destroy();
 			}
+			CLIQueryCache.invalidate(LINK_LIST_CMD, projectId);
 		}
 	}
 	
@@ -200,6 +193,7 @@ public class ProjectUtil {
 			if (process != null && process.isAlive()) {
 				process.destroy();
 			}
+			CLIQueryCache.invalidate(LINK_LIST_CMD, projectId);
 		}
 	}
 	
@@ -214,6 +208,7 @@ public class ProjectUtil {
 			if (process != null && process.isAlive()) {
 				process.destroy();
 			}
+			CLIQueryCache.invalidate(LINK_LIST_CMD, projectId);
 		}
 	}
 }
@@ -37,33 +37,25 @@ public class RegistryUtil {
 
 	public static List<RegistryInfo> listRegistrySecrets(String conid, IProgressMonitor monitor) throws IOException, JSONException, TimeoutException {
 		SubMonitor mon = SubMonitor.convert(monitor, 100);
-		Process process = null;
-		try {
-			process = CLIUtil.runCWCTL(CLIUtil.GLOBAL_JSON_INSECURE, REG_SECRET_LIST_CMD, new String[] {CLIUtil.CON_ID_OPTION, conid});
-			ProcessResult result = ProcessHelper.waitForProcess(process, 500, 60, mon.split(100));
-			CLIUtil.checkResult(REG_SECRET_LIST_CMD, result, true);
-			JSONArray registryArray = new JSONArray(result.getOutput().trim());
-			List<RegistryInfo> registries = new ArrayList<RegistryInfo>();
-			for (int i = 0; i < registryArray.length(); i++) {
-				registries.add(new RegistryInfo(registryArray.getJSONObject(i)));
-			}
-			return registries;
-		} finally {
-			if (process != null && process.isAlive()) {
-				process.destroy();
-			}
+		ProcessResult result = CLIQueryCache.run(CLIUtil.GLOBAL_JSON_INSECURE, REG_SECRET_LIST_CMD, new String[] {CLIUtil.CON_ID_OPTION, conid}, null, 60, CLIQueryCache.REGISTRY_TTL_MS, CLIQueryCache.MAX_STALE_MS, mon.split(100));
+		CLIUtil.checkResult(REG_SECRET_LIST_CMD, result, true);
+		JSONArray registryArray = new JSONArray(result.getOutput().trim());
+		List<RegistryInfo> registries = new ArrayList<RegistryInfo>();
+		for (int i = 0; i < registryArray.length(); i++) {
+			registries.add(new RegistryInfo(registryArray.getJSONObject(i)));
 		}
+		return registries;
 	}
 	
 	public static void addRegistrySecret(String address, String username, String password, String conid, IProgressMonitor monitor) throws IOException, JSONException, TimeoutException {
-		runRegistrySecretCmd(REG_SECRET_ADD_CMD, new String[] {ADDRESS_OPTION, address, USERNAME_OPTION, username, PASSWORD_OPTION, password, CLIUtil.CON_ID_OPTION, conid}, null, monitor);
+		runRegistrySecretCmd(REG_SECRET_ADD_CMD, new String[] {ADDRESS_OPTION, address, USERNAME_OPTION, username, PASSWORD_OPTION, password, CLIUtil.CON_ID_OPTION, conid}, null, conid, monitor);
 	}
 	
 	public static void removeRegistrySecret(String address, String conid, IProgressMonitor monitor) throws IOException, JSONException, TimeoutException {
-		runRegistrySecretCmd(REG_SECRET_REMOVE_CMD, new String[] {ADDRESS_OPTION, address, CLIUtil.CON_ID_OPTION, conid}, null, monitor);
+		runRegistrySecretCmd(REG_SECRET_REMOVE_CMD, new String[] {ADDRESS_OPTION, address, CLIUtil.CON_ID_OPTION, conid}, null, conid, monitor);
 	}
 	
-	private static void runRegistrySecretCmd(String[] command, String[] options, String[] args, IProgressMonitor monitor) throws IOException, JSONException, TimeoutException {
+	private static void runRegistrySecretCmd(String[] command, String[] options, String[] args, String conid, IProgressMonitor monitor) throws IOException, JSONException, TimeoutException {
 		SubMonitor mon = SubMonitor.convert(monitor, 100);
 		Process process = null;
 		try {
@@ -74,6 +66,7 @@ public class RegistryUtil {
 			if (process != null && process.isAlive()) {
 				process.destroy();
 			}
+			CLIQueryCache.invalidate(new String[] {REGISTRYSECRETS_CMD}, conid);
 		}
 	}
 }
@@ -12,12 +12,16 @@
 package org.eclipse.codewind.core.internal.cli;
 
 import java.io.IOException;
+import java.io.StringReader;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.TimeoutException;
 
+import org.eclipse.codewind.core.internal.JSONStreamUtil;
 import org.eclipse.codewind.core.internal.ProcessHelper;
 import org.eclipse.codewind.core.internal.ProcessHelper.ProcessResult;
+import org.eclipse.codewind.core.internal.connection.CodewindConnection;
+import org.eclipse.codewind.core.internal.connection.CodewindConnectionManager;
 import org.eclipse.codewind.core.internal.connection.ProjectTemplateInfo;
 import org.eclipse.codewind.core.internal.connection.RepositoryInfo;
 import org.eclipse.core.runtime.IProgressMonitor;
@@ -46,44 +50,47 @@ public class TemplateUtil {
 	private static final String PERSONAL_ACCESS_TOKEN_OPTION = "--personalAccessToken";
 
 	public static List<ProjectTemplateInfo> listTemplates(boolean enabledOnly, String conid, IProgressMonitor monitor) throws IOException, JSONException, TimeoutException {
+		return listTemplates(enabledOnly, conid, true, monitor);
+	}
+	
+	/**
+	 * List the templates.  Callers that keep their own copy of the list should pass
+	 * false for useCache so that the result is not older than the cached one.
+	 */
+	public static List<ProjectTemplateInfo> listTemplates(boolean enabledOnly, String conid, boolean useCache, IProgressMonitor monitor) throws IOException, JSONException, TimeoutException {
 		SubMonitor mon = SubMonitor.convert(monitor, 100);
-		Process process = null;
 		String[] options = enabledOnly ? new String[] {ENABLED_ONLY_OPTION, CLIUtil.CON_ID_OPTION, conid} : new String[] {CLIUtil.CON_ID_OPTION, conid};
-		try {
-			process = CLIUtil.runCWCTL(CLIUtil.GLOBAL_JSON_INSECURE, LIST_CMD, options);
-			ProcessResult result = ProcessHelper.waitForProcess(process, 500, 60, mon);
-			CLIUtil.checkResult(LIST_CMD, result, true);
-			JSONArray templateArray = new JSONArray(result.getOutput().trim());
-			List<ProjectTemplateInfo> templates = new ArrayList<ProjectTemplateInfo>();
-			for (int i = 0; i < templateArray.length(); i++) {
-				templates.add(new ProjectTemplateInfo(templateArray.getJSONObject(i)));
-			}
-			return templates;
-		} finally {
-			if (process != null && process.isAlive()) {
-				process.destroy();
-			}
-		}
+		ProcessResult result = useCache ?
+				CLIQueryCache.run(CLIUtil.GLOBAL_JSON_INSECURE, LIST_CMD, options, null, 60, CLIQueryCache.TEMPLATES_TTL_MS, CLIQueryCache.MAX_STALE_MS, mon) :
+				CLIQueryCache.runUncached(CLIUtil.GLOBAL_JSON_INSECURE, LIST_CMD, options, null, 60, mon);
+		CLIUtil.checkResult(LIST_CMD, result, true);
+		// Map each template as it is parsed rather than building the whole array first
+		List<ProjectTemplateInfo> templates = new ArrayList<ProjectTemplateInfo>();
+		JSONStreamUtil.forEachObject(new StringReader(result.getOutput()), jso -> templates.add(new ProjectTemplateInfo(jso)));
+		return templates;
 	}
 	
 	public static List<RepositoryInfo> listTemplateSources(String conid, IProgressMonitor monitor) throws IOException, JSONException, TimeoutException {
+		return listTemplateSources(conid, true, monitor);
+	}
+	
+	/**
+	 * List the template sources.  Callers that keep their own copy of the list should
+	 * pass false for useCache so that the result is not older than the cached one.
+	 */
+	public static List<RepositoryInfo> listTemplateSources(String conid, boolean useCache, IProgressMonitor monitor) throws IOException, JSONException, TimeoutException {
 		SubMonitor mon = SubMonitor.convert(monitor, 100);
-		Process process = null;
-		try {
-			process = CLIUtil.runCWCTL(CLIUtil.GLOBAL_JSON_INSECURE, REPO_LIST_CMD, new String[] {CLIUtil.CON_ID_OPTION, conid});
-			ProcessResult result = ProcessHelper.waitForProcess(process, 500, 60, mon);
-			CLIUtil.checkResult(REPO_LIST_CMD, result, true);
-			JSONArray repoArray = new JSONArray(result.getOutput());
-			List<RepositoryInfo> repos = new ArrayList<RepositoryInfo>();
-			for (int i = 0; i < repoArray.length(); i++) {
-				repos.add(new RepositoryInfo(repoArray.getJSONObject(i)));
-			}
-			return repos;
-		} finally {
-			if (process != null && process.isAlive()) {
-				process.destroy();
-			}
+		String[] options = new String[] {CLIUtil.CON_ID_OPTION, conid};
+		ProcessResult result = useCache ?
+				CLIQueryCache.run(CLIUtil.GLOBAL_JSON_INSECURE, REPO_LIST_CMD, options, null, 60, CLIQueryCache.TEMPLATES_TTL_MS, CLIQueryCache.MAX_STALE_MS, mon) :
+				CLIQueryCache.runUncached(CLIUtil.GLOBAL_JSON_INSECURE, REPO_LIST_CMD, options, null, 60, mon);
+		CLIUtil.checkResult(REPO_LIST_CMD, result, true);
+		JSONArray repoArray = new JSONArray(result.getOutput());
+		List<RepositoryInfo> repos = new ArrayList<RepositoryInfo>();
+		for (int i = 0; i < repoArray.length(); i++) {
+			repos.add(new RepositoryInfo(repoArray.getJSONObject(i)));
 		}
+		return repos;
 	}
 	
 	public static void addTemplateSource(String url, String username, String password, String accessToken, String name, String description, String conid, IProgressMonitor monitor) throws IOException, JSONException, TimeoutException {
@@ -105,19 +112,19 @@ public class TemplateUtil {
 		options.add(description);
 		options.add(CLIUtil.CON_ID_OPTION);
 		options.add(conid);
-		runTemplateSourceCmd(REPO_ADD_CMD, options.toArray(new String[options.size()]), null, monitor);
+		runTemplateSourceCmd(REPO_ADD_CMD, options.toArray(new String[options.size()]), null, conid, monitor);
 	}
 	
 	public static void removeTemplateSource(String url, String conid, IProgressMonitor monitor) throws IOException, JSONException, TimeoutException {
-		runTemplateSourceCmd(REPO_REMOVE_CMD, new String[] {URL_OPTION, url, CLIUtil.CON_ID_OPTION, conid}, null, monitor);
+		runTemplateSourceCmd(REPO_REMOVE_CMD, new String[] {URL_OPTION, url, CLIUtil.CON_ID_OPTION, conid}, null, conid, monitor);
 	}
 	
 	public static void enableTemplateSource(boolean enable, String url, String conid, IProgressMonitor monitor) throws IOException, JSONException, TimeoutException {
 		String[] cmd = enable ? REPO_ENABLE_CMD : REPO_DISABLE_CMD;
-		runTemplateSourceCmd(cmd, new String[] {CLIUtil.CON_ID_OPTION, conid}, new String[] {url}, monitor);
+		runTemplateSourceCmd(cmd, new String[] {CLIUtil.CON_ID_OPTION, conid}, new String[] {url}, conid, monitor);
 	}
 	
-	private static void runTemplateSourceCmd(String[] command, String[] options, String[] args, IProgressMonitor monitor) throws IOException, JSONException, TimeoutException {
+	private static void runTemplateSourceCmd(String[] command, String[] options, String[] args, String conid, IProgressMonitor monitor) throws IOException, JSONException, TimeoutException {
 		SubMonitor mon = SubMonitor.convert(monitor, 100);
 		Process process = null;
 		try {
@@ -128,6 +135,12 @@ public class TemplateUtil {
 			if (process != null && process.isAlive()) {
 				process.destroy();
 			}
+			// The template sources and the templates they provide have changed
+			CLIQueryCache.invalidate(new String[] {TEMPLATES_CMD}, conid);
+			CodewindConnection connection = CodewindConnectionManager.getConnectionById(conid);
+			if (connection != null) {
+				connection.getCatalog().invalidate();
+			}
 		}
 	}
 }
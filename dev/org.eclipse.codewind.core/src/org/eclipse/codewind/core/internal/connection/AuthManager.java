@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019 IBM Corporation and others.
+ * Copyright (c) 2019, 2020 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -12,9 +12,13 @@
 package org.eclipse.codewind.core.internal.connection;
 
 import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeoutException;
 
 import org.eclipse.codewind.core.internal.Logger;
+import org.eclipse.codewind.core.internal.RetryScheduler;
 import org.eclipse.codewind.core.internal.cli.AuthToken;
 import org.eclipse.codewind.core.internal.cli.AuthUtil;
 import org.eclipse.codewind.filewatchers.core.FWAuthToken;
@@ -25,52 +29,160 @@ import org.json.JSONException;
 
 public class AuthManager implements IAuthTokenProvider {
 	
+	// Longer than the cwctl timeout for getting a token so the refresh normally finishes first
+	private static final long TOKEN_WAIT_TIMEOUT_MS = 90 * 1000;
+	
+	// After a failed refresh wait before trying again, doubling up to the maximum
+	private static final long MIN_FAILURE_BACKOFF_MS = 2 * 1000;
+	private static final long MAX_FAILURE_BACKOFF_MS = 60 * 1000;
+	
 	private final CodewindConnection connection;
-	private AuthToken token;
+	private volatile AuthToken token;
+	
+	// The refresh that is in progress, shared by everyone waiting for a new token
+	private CompletableFuture<AuthToken> refresh;
+	
+	// The last failed refresh and when the next one is allowed, synchronize on this before accessing
+	private CompletableFuture<AuthToken> failedRefresh;
+	private long nextRefreshTime = 0;
+	private long failureBackoff = 0;
 	
 	AuthManager(CodewindConnection connection, AuthToken token) {
 		this.connection = connection;
 		this.token = token;
 	}
 	
+	/**
+	 * Get the token.  Only blocks if there is no usable token or an update is
+	 * requested.  If the token is about to expire then it is still returned and
+	 * a new one is requested in the background.
+	 */
 	AuthToken getToken(boolean update, IProgressMonitor monitor) throws IOException, JSONException  {
-		boolean needsUpdate = token == null || token.aboutToExpire() || update;
-		if (needsUpdate) {
-			updateToken(monitor);
+		AuthToken current = token;
+		if (current == null || current.isExpired() || update) {
+			return waitForToken(refreshToken(), monitor);
+		}
+		if (current.aboutToExpire()) {
+			updateTokenNonBlocking();
+		}
+		return current;
+	}
+	
+	/**
+	 * Get the token without blocking.  If there is no usable token or an update is
+	 * requested then the future completes when the shared refresh does.
+	 */
+	CompletableFuture<AuthToken> getTokenAsync(boolean update) {
+		AuthToken current = token;
+		if (current == null || current.isExpired() || update) {
+			return refreshToken();
 		}
-		return token;
+		if (current.aboutToExpire()) {
+			updateTokenNonBlocking();
+		}
+		return CompletableFuture.completedFuture(current);
 	}
 	
 	synchronized void setToken(AuthToken token) {
 		this.token = token;
 	}
 	
-	synchronized void updateToken(IProgressMonitor monitor) throws IOException, JSONException {
-		if (token != null && token.recentlyCreated()) {
+	void updateToken(IProgressMonitor monitor) throws IOException, JSONException {
+		waitForToken(refreshToken(), monitor);
+	}
+	
+	/**
+	 * Start a refresh of the token if one is not already in progress and return
+	 * the future for it.  If the last refresh failed recently then its failure is
+	 * returned rather than starting another cwctl process straight away.
+	 */
+	synchronized CompletableFuture<AuthToken> refreshToken() {
+		if (refresh != null) {
+			return refresh;
+		}
+		AuthToken current = token;
+		if (current != null && current.recentlyCreated()) {
+			return CompletableFuture.completedFuture(current);
+		}
+		if (failedRefresh != null && System.currentTimeMillis() < nextRefreshTime) {
+			return failedRefresh;
+		}
+		final CompletableFuture<AuthToken> future = new CompletableFuture<AuthToken>();
+		refresh = future;
+		Thread thread = new Thread(() -> {
+			try {
+				AuthToken newToken = AuthUtil.getAuthToken(connection.getUsername(), connection.getConid(), new NullProgressMonitor());
+				setToken(newToken);
+				refreshDone(future, null);
+				future.complete(newToken);
+			} catch (TimeoutException e) {
+				IOException error = new IOException("Timed out trying to update the token for connection: " + connection.getName());
+				refreshDone(future, error);
+				future.completeExceptionally(error);
+			} catch (Exception e) {
+				refreshDone(future, e);
+				future.completeExceptionally(e);
+			}
+		}, "Codewind Token Refresh"); //$NON-NLS-1$
+		thread.setDaemon(true);
+		thread.start();
+		return future;
+	}
+	
+	private synchronized void refreshDone(CompletableFuture<AuthToken> future, Exception error) {
+		refresh = null;
+		if (error == null) {
+			failedRefresh = null;
+			failureBackoff = 0;
 			return;
 		}
+		failureBackoff = failureBackoff == 0 ? MIN_FAILURE_BACKOFF_MS : Math.min(failureBackoff * 2, MAX_FAILURE_BACKOFF_MS);
+		nextRefreshTime = System.currentTimeMillis() + failureBackoff;
+		failedRefresh = new CompletableFuture<AuthToken>();
+		failedRefresh.completeExceptionally(error);
+	}
+	
+	private AuthToken waitForToken(CompletableFuture<AuthToken> future, IProgressMonitor monitor) throws IOException, JSONException {
 		try {
-			token = AuthUtil.getAuthToken(connection.getUsername(), connection.getConid(), monitor);
+			AuthToken result = RetryScheduler.await(future, TOKEN_WAIT_TIMEOUT_MS, monitor);
+			if (result == null) {
+				// The refresh is shared so it is left running for anyone else waiting
+				throw new InterruptedIOException("Canceled waiting for the token for connection: " + connection.getName());
+			}
+			return result;
 		} catch (TimeoutException e) {
-			throw new IOException("Timed out trying to update the token for connection: " + connection.getName());
+			throw new IOException("Timed out waiting for the token for connection: " + connection.getName(), e);
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof IOException) {
+				throw (IOException) cause;
+			}
+			if (cause instanceof JSONException) {
+				throw (JSONException) cause;
+			}
+			throw new IOException("Failed to update the token for connection: " + connection.getName(), cause);
 		}
 	}
 	 
 	AuthToken getTokenNonBlocking() {
-		return token;
+		AuthToken current = token;
+		if (current != null && current.aboutToExpire()) {
+			updateTokenNonBlocking();
+		}
+		return current;
 	}
 	
 	void updateTokenNonBlocking() {
-		Runnable runnable = () -> {
-			try {
-				updateToken(new NullProgressMonitor());
-			} catch (Exception e) {
+		CompletableFuture<AuthToken> future = refreshToken();
+		if (future.isCompletedExceptionally()) {
+			// Waiting before trying again after a failure that has already been logged
+			return;
+		}
+		future.whenComplete((newToken, e) -> {
+			if (e != null) {
 				Logger.logError("An error occurred trying to update the token for connection: " + connection.getName(), e);
 			}
-		};
-		Thread thread = new Thread(runnable);
-		thread.setDaemon(true);
-		thread.run();
+		});
 	}
 
 	@Override
@@ -13,34 +13,57 @@ package org.eclipse.codewind.core.internal.connection;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
 import java.net.ConnectException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.eclipse.codewind.core.internal.CodewindApplication;
 import org.eclipse.codewind.core.internal.CodewindApplicationFactory;
+import org.eclipse.codewind.core.internal.CodewindApplicationFactory.ProjectList;
 import org.eclipse.codewind.core.internal.CoreUtil;
 import org.eclipse.codewind.core.internal.FileUtil;
 import org.eclipse.codewind.core.internal.HttpUtil;
 import org.eclipse.codewind.core.internal.HttpUtil.HttpResult;
+import org.eclipse.codewind.core.internal.HttpUtil.ResponseReader;
+import org.eclipse.codewind.core.internal.JSONStreamUtil;
 import org.eclipse.codewind.core.internal.Logger;
+import org.eclipse.codewind.core.internal.RetryScheduler;
 import org.eclipse.codewind.core.internal.cli.AuthToken;
 import org.eclipse.codewind.core.internal.cli.CLIUtil;
 import org.eclipse.codewind.core.internal.cli.InstallUtil;
+import org.eclipse.codewind.core.internal.cli.ProjectLinks;
+import org.eclipse.codewind.core.internal.cli.ProjectLinks.LinkInfo;
 import org.eclipse.codewind.core.internal.connection.ConnectionEnv.TektonDashboard;
+import org.eclipse.codewind.core.internal.connection.ConnectionSnapshot.AppEntry;
 import org.eclipse.codewind.core.internal.console.ProjectLogInfo;
 import org.eclipse.codewind.core.internal.constants.CoreConstants;
+import org.eclipse.codewind.core.internal.constants.ProjectCapabilities;
 import org.eclipse.codewind.core.internal.messages.Messages;
 import org.eclipse.codewind.filewatchers.eclipse.CodewindFilewatcherdConnection;
 import org.eclipse.codewind.filewatchers.eclipse.ICodewindProjectTranslator;
 import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IWorkspace;
+import org.eclipse.core.resources.IWorkspaceRunnable;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.NullProgressMonitor;
@@ -57,6 +80,10 @@ public class CodewindConnection {
 
 	public static final String CODEWIND_WORKSPACE_PROPERTY = "org.eclipse.codewind.internal.workspace"; //$NON-NLS-1$
 
+	private static final long READY_INITIAL_DELAY_MS = 100;
+	private static final long READY_MAX_DELAY_MS = 1000;
+	private static final long READY_TIMEOUT_MS = 10000;
+
 	private String name;
 	private URI baseUri;
 	private String conid;
@@ -68,7 +95,29 @@ public class CodewindConnection {
 	
 	private volatile boolean isConnected = false;
 
-	private Map<String, CodewindApplication> appMap = new LinkedHashMap<String, CodewindApplication>();
+	/**
+	 * The order the applications are shown in: by name ignoring case, then by project ID
+	 * so that no two applications are equal.
+	 */
+	public static final Comparator<CodewindApplication> APP_ORDER = Comparator
+			.comparing((CodewindApplication app) -> app.name, String.CASE_INSENSITIVE_ORDER)
+			.thenComparing(app -> app.name)
+			.thenComparing(app -> app.projectID);
+
+	// The application indexes are copy-on-write so that lookups (which happen for every resource
+	// change through the filewatcher translator) never need a lock.  Writers synchronize on appLock.
+	private final Object appLock = new Object();
+	private volatile AppIndex appIndex = AppIndex.EMPTY;
+	
+	// The reverse link index is rebuilt lazily whenever the links or the application list change
+	private final AtomicLong linksVersion = new AtomicLong();
+	private volatile LinkIndex linkIndex = null;
+
+	// The projects from the last session, shown until the connection has been restored
+	private volatile List<AppEntry> snapshotApps = Collections.emptyList();
+	private volatile boolean restoring = false;
+
+	private final ProjectCatalog catalog = new ProjectCatalog(this);
 
 	public CodewindConnection(String name, URI uri, String conid) {
 		setName(name);
@@ -138,6 +187,7 @@ public class CodewindConnection {
 		
 		mon.split(20);
 		refreshApps(null);
+		catalog.prefetch();
 	}
 
 	public String getSocketNamespace() {
@@ -148,6 +198,10 @@ public class CodewindConnection {
 		return socket;
 	}
 
+	public ProjectCatalog getCatalog() {
+		return catalog;
+	}
+
 	private void onInitFail(String msg) throws ConnectException {
 		Logger.log("Initializing Codewind connection failed: " + msg); //$NON-NLS-1$
 		disconnect();
@@ -163,10 +217,33 @@ public class CodewindConnection {
 		if (filewatcher != null) {
 			filewatcher.dispose();
 		}
-		for (CodewindApplication app : appMap.values()) {
+		for (CodewindApplication app : clearApps()) {
 			app.dispose();
 		}
-		appMap.clear();
+	}
+
+	/**
+	 * Returns the project relative folders that the user has changed since the last call
+	 * for the project.  An empty path means the whole project.
+	 */
+	public Set<IPath> takeRecentChanges(IProject project) {
+		if (filewatcher == null) {
+			return Collections.emptySet();
+		}
+		return filewatcher.takeRecentChanges(project);
+	}
+
+	/**
+	 * Run a refresh of the project, changes under the generated paths and unchanged files
+	 * under the refreshed paths are not synced back to Codewind (both project relative).
+	 */
+	public void runRefresh(IProject project, Collection<IPath> refreshedPaths, Collection<IPath> generatedPaths,
+			IWorkspaceRunnable refresh, IProgressMonitor monitor) throws CoreException {
+		if (filewatcher == null) {
+			ResourcesPlugin.getWorkspace().run(refresh, project, IWorkspace.AVOID_UPDATE, monitor);
+			return;
+		}
+		filewatcher.runRefresh(project, refreshedPaths, generatedPaths, refresh, monitor);
 	}
 
 	public String getName() {
@@ -214,6 +291,11 @@ public class CodewindConnection {
 		return null;
 	}
 	
+	CompletableFuture<AuthToken> getAuthTokenAsync(boolean update) {
+		// Override as needed
+		return CompletableFuture.completedFuture(null);
+	}
+	
 	AuthManager getAuthManager() {
 		// Override as needed
 		return null;
@@ -315,11 +397,20 @@ public class CodewindConnection {
 		final URI projectsURL = baseUri.resolve(CoreConstants.APIPATH_PROJECT_LIST);
 
 		try {
-			HttpResult result = HttpUtil.get(projectsURL, getAuthToken(false));
+			// The project list can be large so each project is applied as it is read, any
+			// work that makes a request to Codewind is deferred until the response is closed
+			final ProjectList[] projects = new ProjectList[1];
+			ResponseReader reader = r -> projects[0] = CodewindApplicationFactory.readProjectsStream(this, r, projectID);
+			HttpResult result = HttpUtil.get(projectsURL, getAuthToken(false), reader);
 			if (hasAuthFailure(result)) {
-				result = HttpUtil.get(projectsURL, getAuthToken(true));
+				projects[0] = null;
+				result = HttpUtil.get(projectsURL, getAuthToken(true), reader);
+			}
+			if (!result.isGoodResponse || projects[0] == null) {
+				// The error is logged by HttpResult
+				return;
 			}
-			CodewindApplicationFactory.getAppsFromProjectsJson(this, result.response, projectID);
+			CodewindApplicationFactory.finishProjects(this, projects[0]);
 			Logger.log("App list update success"); //$NON-NLS-1$
 		}
 		catch(Exception e) {
@@ -328,44 +419,140 @@ public class CodewindConnection {
 	}
 	
 	public void addApp(CodewindApplication app) {
-		synchronized(appMap) {
-			appMap.put(app.projectID, app);
+		synchronized(appLock) {
+			appIndex = appIndex.edit().put(app).build();
+		}
+		linksChanged();
+	}
+	
+	/**
+	 * Add the application unless there is already one with the same project ID.
+	 * @return The existing application or null if the given application was added.
+	 */
+	public CodewindApplication addAppIfAbsent(CodewindApplication app) {
+		List<CodewindApplication> existing = addAppsIfAbsent(Collections.singletonList(app));
+		return existing.isEmpty() ? null : existing.get(0);
+	}
+	
+	/**
+	 * Add the applications unless there is already one with the same project ID.  The
+	 * index is only copied once for all of the applications.
+	 * @return The existing applications that prevented some of the given ones from being added.
+	 */
+	public List<CodewindApplication> addAppsIfAbsent(Collection<CodewindApplication> apps) {
+		List<CodewindApplication> existing = new ArrayList<CodewindApplication>();
+		if (apps.isEmpty()) {
+			return existing;
+		}
+		synchronized(appLock) {
+			AppIndex.Builder builder = appIndex.edit();
+			for (CodewindApplication app : apps) {
+				CodewindApplication current = builder.get(app.projectID);
+				if (current != null) {
+					existing.add(current);
+				} else {
+					builder.put(app);
+				}
+			}
+			if (existing.size() < apps.size()) {
+				appIndex = builder.build();
+			}
 		}
+		if (existing.size() < apps.size()) {
+			linksChanged();
+		}
+		return existing;
 	}
 
 	public List<CodewindApplication> getApps() {
-		synchronized(appMap) {
-			return new ArrayList<CodewindApplication>(appMap.values());
-		}
+		return new ArrayList<CodewindApplication>(appIndex.byId.values());
+	}
+
+	/**
+	 * Get the applications sorted by APP_ORDER.  The sorted list is kept up to date as
+	 * applications are added and removed so this does not copy or sort anything.
+	 * 
+	 * @return An unmodifiable list
+	 */
+	public List<CodewindApplication> getSortedApps() {
+		return appIndex.sorted;
+	}
+	
+	void setSnapshotApps(List<AppEntry> apps) {
+		snapshotApps = apps == null ? Collections.<AppEntry>emptyList() : apps;
+		restoring = true;
+	}
+
+	/**
+	 * Get the projects for this connection from the last session.  These are only
+	 * available while the connection is being restored.
+	 */
+	public List<AppEntry> getSnapshotApps() {
+		return snapshotApps;
+	}
+
+	public boolean isRestoring() {
+		return restoring;
+	}
+
+	void endRestore() {
+		restoring = false;
+		snapshotApps = Collections.emptyList();
 	}
 	
 	public Set<String> getAppIds() {
-		synchronized(appMap) {
-			return new HashSet<String>(appMap.keySet());
-		}
+		return new HashSet<String>(appIndex.byId.keySet());
 	}
 
 	public void removeApp(String projectID) {
-		CodewindApplication app = null;
-		synchronized(appMap) {
-			app = appMap.remove(projectID);
+		removeApps(Collections.singletonList(projectID));
+	}
+	
+	/**
+	 * Remove the applications with the given project IDs.  The index is only copied
+	 * once for all of the applications.
+	 */
+	public void removeApps(Collection<String> projectIDs) {
+		List<CodewindApplication> removed = new ArrayList<CodewindApplication>();
+		synchronized(appLock) {
+			AppIndex.Builder builder = appIndex.edit();
+			for (String projectID : projectIDs) {
+				CodewindApplication app = builder.remove(projectID);
+				if (app != null) {
+					removed.add(app);
+				} else {
+					Logger.log("No application found for deleted project: " + projectID); //$NON-NLS-1$
+				}
+			}
+			if (!removed.isEmpty()) {
+				appIndex = builder.build();
+			}
 		}
-		if (app != null) {
-			Logger.log("Removing the " + app.name + " application with id: " + projectID);
+		if (!removed.isEmpty()) {
+			linksChanged();
+		}
+		for (CodewindApplication app : removed) {
+			Logger.log("Removing the " + app.name + " application with id: " + app.projectID);
 			CoreUtil.removeApplication(app);
 			app.dispose();
-		} else {
-			Logger.log("No application found for deleted project: " + projectID); //$NON-NLS-1$
 		}
 	}
+	
+	private Collection<CodewindApplication> clearApps() {
+		AppIndex oldIndex;
+		synchronized(appLock) {
+			oldIndex = appIndex;
+			appIndex = AppIndex.EMPTY;
+		}
+		linksChanged();
+		return oldIndex.byId.values();
+	}
 
 	/**
 	 * @return The app with the given ID, if it exists in this Codewind instance, else null.
 	 */
 	public CodewindApplication getAppByID(String projectID) {
-		synchronized(appMap) {
-			return appMap.get(projectID);
-		}
+		return appIndex.byId.get(projectID);
 	}
 
 	/*
@@ -374,59 +561,209 @@ public class CodewindConnection {
 	 * Otherwise use getAppByLocation.
 	 */
 	public CodewindApplication getAppByName(String name) {
-		synchronized(appMap) {
-			for (CodewindApplication app : getApps()) {
-				if (app.name.equals(name)) {
-					return app;
-				}
-			}
+		CodewindApplication app = appIndex.byName.get(name);
+		if (app == null) {
+			Logger.log("No application found for name " + name); //$NON-NLS-1$
 		}
-		Logger.log("No application found for name " + name); //$NON-NLS-1$
-		return null;
+		return app;
 	}
 	
 	public CodewindApplication getAppByLocation(IPath location) {
 		if (location == null) {
 			return null;
 		}
-		String canonicalLocation = FileUtil.getCanonicalPath(location.toOSString());
-		synchronized(appMap) {
-			for (CodewindApplication app : getApps()) {
-				if (FileUtil.getCanonicalPath(app.fullLocalPath.toOSString()).equals(canonicalLocation)) {
-					return app;
+		AppIndex index = appIndex;
+		// Try the location as is first to avoid going to the file system for the canonical path
+		CodewindApplication app = index.byLocation.get(location.toOSString());
+		if (app == null) {
+			app = index.byLocation.get(FileUtil.getCanonicalPath(location.toOSString()));
+		}
+		if (app == null) {
+			Logger.log("No application found for location: " + location); //$NON-NLS-1$
+		}
+		return app;
+	}
+	
+	/**
+	 * Called when the project links for an application change so the reverse index gets rebuilt.
+	 */
+	public void linksChanged() {
+		linksVersion.incrementAndGet();
+	}
+	
+	/**
+	 * The links version is incremented whenever the links or the application list change
+	 * so callers can detect when anything that depends on them is out of date.
+	 */
+	public long getLinksVersion() {
+		return linksVersion.get();
+	}
+	
+	/**
+	 * Get the links from other applications on this connection to the given project.
+	 */
+	public Map<CodewindApplication, List<LinkInfo>> getLinksToProject(String projectID) {
+		LinkIndex index = linkIndex;
+		long version = linksVersion.get();
+		if (index == null || index.version != version) {
+			index = new LinkIndex(version, getApps());
+			linkIndex = index;
+		}
+		Map<CodewindApplication, List<LinkInfo>> links = index.byTarget.get(projectID);
+		return links == null ? new HashMap<CodewindApplication, List<LinkInfo>>() : new HashMap<CodewindApplication, List<LinkInfo>>(links);
+	}
+	
+	/**
+	 * Immutable snapshot of the applications for this connection along with the
+	 * name and location indexes.  Updates are made on a Builder so that a batch of
+	 * changes creates a single new copy.
+	 */
+	private static class AppIndex {
+		
+		static final AppIndex EMPTY = new AppIndex(new LinkedHashMap<String, CodewindApplication>(),
+				new HashMap<String, CodewindApplication>(), new HashMap<String, CodewindApplication>(), new HashMap<String, String>(),
+				new ArrayList<CodewindApplication>());
+		
+		final Map<String, CodewindApplication> byId;
+		final Map<String, CodewindApplication> byName;
+		// Contains both the OS path and the canonical path for each application
+		final Map<String, CodewindApplication> byLocation;
+		// Canonical path for each project ID so it does not need to be recalculated on remove
+		final Map<String, String> canonicalPaths;
+		// The applications in APP_ORDER
+		final List<CodewindApplication> sorted;
+		
+		private AppIndex(Map<String, CodewindApplication> byId, Map<String, CodewindApplication> byName,
+				Map<String, CodewindApplication> byLocation, Map<String, String> canonicalPaths, List<CodewindApplication> sorted) {
+			this.byId = Collections.unmodifiableMap(byId);
+			this.byName = Collections.unmodifiableMap(byName);
+			this.byLocation = Collections.unmodifiableMap(byLocation);
+			this.canonicalPaths = Collections.unmodifiableMap(canonicalPaths);
+			this.sorted = Collections.unmodifiableList(sorted);
+		}
+		
+		Builder edit() {
+			return new Builder(this);
+		}
+		
+		/**
+		 * Collects the changes to an index, the maps are only copied once when the
+		 * builder is created and the secondary indexes are rebuilt once by build().
+		 */
+		static class Builder {
+			private final AppIndex base;
+			private final Map<String, CodewindApplication> byId;
+			private final Map<String, String> canonicalPaths;
+			private final List<CodewindApplication> added = new ArrayList<CodewindApplication>();
+			
+			private Builder(AppIndex base) {
+				this.base = base;
+				this.byId = new LinkedHashMap<String, CodewindApplication>(base.byId);
+				this.canonicalPaths = new HashMap<String, String>(base.canonicalPaths);
+			}
+			
+			CodewindApplication get(String projectID) {
+				return byId.get(projectID);
+			}
+			
+			Builder put(CodewindApplication app) {
+				// Remove first so a replaced application moves to the end like a new one
+				byId.remove(app.projectID);
+				byId.put(app.projectID, app);
+				canonicalPaths.put(app.projectID, FileUtil.getCanonicalPath(app.fullLocalPath.toOSString()));
+				added.add(app);
+				return this;
+			}
+			
+			CodewindApplication remove(String projectID) {
+				canonicalPaths.remove(projectID);
+				return byId.remove(projectID);
+			}
+			
+			AppIndex build() {
+				// If there is more than one application with the same name or location the first one wins
+				Map<String, CodewindApplication> newByName = new HashMap<String, CodewindApplication>();
+				Map<String, CodewindApplication> newByLocation = new HashMap<String, CodewindApplication>();
+				for (CodewindApplication app : byId.values()) {
+					newByName.putIfAbsent(app.name, app);
+					newByLocation.putIfAbsent(app.fullLocalPath.toOSString(), app);
+					newByLocation.putIfAbsent(canonicalPaths.get(app.projectID), app);
 				}
+				
+				// Merge the added applications into the sorted list rather than sorting it again
+				Set<CodewindApplication> addedSet = Collections.newSetFromMap(new IdentityHashMap<CodewindApplication, Boolean>());
+				List<CodewindApplication> newAdded = new ArrayList<CodewindApplication>(added.size());
+				for (CodewindApplication app : added) {
+					if (byId.get(app.projectID) == app && addedSet.add(app)) {
+						newAdded.add(app);
+					}
+				}
+				newAdded.sort(APP_ORDER);
+				List<CodewindApplication> newSorted = new ArrayList<CodewindApplication>(byId.size());
+				int i = 0;
+				for (CodewindApplication app : base.sorted) {
+					if (byId.get(app.projectID) != app || addedSet.contains(app)) {
+						// Removed, replaced or added again
+						continue;
+					}
+					while (i < newAdded.size() && APP_ORDER.compare(newAdded.get(i), app) < 0) {
+						newSorted.add(newAdded.get(i++));
+					}
+					newSorted.add(app);
+				}
+				while (i < newAdded.size()) {
+					newSorted.add(newAdded.get(i++));
+				}
+				return new AppIndex(byId, newByName, newByLocation, canonicalPaths, newSorted);
 			}
 		}
-		Logger.log("No application found for location: " + location); //$NON-NLS-1$
-		return null;
 	}
 	
-	public boolean waitForReady(IProgressMonitor monitor) throws IOException, JSONException {
-		SubMonitor mon = SubMonitor.convert(monitor, 100);
-		IOException exception = null;
-		for (int i = 0; i < 10; i++) {
-			try {
-				mon.split(10);
-				if (requestCodewindReady(500, 500)) {
-					return true;
-				}
-				if (mon.isCanceled()) {
-					return false;
+	/**
+	 * Reverse index from a target project ID to the applications that link to it.
+	 */
+	private static class LinkIndex {
+		
+		final long version;
+		final Map<String, Map<CodewindApplication, List<LinkInfo>>> byTarget = new HashMap<String, Map<CodewindApplication, List<LinkInfo>>>();
+		
+		LinkIndex(long version, List<CodewindApplication> apps) {
+			this.version = version;
+			for (CodewindApplication app : apps) {
+				ProjectLinks projectLinks = app.getProjectLinks();
+				if (projectLinks == null) {
+					continue;
 				}
-				Thread.sleep(500);
-				if (mon.isCanceled()) {
-					return false;
+				for (LinkInfo link : projectLinks.getLinks()) {
+					byTarget.computeIfAbsent(link.getProjectId(), id -> new HashMap<CodewindApplication, List<LinkInfo>>())
+						.computeIfAbsent(app, a -> new ArrayList<LinkInfo>()).add(link);
 				}
-			} catch (IOException e) {
-				exception = e;
-			} catch (InterruptedException e) {
-				// Ignore
 			}
 		}
-		if (exception != null) {
-			throw exception;
+	}
+	
+	public boolean waitForReady(IProgressMonitor monitor) throws IOException, JSONException {
+		// Probe straight away and then back off so a running Codewind is detected without delay
+		CompletableFuture<Boolean> ready = RetryScheduler.schedule(() -> requestCodewindReady(500, 500) ? Boolean.TRUE : null,
+				READY_INITIAL_DELAY_MS, READY_MAX_DELAY_MS, READY_TIMEOUT_MS);
+		try {
+			Boolean result = RetryScheduler.await(ready, monitor);
+			if (result == null) {
+				// Canceled
+				ready.cancel(false);
+				return false;
+			}
+			return result.booleanValue();
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof IOException) {
+				throw (IOException) cause;
+			}
+			if (cause instanceof JSONException) {
+				throw (JSONException) cause;
+			}
+			return false;
 		}
-		return false;
 	}
 	
 	public boolean requestCodewindReady(int connectTimeoutMS, int readTimeoutMS) throws IOException, JSONException {
@@ -679,21 +1016,50 @@ public class CodewindConnection {
 		return capabilities;
 	}
 	
+	public CompletableFuture<ProjectCapabilities> requestProjectCapabilitiesAsync(CodewindApplication app) {
+		final URI uri = baseUri.resolve(CoreConstants.APIPATH_PROJECT_LIST + "/" + app.projectID + "/" + CoreConstants.APIPATH_CAPABILITIES);
+		return getAsync(uri).thenApply(result -> {
+			try {
+				checkResult(result, uri, true);
+				return new ProjectCapabilities(new JSONObject(result.response));
+			} catch (IOException | JSONException e) {
+				throw new CompletionException(e);
+			}
+		});
+	}
+	
 	public List<ProjectTypeInfo> requestProjectTypes() throws IOException, JSONException {
-		List<ProjectTypeInfo> projectTypes = new ArrayList<ProjectTypeInfo>();
+		final List<ProjectTypeInfo> projectTypes = new ArrayList<ProjectTypeInfo>();
 		final URI uri = baseUri.resolve(CoreConstants.APIPATH_BASE + "/" + CoreConstants.APIPATH_PROJECT_TYPES);
-		HttpResult result = HttpUtil.get(uri, getAuthToken(false));
+		ResponseReader reader = r -> {
+			projectTypes.clear();
+			readProjectTypes(r, projectTypes);
+		};
+		HttpResult result = HttpUtil.get(uri, getAuthToken(false), reader);
 		if (hasAuthFailure(result)) {
-			result = HttpUtil.get(uri, getAuthToken(true));
-		}
-		checkResult(result, uri, true);
-		
-		JSONArray array = new JSONArray(result.response);
-		for (int i = 0; i < array.length(); i++) {
-			projectTypes.add(new ProjectTypeInfo(array.getJSONObject(i)));
+			result = HttpUtil.get(uri, getAuthToken(true), reader);
 		}
+		checkResult(result, uri, false);
 		return projectTypes;
 	}
+	
+	private static void readProjectTypes(Reader reader, List<ProjectTypeInfo> projectTypes) throws JSONException {
+		JSONStreamUtil.forEachObject(reader, jso -> projectTypes.add(new ProjectTypeInfo(jso)));
+	}
+
+	public CompletableFuture<List<ProjectTypeInfo>> requestProjectTypesAsync() {
+		final URI uri = baseUri.resolve(CoreConstants.APIPATH_BASE + "/" + CoreConstants.APIPATH_PROJECT_TYPES);
+		return getAsync(uri).thenApply(result -> {
+			try {
+				checkResult(result, uri, true);
+				List<ProjectTypeInfo> projectTypes = new ArrayList<ProjectTypeInfo>();
+				readProjectTypes(new StringReader(result.response), projectTypes);
+				return projectTypes;
+			} catch (IOException | JSONException e) {
+				throw new CompletionException(e);
+			}
+		});
+	}
 
 	public void requestSetPushRegistry(String address, String namespace) throws IOException, JSONException {
 		final URI uri = baseUri.resolve(CoreConstants.APIPATH_BASE + "/" + CoreConstants.APIPATH_IMAGEPUSHREGISTRY);
@@ -757,6 +1123,21 @@ public class CodewindConnection {
 		CoreUtil.updateConnection(this);
 	}
 	
+	/**
+	 * Asynchronous GET that retries with a new token if there is an authentication failure.
+	 * The token is also requested asynchronously since getting a new one runs cwctl.
+	 */
+	private CompletableFuture<HttpResult> getAsync(URI uri) {
+		return getAuthTokenAsync(false)
+				.thenCompose(token -> HttpUtil.getAsync(uri, token))
+				.thenCompose(result -> {
+					if (!hasAuthFailure(result)) {
+						return CompletableFuture.completedFuture(result);
+					}
+					return getAuthTokenAsync(true).thenCompose(token -> HttpUtil.getAsync(uri, token));
+				});
+	}
+	
 	private boolean hasAuthFailure(HttpResult result) {
 		return result.responseCode == 302;
 	}
@@ -782,9 +1163,7 @@ public class CodewindConnection {
 	public synchronized void onConnectionError() {
 		Logger.log("Connection to " + baseUri + " lost"); //$NON-NLS-1$ //$NON-NLS-2$
 		isConnected = false;
-		synchronized(appMap) {
-			appMap.clear();
-		}
+		clearApps();
 		CoreUtil.updateConnection(this);
 	}
 
@@ -829,6 +1208,7 @@ public class CodewindConnection {
 		this.connectionErrorMsg = null;
 		isConnected = true;
 		refreshApps(null);
+		catalog.prefetch();
 		CoreUtil.updateConnection(this);
 	}
 
@@ -17,8 +17,19 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import org.eclipse.codewind.core.CodewindCorePlugin;
@@ -27,7 +38,6 @@ import org.eclipse.codewind.core.internal.CodewindObjectFactory;
 import org.eclipse.codewind.core.internal.CoreUtil;
 import org.eclipse.codewind.core.internal.Logger;
 import org.eclipse.codewind.core.internal.cli.AuthToken;
-import org.eclipse.codewind.core.internal.cli.AuthUtil;
 import org.eclipse.codewind.core.internal.cli.ConnectionInfo;
 import org.eclipse.codewind.core.internal.cli.ConnectionUtil;
 import org.eclipse.codewind.core.internal.messages.Messages;
@@ -57,6 +67,9 @@ public class CodewindConnectionManager {
 	// Singleton instance. Never access this directly. Use the instance() method.
 	private static CodewindConnectionManager instance;
 
+	// Maximum number of connections that are connected at the same time on restore or refresh
+	private static final int MAX_PARALLEL_CONNECTS = 4;
+
 	private List<CodewindConnection> connections = new ArrayList<>();
 	private CodewindConnection localConnection = null;
 
@@ -93,7 +106,7 @@ public class CodewindConnectionManager {
 	 * @return An <b>unmodifiable</b> copy of the list of existing MC connections.
 	 */
 	public synchronized static List<CodewindConnection> activeConnections() {
-		return Collections.unmodifiableList(instance().connections);
+		return Collections.unmodifiableList(new ArrayList<CodewindConnection>(instance().connections));
 	}
 
 	public synchronized static CodewindConnection getActiveConnection(String baseUrl) {
@@ -168,6 +181,7 @@ public class CodewindConnectionManager {
 			return;
 		}
 		instance().saveConnectionData();
+		ConnectionSnapshot.save(instance().getSnapshotPath(), activeConnections());
 		instance().clear();
 	}
 
@@ -191,33 +205,19 @@ public class CodewindConnectionManager {
 		CodewindManager.getManager().refreshInstallStatus(mon.split(20));
 		try {
 			List<ConnectionInfo> infos = ConnectionUtil.listConnections(mon.split(20));
-			MultiStatus multiStatus = new MultiStatus(CodewindCorePlugin.PLUGIN_ID, 0, null, null);
-			if (infos.size() > 1) {
-				mon.setWorkRemaining(100);
-			}
 			// Look for new connections to add
-			for (ConnectionInfo info : infos) {
-				try {
-					if (!info.isLocal() && getConnectionById(info.getId()) == null) {
-						instance().createConnection(info, true, mon.split(50));
-						if (mon.isCanceled()) {
-							return Status.CANCEL_STATUS;
-						}
-						mon.setWorkRemaining(100);
-					}
-				} catch (Exception e) {
-					Logger.logError("An error occurred trying to create the " + info.getLabel() + " connection at: " + info.getURL()); //$NON-NLS-1$ //$NON-NLS-2$
-					IStatus status = new Status(IStatus.ERROR, CodewindCorePlugin.PLUGIN_ID, NLS.bind(Messages.ConnectionManager_CreateConnError, new String[] {info.getLabel(), info.getURL()}), e);
-					multiStatus.add(status);
-				} finally {
-					CoreUtil.updateAll();
-				}
+			List<ConnectionInfo> newInfos = infos.stream().filter(info -> !info.isLocal() && getConnectionById(info.getId()) == null).collect(Collectors.toList());
+			IStatus status = instance().createConnections(newInfos, null, Messages.ConnectionManager_CreateConnError, mon.split(50));
+			if (status.matches(IStatus.CANCEL)) {
+				return status;
 			}
 			// Look for connections that have been removed
 			for (CodewindConnection conn : activeRemoteConnections()) {
 				mon.setWorkRemaining(10);
 				if (!infos.stream().filter(info -> conn.getConid().equals(info.getId())).findFirst().isPresent()) {
-					instance().connections.remove(conn);
+					synchronized (CodewindConnectionManager.class) {
+						instance().connections.remove(conn);
+					}
 					CoreUtil.updateAll();
 					if (mon.isCanceled()) {
 						return Status.CANCEL_STATUS;
@@ -225,7 +225,7 @@ public class CodewindConnectionManager {
 					mon.worked(5);
 				}
 			}
-			return multiStatus;
+			return status;
 		} catch (Exception e) {
 			Logger.logError("An error occurred trying to refresh the connections", e); //$NON-NLS-1$
 			return new Status(IStatus.ERROR, CodewindCorePlugin.PLUGIN_ID, Messages.ConnectionManager_RefreshGeneralError, e);
@@ -233,55 +233,63 @@ public class CodewindConnectionManager {
 	}
 	
 	private void restoreConnections() {
-		Job job = new Job(Messages.ConnectionManager_RestoreJobLabel) {
+		final long startTime = System.currentTimeMillis();
+		
+		// Make sure the local connection is first in the list
+		localConnection = CodewindObjectFactory.createLocalConnection(null);
+		connections.add(localConnection);
+		
+		// Show the connections and projects from the last session until they are restored
+		restoreSnapshot();
+		Logger.log("Populated the connections from the snapshot in " + (System.currentTimeMillis() - startTime) + " ms"); //$NON-NLS-1$ //$NON-NLS-2$
+		
+		// The local connection and the remote connections are restored independently
+		// so that a slow cwctl call or remote cluster does not hold up the others
+		Job localJob = new Job(Messages.ConnectionManager_RestoreJobLabel) {
 			@Override
 			protected IStatus run(IProgressMonitor monitor) {
-				SubMonitor mon = SubMonitor.convert(monitor, 100);
-				
-				// Make sure the local connection is first in the list
-				localConnection = CodewindObjectFactory.createLocalConnection(null);
 				try {
 					// This will connect if Codewind is running
-					CodewindManager.getManager().refreshInstallStatus(mon.split(20));
+					CodewindManager.getManager().refreshInstallStatus(monitor);
+					if (CodewindManager.getManager().getInstallStatus().isStarted()) {
+						// Refresh again to make sure no incorrect project link errors
+						localConnection.refreshApps(null);
+					}
 				} catch (Exception e) {
 					Logger.logError("An error occurred trying to connect to the local Codewind instance", e); //$NON-NLS-1$
+				} finally {
+					localConnection.endRestore();
+					Logger.log("Restored the local connection in " + (System.currentTimeMillis() - startTime) + " ms"); //$NON-NLS-1$ //$NON-NLS-2$
+					CoreUtil.updateAll();
 				}
-				connections.add(localConnection);
-				if (CodewindManager.getManager().getInstallStatus().isStarted()) {
-					// Refresh again to make sure no incorrect project link errors
-					localConnection.refreshApps(null);
-				}
-				CoreUtil.updateAll();
-				if (mon.isCanceled()) {
-					return Status.CANCEL_STATUS;
-				}
+				return monitor.isCanceled() ? Status.CANCEL_STATUS : Status.OK_STATUS;
+			}
+
+			@Override
+			public boolean belongsTo(Object family) {
+				return RESTORE_CONNECTIONS_FAMILY.equals(family);
+			}
+		};
+		
+		Job job = new Job(Messages.ConnectionManager_RestoreJobLabel) {
+			@Override
+			protected IStatus run(IProgressMonitor monitor) {
+				SubMonitor mon = SubMonitor.convert(monitor, 100);
 				
 				// Add the rest of the connections, skipping local
 				try {
-					List<ConnectionInfo> infos = ConnectionUtil.listConnections(mon.split(20));
-					MultiStatus multiStatus = new MultiStatus(CodewindCorePlugin.PLUGIN_ID, 0, null, null);
-					ConnectionData connData = getConnectionData();
-					if (infos.size() > 1) {
-						mon.setWorkRemaining(100 * (infos.size() - 1));
-					}
-					for (ConnectionInfo info : infos) {
-						if (!info.isLocal()) {
-							try {
-								createConnection(info, connData.isConnected(info.getId()), mon.split(100));
-							} catch (Exception e) {
-								IStatus status = new Status(IStatus.ERROR, CodewindCorePlugin.PLUGIN_ID, NLS.bind(Messages.ConnectionManager_RestoreConnError, new String[] {info.getLabel(), info.getURL()}), e);
-								multiStatus.add(status);
-							} finally {
-								CoreUtil.updateAll();
-							}
-							if (mon.isCanceled()) {
-								return Status.CANCEL_STATUS;
-							}
-						}
-					}
-					return multiStatus;
+					List<ConnectionInfo> infos = ConnectionUtil.listConnections(mon.split(10));
+					List<ConnectionInfo> remoteInfos = infos.stream().filter(info -> !info.isLocal()).collect(Collectors.toList());
+					removeSnapshotConnections(remoteInfos);
+					IStatus status = createConnections(remoteInfos, getConnectionData(), Messages.ConnectionManager_RestoreConnError, mon.split(90));
+					Logger.log("Restored " + remoteInfos.size() + " remote connections in " + (System.currentTimeMillis() - startTime) + " ms"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+					return status;
 				} catch (Exception e) {
 					Logger.logError("An error occurred trying to restore the connections", e); //$NON-NLS-1$
+					for (CodewindConnection conn : activeRemoteConnections()) {
+						conn.endRestore();
+					}
+					CoreUtil.updateAll();
 					return new Status(IStatus.ERROR, CodewindCorePlugin.PLUGIN_ID, Messages.ConnectionManager_RestoreGeneralError, e);
 				}
 			}
@@ -291,29 +299,174 @@ public class CodewindConnectionManager {
 				return RESTORE_CONNECTIONS_FAMILY.equals(family);
 			}
 		};
+		localJob.schedule();
 		job.schedule();
 	}
 	
-	private void createConnection(ConnectionInfo info, boolean connect, IProgressMonitor monitor) throws Exception {
-		SubMonitor mon = SubMonitor.convert(monitor, 100);
-		URI uri = new URI(info.getURL());
-		AuthToken auth = null;
+	private void restoreSnapshot() {
+		for (ConnectionSnapshot.ConnectionEntry entry : ConnectionSnapshot.load(getSnapshotPath())) {
+			if (entry.isLocal) {
+				localConnection.setSnapshotApps(entry.apps);
+				continue;
+			}
+			if (entry.conid == null || entry.url == null) {
+				continue;
+			}
+			try {
+				CodewindConnection conn = CodewindObjectFactory.createRemoteConnection(entry.name, new URI(entry.url), entry.conid, entry.username, null);
+				conn.setSnapshotApps(entry.apps);
+				connections.add(conn);
+			} catch (Exception e) {
+				Logger.logError("An error occurred trying to restore the " + entry.name + " connection from the snapshot", e); //$NON-NLS-1$ //$NON-NLS-2$
+			}
+		}
+	}
+	
+	/**
+	 * Remove any connections restored from the snapshot that no longer exist.
+	 */
+	private void removeSnapshotConnections(List<ConnectionInfo> infos) {
+		boolean removed = false;
+		for (CodewindConnection conn : activeRemoteConnections()) {
+			if (conn.isRestoring() && !infos.stream().anyMatch(info -> conn.getConid().equals(info.getId()))) {
+				Logger.log("Removing the " + conn.getName() + " connection from the snapshot since it no longer exists"); //$NON-NLS-1$ //$NON-NLS-2$
+				synchronized (CodewindConnectionManager.class) {
+					connections.remove(conn);
+				}
+				conn.endRestore();
+				removed = true;
+			}
+		}
+		if (removed) {
+			CoreUtil.updateAll();
+		}
+	}
+	
+	/**
+	 * Add the connections to the list in the order given and then connect them in parallel
+	 * on a bounded number of threads.  Connections that were already added from the snapshot
+	 * are updated and reused.  Each connection is updated in the view as soon as it
+	 * is ready rather than waiting for all of them.
+	 * 
+	 * @param connData the saved connection data used to decide whether to connect, or null
+	 * to connect all of the connections
+	 */
+	private IStatus createConnections(List<ConnectionInfo> infos, ConnectionData connData, String errorMsg, IProgressMonitor monitor) {
+		MultiStatus multiStatus = new MultiStatus(CodewindCorePlugin.PLUGIN_ID, 0, null, null);
+		if (infos.isEmpty()) {
+			return multiStatus;
+		}
+		SubMonitor mon = SubMonitor.convert(monitor, infos.size());
+		ExecutorService executor = Executors.newFixedThreadPool(Math.min(infos.size(), MAX_PARALLEL_CONNECTS), runnable -> {
+			Thread thread = new Thread(runnable, "Codewind Connection Restore"); //$NON-NLS-1$
+			thread.setDaemon(true);
+			return thread;
+		});
+		CompletionService<IStatus> completionService = new ExecutorCompletionService<IStatus>(executor);
+		Map<Future<IStatus>, ConnectionInfo> futures = new HashMap<Future<IStatus>, ConnectionInfo>();
+		// Connections whose task has not started yet, a task removes its connection when it starts
+		// so that if the restore is cancelled the remaining ones can be cleaned up here instead
+		Set<CodewindConnection> notStarted = ConcurrentHashMap.newKeySet();
 		try {
-			auth = AuthUtil.getAuthToken(info.getUsername(), info.getId(), mon.split(20));
-		} catch (Exception e) {
-			Logger.logError("An error occurred trying to get the authorization token for: " + info.getId(), e); //$NON-NLS-1$
+			for (ConnectionInfo info : infos) {
+				try {
+					CodewindConnection conn = getConnectionById(info.getId());
+					if (conn != null) {
+						conn.setName(info.getLabel());
+						conn.setBaseURI(new URI(info.getURL()));
+						conn.setUsername(info.getUsername());
+					} else {
+						conn = CodewindObjectFactory.createRemoteConnection(info.getLabel(), new URI(info.getURL()), info.getId(), info.getUsername(), null);
+						add(conn);
+					}
+					final CodewindConnection connection = conn;
+					boolean connect = connData == null || connData.isConnected(info.getId());
+					notStarted.add(connection);
+					futures.put(completionService.submit(() -> {
+						if (!notStarted.remove(connection)) {
+							// The restore was cancelled and the connection already cleaned up
+							return Status.CANCEL_STATUS;
+						}
+						return connectConnection(connection, info, connect, errorMsg);
+					}), info);
+				} catch (Exception e) {
+					Logger.logError("An error occurred trying to create the " + info.getLabel() + " connection at: " + info.getURL(), e); //$NON-NLS-1$ //$NON-NLS-2$
+					multiStatus.add(new Status(IStatus.ERROR, CodewindCorePlugin.PLUGIN_ID, NLS.bind(errorMsg, new String[] {info.getLabel(), info.getURL()}), e));
+					mon.worked(1);
+				}
+			}
+			CoreUtil.updateAll();
+			
+			int completed = 0;
+			while (completed < futures.size()) {
+				Future<IStatus> future = completionService.poll(500, TimeUnit.MILLISECONDS);
+				if (mon.isCanceled()) {
+					cancelRestore(executor, notStarted);
+					return Status.CANCEL_STATUS;
+				}
+				if (future != null) {
+					completed++;
+					try {
+						IStatus status = future.get();
+						if (!status.isOK()) {
+							multiStatus.add(status);
+						}
+					} catch (ExecutionException e) {
+						// Should not happen since connectConnection catches its exceptions
+						ConnectionInfo info = futures.get(future);
+						Logger.logError("An error occurred trying to connect the " + info.getLabel() + " connection at: " + info.getURL(), e.getCause()); //$NON-NLS-1$ //$NON-NLS-2$
+						multiStatus.add(new Status(IStatus.ERROR, CodewindCorePlugin.PLUGIN_ID, NLS.bind(errorMsg, new String[] {info.getLabel(), info.getURL()}), e.getCause()));
+					}
+					mon.worked(1);
+				}
+			}
+		} catch (InterruptedException e) {
+			cancelRestore(executor, notStarted);
+			return Status.CANCEL_STATUS;
+		} finally {
+			executor.shutdown();
 		}
-		if (mon.isCanceled()) {
-			return;
+		return multiStatus;
+	}
+	
+	/**
+	 * Stop the restore.  Running tasks are interrupted and clean up after themselves, the
+	 * connections whose task never started are taken out of the restoring state here.
+	 */
+	private void cancelRestore(ExecutorService executor, Set<CodewindConnection> notStarted) {
+		executor.shutdownNow();
+		for (CodewindConnection conn : new ArrayList<CodewindConnection>(notStarted)) {
+			if (notStarted.remove(conn)) {
+				conn.endRestore();
+				CoreUtil.updateConnection(conn);
+			}
 		}
-		CodewindConnection conn = CodewindObjectFactory.createRemoteConnection(info.getLabel(), uri, info.getId(), info.getUsername(), auth);
-		connections.add(conn);
-		if (connect && auth != null) {
-			conn.connect(mon.split(80));
-			if (conn.isConnected()) {
-				// Refresh again to make sure no incorrect project link errors
-				conn.refreshApps(null);
+	}
+	
+	private IStatus connectConnection(CodewindConnection conn, ConnectionInfo info, boolean connect, String errorMsg) {
+		long startTime = System.currentTimeMillis();
+		try {
+			AuthToken auth = null;
+			try {
+				auth = conn.getAuthToken(false);
+			} catch (Exception e) {
+				Logger.logError("An error occurred trying to get the authorization token for: " + info.getId(), e); //$NON-NLS-1$
 			}
+			if (connect && auth != null) {
+				conn.connect(new NullProgressMonitor());
+				if (conn.isConnected()) {
+					// Refresh again to make sure no incorrect project link errors
+					conn.refreshApps(null);
+				}
+			}
+			return Status.OK_STATUS;
+		} catch (Exception e) {
+			Logger.logError("An error occurred trying to connect the " + info.getLabel() + " connection at: " + info.getURL(), e); //$NON-NLS-1$ //$NON-NLS-2$
+			return new Status(IStatus.ERROR, CodewindCorePlugin.PLUGIN_ID, NLS.bind(errorMsg, new String[] {info.getLabel(), info.getURL()}), e);
+		} finally {
+			conn.endRestore();
+			Logger.log("Restored the " + info.getLabel() + " connection in " + (System.currentTimeMillis() - startTime) + " ms"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			CoreUtil.updateConnection(conn);
 		}
 	}
 	
@@ -351,6 +504,10 @@ public class CodewindConnectionManager {
 		return Paths.get(Platform.getStateLocation(CodewindCorePlugin.getDefault().getBundle()).append(CONNECTIONS_DATA_FILE).toOSString());
 	}
 	
+	private Path getSnapshotPath() {
+		return Paths.get(Platform.getStateLocation(CodewindCorePlugin.getDefault().getBundle()).append(ConnectionSnapshot.SNAPSHOT_FILE).toOSString());
+	}
+	
 	private class ConnectionData {
 		public final JSONObject jsonObj;
 		
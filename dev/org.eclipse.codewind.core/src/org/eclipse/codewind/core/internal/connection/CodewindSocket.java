@@ -14,16 +14,24 @@ package org.eclipse.codewind.core.internal.connection;
 import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import org.eclipse.codewind.core.internal.CodewindApplication;
+import org.eclipse.codewind.core.internal.CodewindApplication.Field;
+import org.eclipse.codewind.core.internal.CodewindApplication.ValidationResult;
 import org.eclipse.codewind.core.internal.CodewindApplicationFactory;
 import org.eclipse.codewind.core.internal.CoreUtil;
 import org.eclipse.codewind.core.internal.HttpUtil;
 import org.eclipse.codewind.core.internal.Logger;
+import org.eclipse.codewind.core.internal.RetryScheduler;
 import org.eclipse.codewind.core.internal.cli.AuthToken;
 import org.eclipse.codewind.core.internal.cli.ProjectLinks.LinkInfo;
 import org.eclipse.codewind.core.internal.console.ProjectLogInfo;
@@ -33,7 +41,6 @@ import org.eclipse.codewind.core.internal.constants.ProjectType;
 import org.eclipse.codewind.core.internal.constants.StartMode;
 import org.eclipse.codewind.core.internal.messages.Messages;
 import org.eclipse.core.runtime.IProgressMonitor;
-import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.osgi.util.NLS;
 import org.json.JSONArray;
 import org.json.JSONException;
@@ -62,6 +69,11 @@ public class CodewindSocket {
 
 	private volatile boolean hasConnected = false;
 
+	// Completed by the first connect event so that waiters are released straight away
+	private final CompletableFuture<Boolean> firstConnection = new CompletableFuture<Boolean>();
+
+	private static final long FIRST_CONNECTION_TIMEOUT_MS = 2500;
+
 	private Set<SocketConsole> socketConsoles = new HashSet<>();
 	
 	// Track the previous Exception so we don't spam the logs with the same connection failure message
@@ -126,6 +138,7 @@ public class CodewindSocket {
 				Logger.log("SocketIO connect success @ " + socketUri); //$NON-NLS-1$
 				if (!hasConnected) {
 					hasConnected = true;
+					firstConnection.complete(Boolean.TRUE);
 				}
 				if (hasLostConnection) {
 					connection.clearConnectionError();
@@ -369,14 +382,14 @@ public class CodewindSocket {
 			return;
 		}
 		
-		CodewindApplicationFactory.updateApp(app, event);
+		Set<Field> changes = CodewindApplicationFactory.updateApp(app, event);
 
 		// Reconnect debugger if necessary
 		if (StartMode.DEBUG_MODES.contains(app.getStartMode()) && app.getDebugPort() != -1) {
 			app.reconnectDebugger();
 		}
 		
-		CoreUtil.updateApplication(app);
+		CodewindApplicationFactory.updateApplicationIfChanged(app, changes);
 	}
 	
 	private void onProjectSettingsChanged(JSONObject event) throws JSONException {
@@ -422,8 +435,8 @@ public class CodewindSocket {
 			return;
 		}
 		
-		CodewindApplicationFactory.updateApp(app, event);
-		CoreUtil.updateApplication(app);
+		Set<Field> changes = CodewindApplicationFactory.updateApp(app, event);
+		CodewindApplicationFactory.updateApplicationIfChanged(app, changes);
 	}
 
 	private void onProjectRestart(JSONObject event) throws JSONException {
@@ -562,17 +575,15 @@ public class CodewindSocket {
 			return;
 		}
 		
-		// Clear out any old validation objects
-		app.resetValidation();
-		
-		// If the validation is successful then just return
+		// If the validation is successful then just clear out any old validation objects
 		String status = event.getString(CoreConstants.KEY_VALIDATION_STATUS);
 		if (CoreConstants.VALUE_STATUS_SUCCESS.equals(status)) {
-			// Nothing to do
+			app.setValidationResults(Collections.<ValidationResult>emptyList());
 			return;
 		}
 		
 		// If the validation is not successful, create validation objects for each problem
+		List<ValidationResult> validationResults = new ArrayList<ValidationResult>();
 		if (event.has(CoreConstants.KEY_VALIDATION_RESULTS)) {
 			JSONArray results = event.getJSONArray(CoreConstants.KEY_VALIDATION_RESULTS);
 			for (int i = 0; i < results.length(); i++) {
@@ -592,15 +603,14 @@ public class CodewindSocket {
 					quickFixId = quickFix.getString(CoreConstants.KEY_FIXID);
 					quickFixDescription = quickFix.getString(CoreConstants.KEY_DESCRIPTION);
 				}
-				if (CoreConstants.VALUE_SEVERITY_WARNING.equals(severity)) {
-					app.validationWarning(filepath, details, quickFixId, quickFixDescription);
-				} else {
-					app.validationError(filepath, details, quickFixId, quickFixDescription);
-				}
+				boolean isError = !CoreConstants.VALUE_SEVERITY_WARNING.equals(severity);
+				validationResults.add(new ValidationResult(isError, filepath, details, quickFixId, quickFixDescription));
 			}
 		} else {
 			Logger.log("Validation event indicates failure but no validation results,"); //$NON-NLS-1$
 		}
+		// The markers are updated in one workspace operation off the socket thread
+		app.setValidationResults(validationResults);
 	}
 	
 	private void onProjectWatchStatusChanged(JSONObject event) throws JSONException {
@@ -667,26 +677,13 @@ public class CodewindSocket {
 	}
 
 	boolean blockUntilFirstConnection(IProgressMonitor monitor) {
-		SubMonitor mon = SubMonitor.convert(monitor, 2500);
-		final int delay = 100;
-		final int timeout = 2500;
-		int waited = 0;
-		while(!hasConnected && waited < timeout) {
-			mon.split(100);
-			try {
-				Thread.sleep(delay);
-				waited += delay;
-
-				if (waited % (5 * delay) == 0) {
-					Logger.log("Waiting for CodewindSocket initial connection"); //$NON-NLS-1$
-				}
-			}
-			catch(InterruptedException e) {
-				Logger.logError(e);
-			}
-			if (mon.isCanceled()) {
-				return false;
-			}
+		try {
+			RetryScheduler.await(firstConnection, FIRST_CONNECTION_TIMEOUT_MS, monitor);
+		} catch (TimeoutException e) {
+			// Checked below
+		} catch (ExecutionException e) {
+			// Never completed exceptionally
+			Logger.logError(e);
 		}
 		Logger.log("CodewindSocket initialized in time ? " + hasConnected); //$NON-NLS-1$
 		return hasConnected;
@@ -0,0 +1,188 @@
+/*******************************************************************************
+ * Copyright (c) 2020 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.codewind.core.internal.connection;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.codewind.core.internal.CodewindApplication;
+import org.eclipse.codewind.core.internal.Logger;
+import org.eclipse.codewind.core.internal.constants.ProjectLanguage;
+import org.eclipse.codewind.core.internal.constants.ProjectType;
+
+/**
+ * The connections and projects from the last session, saved on shutdown so that
+ * the Codewind explorer can show them straight away on the next start while the
+ * connections are being restored.  Only the information needed to show the projects
+ * is saved and the entries are never used as applications.
+ */
+public class ConnectionSnapshot {
+
+	public static final String SNAPSHOT_FILE = "connections.snapshot"; //$NON-NLS-1$
+
+	private static final int MAGIC = 0x43575353;
+	private static final int FORMAT_VERSION = 1;
+
+	public static class ConnectionEntry {
+		public final String conid;
+		public final String name;
+		public final String url;
+		public final String username;
+		public final boolean isLocal;
+		public final List<AppEntry> apps;
+
+		ConnectionEntry(String conid, String name, String url, String username, boolean isLocal, List<AppEntry> apps) {
+			this.conid = conid;
+			this.name = name;
+			this.url = url;
+			this.username = username;
+			this.isLocal = isLocal;
+			this.apps = apps;
+		}
+	}
+
+	public static class AppEntry {
+		public final String conid;
+		public final String projectID;
+		public final String name;
+		public final String typeId;
+		public final String languageId;
+		public final String localPath;
+
+		AppEntry(String conid, String projectID, String name, String typeId, String languageId, String localPath) {
+			this.conid = conid;
+			this.projectID = projectID;
+			this.name = name;
+			this.typeId = typeId;
+			this.languageId = languageId;
+			this.localPath = localPath;
+		}
+
+		public ProjectType getProjectType() {
+			return ProjectType.getType(typeId, null);
+		}
+
+		public ProjectLanguage getProjectLanguage() {
+			return ProjectLanguage.getLanguage(languageId);
+		}
+
+		@Override
+		public String toString() {
+			return "Snapshot of project: " + name + " (" + projectID + ")"; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		}
+	}
+
+	private ConnectionSnapshot() {}
+
+	static void save(Path path, List<CodewindConnection> connections) {
+		Path temp = null;
+		try {
+			temp = Files.createTempFile(path.getParent(), SNAPSHOT_FILE, ".tmp"); //$NON-NLS-1$
+			try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+				out.writeInt(MAGIC);
+				out.writeInt(FORMAT_VERSION);
+				out.writeInt(connections.size());
+				for (CodewindConnection conn : connections) {
+					writeString(out, conn.getConid());
+					writeString(out, conn.getName());
+					writeString(out, conn.getBaseURI() == null ? null : conn.getBaseURI().toString());
+					writeString(out, conn.getUsername());
+					out.writeBoolean(conn.isLocal());
+					List<CodewindApplication> apps = conn.getApps();
+					if (apps.isEmpty() && conn.isRestoring()) {
+						// Still being restored so keep the projects from the last snapshot
+						List<AppEntry> entries = conn.getSnapshotApps();
+						out.writeInt(entries.size());
+						for (AppEntry entry : entries) {
+							writeApp(out, entry.projectID, entry.name, entry.typeId, entry.languageId, entry.localPath);
+						}
+					} else {
+						out.writeInt(apps.size());
+						for (CodewindApplication app : apps) {
+							writeApp(out, app.projectID, app.name, app.projectType.getId(), app.projectLanguage.getId(), app.fullLocalPath.toOSString());
+						}
+					}
+				}
+			}
+			Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING);
+		} catch (Exception e) {
+			Logger.logError("An error occurred trying to save the connection snapshot", e); //$NON-NLS-1$
+		} finally {
+			if (temp != null) {
+				try {
+					Files.deleteIfExists(temp);
+				} catch (IOException e) {
+					// Ignore
+				}
+			}
+		}
+	}
+
+	static List<ConnectionEntry> load(Path path) {
+		if (!Files.isRegularFile(path)) {
+			return Collections.emptyList();
+		}
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+			if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION) {
+				Logger.log("Ignoring connection snapshot with an unknown format: " + path); //$NON-NLS-1$
+				return Collections.emptyList();
+			}
+			int connCount = in.readInt();
+			List<ConnectionEntry> entries = new ArrayList<ConnectionEntry>(connCount);
+			for (int i = 0; i < connCount; i++) {
+				String conid = readString(in);
+				String name = readString(in);
+				String url = readString(in);
+				String username = readString(in);
+				boolean isLocal = in.readBoolean();
+				int appCount = in.readInt();
+				List<AppEntry> apps = new ArrayList<AppEntry>(appCount);
+				for (int j = 0; j < appCount; j++) {
+					apps.add(new AppEntry(conid, readString(in), readString(in), readString(in), readString(in), readString(in)));
+				}
+				entries.add(new ConnectionEntry(conid, name, url, username, isLocal, Collections.unmodifiableList(apps)));
+			}
+			return entries;
+		} catch (Exception e) {
+			Logger.logError("An error occurred trying to read the connection snapshot", e); //$NON-NLS-1$
+			return Collections.emptyList();
+		}
+	}
+
+	private static void writeApp(DataOutputStream out, String projectID, String name, String typeId, String languageId, String localPath) throws IOException {
+		writeString(out, projectID);
+		writeString(out, name);
+		writeString(out, typeId);
+		writeString(out, languageId);
+		writeString(out, localPath);
+	}
+
+	private static void writeString(DataOutputStream out, String value) throws IOException {
+		out.writeBoolean(value != null);
+		if (value != null) {
+			out.writeUTF(value);
+		}
+	}
+
+	private static String readString(DataInputStream in) throws IOException {
+		return in.readBoolean() ? in.readUTF() : null;
+	}
+}
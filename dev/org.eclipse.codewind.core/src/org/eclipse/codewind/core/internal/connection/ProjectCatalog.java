@@ -0,0 +1,261 @@
+/*******************************************************************************
+ * Copyright (c) 2020 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.codewind.core.internal.connection;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import org.eclipse.codewind.core.internal.Logger;
+import org.eclipse.codewind.core.internal.RetryScheduler;
+import org.eclipse.codewind.core.internal.cli.TemplateUtil;
+import org.eclipse.codewind.core.internal.messages.Messages;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.osgi.util.NLS;
+import org.json.JSONException;
+
+/**
+ * The templates, template sources and project types for a connection, as shown by the
+ * new project wizards.  They are loaded in the background once the connection is
+ * established so that the wizards can show them straight away.  Values that are older
+ * than REVALIDATE_MS are still returned but are reloaded in the background.  Any change
+ * to the template sources must call invalidate() so the out of date values are dropped.
+ *
+ * All returned lists are unmodifiable and must not be changed by the caller.
+ */
+public class ProjectCatalog {
+
+	public static final long REVALIDATE_MS = 60 * 1000;
+
+	private interface Loader<T> {
+		T load(IProgressMonitor monitor) throws Exception;
+	}
+
+	private final CodewindConnection connection;
+
+	// Incremented on every invalidation so that a load that was started before the
+	// invalidation does not replace the new value
+	private final AtomicLong version = new AtomicLong();
+
+	private final CatalogEntry<List<ProjectTemplateInfo>> templates;
+	private final CatalogEntry<List<RepositoryInfo>> templateSources;
+	private final CatalogEntry<List<ProjectTypeInfo>> projectTypes;
+
+	ProjectCatalog(CodewindConnection connection) {
+		this.connection = connection;
+		// The catalog is the only cache for these values so the cwctl query cache is bypassed,
+		// otherwise a revalidated value could be as old as both time to live values together
+		templates = new CatalogEntry<List<ProjectTemplateInfo>>("templates", //$NON-NLS-1$
+				mon -> Collections.unmodifiableList(TemplateUtil.listTemplates(true, connection.getConid(), false, mon)));
+		templateSources = new CatalogEntry<List<RepositoryInfo>>("template sources", //$NON-NLS-1$
+				mon -> Collections.unmodifiableList(TemplateUtil.listTemplateSources(connection.getConid(), false, mon)));
+		projectTypes = new CatalogEntry<List<ProjectTypeInfo>>("project types", //$NON-NLS-1$
+				mon -> mergeProjectTypes(connection.requestProjectTypes()));
+	}
+
+	/**
+	 * Start loading anything that is not already loaded or is out of date.
+	 */
+	public void prefetch() {
+		templates.get();
+		templateSources.get();
+		projectTypes.get();
+	}
+
+	/**
+	 * Drop all of the values, the next request loads them again.
+	 */
+	public void invalidate() {
+		version.incrementAndGet();
+		templates.clear();
+		templateSources.clear();
+		projectTypes.clear();
+	}
+
+	public long getVersion() {
+		return version.get();
+	}
+
+	/**
+	 * The enabled templates or <code>null</code> if they have not been loaded yet.
+	 */
+	public List<ProjectTemplateInfo> getCachedTemplates() {
+		return templates.getIfPresent();
+	}
+
+	/**
+	 * The enabled templates, waiting for them to load if necessary.
+	 *
+	 * @return the templates or <code>null</code> if the monitor was canceled
+	 */
+	public List<ProjectTemplateInfo> getTemplates(IProgressMonitor monitor) throws IOException, JSONException, TimeoutException {
+		return await(templates.get(), monitor);
+	}
+
+	public List<RepositoryInfo> getCachedTemplateSources() {
+		return templateSources.getIfPresent();
+	}
+
+	public List<RepositoryInfo> getTemplateSources(IProgressMonitor monitor) throws IOException, JSONException, TimeoutException {
+		return await(templateSources.get(), monitor);
+	}
+
+	/**
+	 * The project types, with the subtypes of types that are reported more than once
+	 * merged into a single entry.  Returns <code>null</code> if they have not been loaded yet.
+	 */
+	public List<ProjectTypeInfo> getCachedProjectTypes() {
+		return projectTypes.getIfPresent();
+	}
+
+	public List<ProjectTypeInfo> getProjectTypes(IProgressMonitor monitor) throws IOException, JSONException, TimeoutException {
+		return await(projectTypes.get(), monitor);
+	}
+
+	private static List<ProjectTypeInfo> mergeProjectTypes(List<ProjectTypeInfo> projectTypes) {
+		Map<String, ProjectTypeInfo> typeMap = new LinkedHashMap<String, ProjectTypeInfo>();
+		for (ProjectTypeInfo projectType : projectTypes) {
+			ProjectTypeInfo existing = typeMap.get(projectType.getId());
+			if (existing == null) {
+				typeMap.put(projectType.getId(), projectType);
+			} else {
+				existing.addSubtypes(projectType.getSubtypes());
+			}
+		}
+		return Collections.unmodifiableList(new ArrayList<ProjectTypeInfo>(typeMap.values()));
+	}
+
+	private static <T> T await(CompletableFuture<T> future, IProgressMonitor monitor) throws IOException, JSONException, TimeoutException {
+		try {
+			return RetryScheduler.await(future, monitor);
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof IOException) {
+				throw (IOException) cause;
+			}
+			if (cause instanceof JSONException) {
+				throw (JSONException) cause;
+			}
+			if (cause instanceof TimeoutException) {
+				throw (TimeoutException) cause;
+			}
+			throw new IOException(cause == null ? e.getMessage() : cause.getMessage(), cause);
+		}
+	}
+
+	private class CatalogEntry<T> {
+		private final String name;
+		private final Loader<T> loader;
+
+		// Synchronize on this entry before accessing
+		private CompletableFuture<T> future = null;
+		private long loadedVersion = -1;
+		private long timestamp = 0;
+		private boolean revalidating = false;
+
+		CatalogEntry(String name, Loader<T> loader) {
+			this.name = name;
+			this.loader = loader;
+		}
+
+		synchronized CompletableFuture<T> get() {
+			long current = version.get();
+			if (future == null || loadedVersion != current || future.isCompletedExceptionally()) {
+				future = new CompletableFuture<T>();
+				loadedVersion = current;
+				load(future, current);
+			} else if (future.isDone() && System.currentTimeMillis() - timestamp > REVALIDATE_MS) {
+				revalidate(current);
+			}
+			return future;
+		}
+
+		synchronized T getIfPresent() {
+			if (future == null || loadedVersion != version.get() || !future.isDone() || future.isCompletedExceptionally()) {
+				return null;
+			}
+			if (System.currentTimeMillis() - timestamp > REVALIDATE_MS) {
+				revalidate(loadedVersion);
+			}
+			return future.getNow(null);
+		}
+
+		synchronized void clear() {
+			future = null;
+		}
+
+		private void load(CompletableFuture<T> target, long loadVersion) {
+			schedule(monitor -> {
+				try {
+					T value = loader.load(monitor);
+					synchronized (this) {
+						if (loadedVersion == loadVersion) {
+							timestamp = System.currentTimeMillis();
+						}
+					}
+					target.complete(value);
+				} catch (Exception e) {
+					Logger.logError("An error occurred loading the " + name + " for connection: " + connection.getBaseURI(), e); //$NON-NLS-1$ //$NON-NLS-2$
+					target.completeExceptionally(e);
+				}
+			});
+		}
+
+		private void revalidate(long loadVersion) {
+			if (revalidating) {
+				return;
+			}
+			revalidating = true;
+			schedule(monitor -> {
+				try {
+					T value = loader.load(monitor);
+					synchronized (this) {
+						// Keep the old value if the catalog was invalidated while loading
+						if (loadedVersion == loadVersion && future != null) {
+							future = CompletableFuture.completedFuture(value);
+							timestamp = System.currentTimeMillis();
+						}
+					}
+				} catch (Exception e) {
+					Logger.logError("An error occurred reloading the " + name + " for connection: " + connection.getBaseURI(), e); //$NON-NLS-1$ //$NON-NLS-2$
+				} finally {
+					synchronized (this) {
+						revalidating = false;
+					}
+				}
+			});
+		}
+
+		private void schedule(Consumer<IProgressMonitor> task) {
+			Job job = new Job(NLS.bind(Messages.ProjectCatalogLoadJobLabel, connection.getName())) {
+				@Override
+				protected IStatus run(IProgressMonitor monitor) {
+					task.accept(monitor);
+					return Status.OK_STATUS;
+				}
+			};
+			job.setSystem(true);
+			job.schedule();
+		}
+	}
+}
@@ -13,6 +13,7 @@ package org.eclipse.codewind.core.internal.connection;
 
 import java.io.IOException;
 import java.net.URI;
+import java.util.concurrent.CompletableFuture;
 
 import org.eclipse.codewind.core.internal.cli.AuthToken;
 import org.eclipse.core.runtime.NullProgressMonitor;
@@ -34,6 +35,11 @@ public class RemoteConnection extends CodewindConnection {
 		return authManager.getToken(update, new NullProgressMonitor());
 	}
 	
+	@Override
+	CompletableFuture<AuthToken> getAuthTokenAsync(boolean update) {
+		return authManager.getTokenAsync(update);
+	}
+	
 	@Override
 	public void setAuthToken(AuthToken authToken) {
 		authManager.setToken(authToken);
@@ -0,0 +1,222 @@
+/*******************************************************************************
+ * Copyright (c) 2020 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.codewind.core.internal.connection;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import org.eclipse.codewind.core.internal.constants.ProjectLanguage;
+import org.eclipse.codewind.core.internal.constants.ProjectType;
+
+/**
+ * Search index for a list of project templates.  A template matches a filter if its
+ * label, type, language, description or source contains the filter, ignoring case.
+ * The filter can also use the * and ? wildcards.
+ *
+ * The index maps each three character sequence in the searchable text to the
+ * templates that contain it so only those templates need to be checked.  When a
+ * filter extends the previous one (the user typed another character) only the
+ * previous matches are checked.
+ *
+ * The index is built once for a list of templates and is not thread safe.
+ */
+public class TemplateSearchIndex {
+
+	private static final int GRAM_LENGTH = 3;
+
+	// Separates the fields in the searchable text so that a match cannot span fields
+	private static final char FIELD_SEPARATOR = '\n';
+
+	private final List<ProjectTemplateInfo> templates;
+	private final String[] searchText;
+	private final Map<String, int[]> postings;
+
+	private String lastFilter = null;
+	private int[] lastMatches = null;
+
+	public TemplateSearchIndex(List<ProjectTemplateInfo> templates) {
+		this.templates = Collections.unmodifiableList(new ArrayList<ProjectTemplateInfo>(templates));
+		this.searchText = new String[templates.size()];
+
+		Map<String, IntList> lists = new HashMap<String, IntList>();
+		for (int i = 0; i < searchText.length; i++) {
+			String text = getSearchText(this.templates.get(i));
+			searchText[i] = text;
+			for (int j = 0; j + GRAM_LENGTH <= text.length(); j++) {
+				String gram = text.substring(j, j + GRAM_LENGTH);
+				if (gram.indexOf(FIELD_SEPARATOR) >= 0) {
+					continue;
+				}
+				// Templates are added in order so the lists stay sorted and a template is only added once
+				lists.computeIfAbsent(gram, g -> new IntList()).addIfNew(i);
+			}
+		}
+
+		postings = new HashMap<String, int[]>(lists.size() * 4 / 3 + 1);
+		lists.forEach((gram, list) -> postings.put(gram, list.toArray()));
+	}
+
+	public List<ProjectTemplateInfo> getTemplates() {
+		return templates;
+	}
+
+	/**
+	 * Get the templates that match the filter, in the same order as the list that
+	 * the index was built from.  All templates match an empty filter.
+	 */
+	public List<ProjectTemplateInfo> search(String filter) {
+		String query = filter == null ? "" : filter.toLowerCase(Locale.ROOT); //$NON-NLS-1$
+		if (query.isEmpty()) {
+			lastFilter = null;
+			lastMatches = null;
+			return templates;
+		}
+
+		// Anything that matches the new filter also matches any part of it, so if the
+		// new filter contains the last one only the last matches need to be checked
+		int[] candidates;
+		if (lastFilter != null && query.contains(lastFilter)) {
+			candidates = lastMatches;
+		} else {
+			candidates = getCandidates(query);
+		}
+
+		Pattern pattern = isWildcard(query) ? toPattern(query) : null;
+		int candidateCount = candidates == null ? searchText.length : candidates.length;
+		int[] matches = new int[candidateCount];
+		int count = 0;
+		for (int i = 0; i < candidateCount; i++) {
+			int index = candidates == null ? i : candidates[i];
+			String text = searchText[index];
+			if (pattern == null ? text.contains(query) : pattern.matcher(text).find()) {
+				matches[count++] = index;
+			}
+		}
+
+		lastFilter = query;
+		lastMatches = Arrays.copyOf(matches, count);
+
+		List<ProjectTemplateInfo> result = new ArrayList<ProjectTemplateInfo>(count);
+		for (int i = 0; i < count; i++) {
+			result.add(templates.get(matches[i]));
+		}
+		return result;
+	}
+
+	/**
+	 * Get the templates that contain every three character sequence of the literal
+	 * parts of the query, or <code>null</code> if all templates need to be checked.
+	 */
+	private int[] getCandidates(String query) {
+		int[] candidates = null;
+		for (String literal : query.split("[*?]")) { //$NON-NLS-1$
+			for (int j = 0; j + GRAM_LENGTH <= literal.length(); j++) {
+				int[] list = postings.get(literal.substring(j, j + GRAM_LENGTH));
+				if (list == null) {
+					return new int[0];
+				}
+				candidates = candidates == null ? list : intersect(candidates, list);
+				if (candidates.length == 0) {
+					return candidates;
+				}
+			}
+		}
+		return candidates;
+	}
+
+	private static int[] intersect(int[] list1, int[] list2) {
+		int[] result = new int[Math.min(list1.length, list2.length)];
+		int count = 0;
+		int i = 0, j = 0;
+		while (i < list1.length && j < list2.length) {
+			if (list1[i] < list2[j]) {
+				i++;
+			} else if (list1[i] > list2[j]) {
+				j++;
+			} else {
+				result[count++] = list1[i];
+				i++;
+				j++;
+			}
+		}
+		return Arrays.copyOf(result, count);
+	}
+
+	private static boolean isWildcard(String query) {
+		return query.indexOf('*') >= 0 || query.indexOf('?') >= 0;
+	}
+
+	private static Pattern toPattern(String query) {
+		StringBuilder regex = new StringBuilder();
+		StringBuilder literal = new StringBuilder();
+		for (char c : query.toCharArray()) {
+			if (c == '*' || c == '?') {
+				if (literal.length() > 0) {
+					regex.append(Pattern.quote(literal.toString()));
+					literal.setLength(0);
+				}
+				// Wildcards do not match the field separator so a match stays within one field
+				regex.append(c == '*' ? "[^\\n]*" : "[^\\n]"); //$NON-NLS-1$ //$NON-NLS-2$
+			} else {
+				literal.append(c);
+			}
+		}
+		if (literal.length() > 0) {
+			regex.append(Pattern.quote(literal.toString()));
+		}
+		return Pattern.compile(regex.toString());
+	}
+
+	private static String getSearchText(ProjectTemplateInfo info) {
+		StringBuilder builder = new StringBuilder();
+		appendField(builder, info.getLabel());
+		appendField(builder, ProjectType.getDisplayName(info.getProjectType()));
+		appendField(builder, ProjectLanguage.getDisplayName(info.getLanguage()));
+		appendField(builder, info.getDescription());
+		appendField(builder, info.getSource());
+		return builder.toString().toLowerCase(Locale.ROOT);
+	}
+
+	private static void appendField(StringBuilder builder, String value) {
+		if (value != null && !value.isEmpty()) {
+			if (builder.length() > 0) {
+				builder.append(FIELD_SEPARATOR);
+			}
+			builder.append(value);
+		}
+	}
+
+	private static class IntList {
+		private int[] values = new int[4];
+		private int size = 0;
+
+		void addIfNew(int value) {
+			if (size > 0 && values[size - 1] == value) {
+				return;
+			}
+			if (size == values.length) {
+				values = Arrays.copyOf(values, size * 2);
+			}
+			values[size++] = value;
+		}
+
+		int[] toArray() {
+			return Arrays.copyOf(values, size);
+		}
+	}
+}
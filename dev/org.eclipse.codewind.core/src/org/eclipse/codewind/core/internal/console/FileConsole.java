@@ -23,7 +23,7 @@ import org.eclipse.ui.console.IOConsoleOutputStream;
 
 public class FileConsole extends IOConsole {
 
-	private final FileConsoleMonitorThread logMonitorThread;
+	private final FileConsoleTailer.TailHandle tailHandle;
 	private final IOConsoleOutputStream outputStream;
 
 	public FileConsole(String consoleName, IPath logFilePath) throws FileNotFoundException {
@@ -37,16 +37,14 @@ public class FileConsole extends IOConsole {
 		}
 
 		outputStream = newOutputStream();
-		logMonitorThread = new FileConsoleMonitorThread(consoleName, logFile, outputStream);
-		logMonitorThread.start();
+		tailHandle = FileConsoleTailer.tail(logFile, outputStream);
 	}
 
 	@Override
 	protected void dispose() {
 		Logger.log("Dispose console " + getName()); //$NON-NLS-1$
 
-		logMonitorThread.disable();
-		logMonitorThread.interrupt();
+		tailHandle.close();
 		try {
 			outputStream.close();
 		} catch (IOException e) {
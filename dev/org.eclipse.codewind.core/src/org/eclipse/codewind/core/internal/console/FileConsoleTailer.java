@@ -0,0 +1,281 @@
+/*******************************************************************************
+ * Copyright (c) 2020 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.codewind.core.internal.console;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.codewind.core.internal.Logger;
+import org.eclipse.ui.console.IOConsoleOutputStream;
+
+/**
+ * Tails log files and copies anything appended to them to the console output stream.
+ * A single thread serves all of the open file consoles.  It wakes up when the watch
+ * service reports a change to the directory of a file and also checks all of the
+ * files periodically in case the watch service is not available or misses an event.
+ */
+public class FileConsoleTailer {
+
+	// Upper limit on how long an append can go unnoticed
+	private static final long POLL_MS = 1000;
+	private static final int BUFFER_SIZE = 64 * 1024;
+
+	private static FileConsoleTailer instance;
+
+	private final List<TailedFile> files = new ArrayList<TailedFile>();
+	private final Map<Path, WatchKey> watchKeys = new HashMap<Path, WatchKey>();
+	private WatchService watchService;
+	private Thread thread;
+
+	public interface TailHandle {
+		void close();
+	}
+
+	private FileConsoleTailer() {}
+
+	private static synchronized FileConsoleTailer getInstance() {
+		if (instance == null) {
+			instance = new FileConsoleTailer();
+		}
+		return instance;
+	}
+
+	/**
+	 * Start copying the contents of the file to the output stream, including anything
+	 * that is appended later.  The owner is responsible for closing the output stream
+	 * after closing the returned handle.
+	 */
+	public static TailHandle tail(File file, IOConsoleOutputStream output) {
+		FileConsoleTailer tailer = getInstance();
+		TailedFile tailed = new TailedFile(file.toPath().toAbsolutePath(), output);
+		tailer.add(tailed);
+		return () -> tailer.remove(tailed);
+	}
+
+	private synchronized void add(TailedFile file) {
+		files.add(file);
+		if (watchService == null) {
+			try {
+				watchService = FileSystems.getDefault().newWatchService();
+			} catch (Exception e) {
+				Logger.logError("The watch service is not available so log files will be polled", e); //$NON-NLS-1$
+			}
+		}
+		Path dir = file.path.getParent();
+		if (watchService != null && dir != null && !watchKeys.containsKey(dir)) {
+			try {
+				watchKeys.put(dir, dir.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+						StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE));
+			} catch (Exception e) {
+				Logger.logError("Failed to watch the log file directory so it will be polled: " + dir, e); //$NON-NLS-1$
+			}
+		}
+		if (thread == null) {
+			thread = new Thread(this::run, "Codewind Log File Tailer"); //$NON-NLS-1$
+			thread.setPriority(Thread.MIN_PRIORITY + 1);
+			thread.setDaemon(true);
+			thread.start();
+		} else {
+			// Copy the existing contents straight away
+			notifyAll();
+		}
+	}
+
+	private synchronized void remove(TailedFile file) {
+		files.remove(file);
+		file.close();
+		Path dir = file.path.getParent();
+		if (dir != null && files.stream().noneMatch(f -> dir.equals(f.path.getParent()))) {
+			WatchKey key = watchKeys.remove(dir);
+			if (key != null) {
+				key.cancel();
+			}
+		}
+	}
+
+	private void run() {
+		while (true) {
+			List<TailedFile> current;
+			WatchService service;
+			synchronized (this) {
+				if (files.isEmpty()) {
+					// Nothing left to tail, a new thread is started if needed
+					thread = null;
+					closeWatchService();
+					return;
+				}
+				current = new ArrayList<TailedFile>(files);
+				service = watchService;
+			}
+
+			for (TailedFile file : current) {
+				file.update();
+			}
+
+			try {
+				if (service != null) {
+					WatchKey key = service.poll(POLL_MS, TimeUnit.MILLISECONDS);
+					// Drain the events, all files are checked on each pass so which one changed is not needed
+					while (key != null) {
+						key.pollEvents();
+						key.reset();
+						key = service.poll();
+					}
+				} else {
+					synchronized (this) {
+						wait(POLL_MS);
+					}
+				}
+			} catch (InterruptedException e) {
+				// Check the files again
+			} catch (Exception e) {
+				// The watch service was closed
+				synchronized (this) {
+					if (watchService == service) {
+						watchService = null;
+						watchKeys.clear();
+					}
+				}
+			}
+		}
+	}
+
+	private void closeWatchService() {
+		if (watchService != null) {
+			try {
+				watchService.close();
+			} catch (IOException e) {
+				Logger.logError("An error occurred trying to close the log file watch service", e); //$NON-NLS-1$
+			}
+			watchService = null;
+			watchKeys.clear();
+		}
+	}
+
+	private static class TailedFile {
+		final Path path;
+		final IOConsoleOutputStream output;
+		final ByteBuffer bytes = ByteBuffer.allocate(BUFFER_SIZE);
+		final CharBuffer chars = CharBuffer.allocate(BUFFER_SIZE);
+		final CharsetDecoder decoder = Charset.defaultCharset().newDecoder()
+				.onMalformedInput(CodingErrorAction.REPLACE)
+				.onUnmappableCharacter(CodingErrorAction.REPLACE);
+
+		FileChannel channel;
+		Object fileKey;
+		long position;
+		// Only log the first of a series of errors since the file is checked every second
+		boolean errorLogged = false;
+		volatile boolean closed = false;
+
+		TailedFile(Path path, IOConsoleOutputStream output) {
+			this.path = path;
+			this.output = output;
+		}
+
+		synchronized void update() {
+			if (closed) {
+				return;
+			}
+			try {
+				if (!Files.exists(path)) {
+					// Deleted, start from the beginning if it is created again
+					reset();
+					return;
+				}
+				// Handle roll-over: the file was replaced or truncated.  This is also checked
+				// when the channel was closed after an error so that reading carries on from
+				// the same position if it is still the same file.
+				BasicFileAttributes attrs = Files.readAttributes(path, BasicFileAttributes.class);
+				Object key = attrs.fileKey();
+				if ((key != null && !key.equals(fileKey)) || attrs.size() < position) {
+					reset();
+				}
+				if (channel == null) {
+					channel = FileChannel.open(path, StandardOpenOption.READ);
+					fileKey = key;
+				}
+				copy();
+				errorLogged = false;
+			} catch (IOException e) {
+				if (!errorLogged) {
+					Logger.logError("Error updating application log for file " + path, e); //$NON-NLS-1$
+					errorLogged = true;
+				}
+				// Keep the position so the same content is not copied again
+				closeChannel();
+			}
+		}
+
+		private void copy() throws IOException {
+			int read;
+			while (!closed && (read = channel.read(bytes, position)) > 0) {
+				position += read;
+				bytes.flip();
+				decoder.decode(bytes, chars, false);
+				// Keep any partial character for the next read
+				bytes.compact();
+				chars.flip();
+				if (chars.hasRemaining()) {
+					output.write(chars.toString());
+				}
+				chars.clear();
+			}
+		}
+
+		private void reset() {
+			closeChannel();
+			fileKey = null;
+			position = 0;
+			bytes.clear();
+			decoder.reset();
+		}
+
+		private void closeChannel() {
+			if (channel != null) {
+				try {
+					channel.close();
+				} catch (IOException e) {
+					Logger.logError(e);
+				}
+				channel = null;
+			}
+		}
+
+		void close() {
+			// Set before locking so that an update in progress stops copying
+			closed = true;
+			synchronized (this) {
+				reset();
+			}
+		}
+	}
+}
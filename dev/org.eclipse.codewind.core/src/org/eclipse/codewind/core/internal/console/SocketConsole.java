@@ -18,11 +18,23 @@ import org.eclipse.codewind.core.internal.Logger;
 import org.eclipse.codewind.core.internal.CodewindApplication;
 import org.eclipse.codewind.core.internal.connection.CodewindSocket;
 import org.eclipse.codewind.core.internal.messages.Messages;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.osgi.util.NLS;
 import org.eclipse.ui.console.IOConsole;
 import org.eclipse.ui.console.IOConsoleOutputStream;
 
 public class SocketConsole extends IOConsole {
 
+	public static final int DEFAULT_BUFFER_SIZE = 1000000;
+	// Smaller values would leave too little room between the water marks to be useful
+	public static final int MIN_BUFFER_SIZE = 10000;
+
+	// Log updates are collected and written to the console at most this often
+	private static final long FLUSH_DELAY_MS = 200;
+
 	public final CodewindApplication app;
 	public final ProjectLogInfo logInfo;
 	private final CodewindSocket socket;
@@ -31,6 +43,12 @@ public class SocketConsole extends IOConsole {
 	private boolean isInitialized = false;
 	private boolean showOnUpdate = false;
 
+	// Contents waiting to be written to the console, never more than bufferSize characters
+	private final int bufferSize;
+	private final StringBuilder pending = new StringBuilder();
+	private boolean pendingReset = false;
+	private final Job flushJob;
+
 	public SocketConsole(String consoleName, ProjectLogInfo logInfo, CodewindApplication app) throws Exception {
 		super(consoleName, CodewindConsoleFactory.CODEWIND_CONSOLE_TYPE,
 				CodewindCorePlugin.getIcon(CodewindCorePlugin.DEFAULT_ICON_PATH),
@@ -40,6 +58,21 @@ public class SocketConsole extends IOConsole {
 		this.logInfo = logInfo;
 		this.outputStream = newOutputStream();
 		this.socket = app.connection.getSocket();
+
+		// The console trims the start of the document once it goes over the high water mark
+		int size = CodewindCorePlugin.getDefault().getPreferenceStore().getInt(CodewindCorePlugin.CONSOLE_BUFFER_SIZE_PREFSKEY);
+		this.bufferSize = size > 0 ? Math.max(size, MIN_BUFFER_SIZE) : DEFAULT_BUFFER_SIZE;
+		setWaterMarks(bufferSize - bufferSize / 5, bufferSize);
+
+		flushJob = new Job(NLS.bind(Messages.LogUpdateJobLabel, consoleName)) {
+			@Override
+			protected IStatus run(IProgressMonitor monitor) {
+				flush();
+				return Status.OK_STATUS;
+			}
+		};
+		flushJob.setSystem(true);
+
 		socket.registerSocketConsole(this);
 
 		this.outputStream.write(Messages.LogFileInitialMsg);
@@ -47,13 +80,46 @@ public class SocketConsole extends IOConsole {
 	}
 
 	public void update(String contents, boolean reset) throws IOException {
-		if (!isInitialized || reset) {
-			clearConsole();
-			isInitialized = true;
+		synchronized (pending) {
+			if (!isInitialized || reset) {
+				pending.setLength(0);
+				pendingReset = true;
+				isInitialized = true;
+			}
+			pending.append(contents);
+			if (pending.length() > bufferSize) {
+				// Only keep the most recent output, starting at a line boundary if possible
+				int start = pending.length() - bufferSize;
+				int lineStart = pending.indexOf("\n", start); //$NON-NLS-1$
+				pending.delete(0, lineStart >= 0 && lineStart < pending.length() - 1 ? lineStart + 1 : start);
+			}
+		}
+		// Has no effect if the job is already waiting to run
+		flushJob.schedule(FLUSH_DELAY_MS);
+	}
+
+	private void flush() {
+		String contents;
+		boolean reset;
+		synchronized (pending) {
+			if (pending.length() == 0 && !pendingReset) {
+				return;
+			}
+			contents = pending.toString();
+			reset = pendingReset;
+			pending.setLength(0);
+			pendingReset = false;
 		}
 
+		if (reset) {
+			clearConsole();
+		}
 		Logger.log("Appending contents to log: " + this.getName());		// $NON-NLS-1$
-		outputStream.write(contents);
+		try {
+			outputStream.write(contents);
+		} catch (IOException e) {
+			Logger.logError("Error writing to the console output stream for: " + this.getName(), e); //$NON-NLS-1$
+		}
 		if (showOnUpdate) {
 			activate();
 		}
@@ -64,6 +130,7 @@ public class SocketConsole extends IOConsole {
 		Logger.log("Dispose console " + getName()); //$NON-NLS-1$
 
 		socket.deregisterSocketConsole(this);
+		flushJob.cancel();
 
 		if (app.isAvailable()) {
 			try {
@@ -14,10 +14,15 @@ package org.eclipse.codewind.core.internal.launch;
 import java.io.IOException;
 import java.io.InterruptedIOException;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.codewind.core.CodewindCorePlugin;
 import org.eclipse.codewind.core.internal.CodewindApplication;
 import org.eclipse.codewind.core.internal.Logger;
+import org.eclipse.codewind.core.internal.RetryScheduler;
 import org.eclipse.codewind.core.internal.messages.Messages;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
@@ -37,6 +42,11 @@ import com.sun.jdi.connect.spi.ClosedConnectionException;
 
 @SuppressWarnings("restriction")
 public class CodewindDebugConnector {
+
+	// Attach retries run on the shared retry scheduler rather than sleeping in the launch thread
+	private static final long ATTACH_RETRY_DELAY_MS = 250;
+	private static final long MIN_ATTACH_TIMEOUT_MS = 500;
+
 	/**
 	 * From com.ibm.ws.st.core.internal.launch.BaseLibertyLaunchConfiguration.connectAndWait
 	 */
@@ -64,79 +74,79 @@ public class CodewindDebugConnector {
 		Map<String, Connector.Argument> connectorArgs = connector.defaultArguments();
         connectorArgs = LaunchUtilities.configureConnector(connectorArgs, app.getDebugConnectHost(), app.getDebugConnectPort());
 
-		boolean retry = false;
-		do {
+		final Map<String, Connector.Argument> args = connectorArgs;
+		long timeoutMs = timeout > 0 ? timeout * 1000L : MIN_ATTACH_TIMEOUT_MS;
+		final AtomicInteger attempts = new AtomicInteger();
+		CompletableFuture<VirtualMachine> attach = RetryScheduler.schedule(() -> {
 			try {
-				VirtualMachine vm = null;
-				Exception ex = null;
-				int itr = timeout * 4; // We want to check 4 times per second
-
-				if (itr <= 0) {
-					itr = 2;
-				}
-
-				while (itr-- > 0) {
-					if (monitor.isCanceled()) {
-						Logger.log("User cancelled debugger connecting"); //$NON-NLS-1$
-						return null;
-					}
-					try {
-						vm = connector.attach(connectorArgs);
-						itr = 0;
-						ex = null;
-					} catch (Exception e) {
-						ex = e;
-						if (itr % 8 == 0) {
-							Logger.log("Waiting for debugger attach."); //$NON-NLS-1$
-						}
-					}
-					try {
-						Thread.sleep(250);
-					} catch (InterruptedException e1) {
-						// do nothing
-					}
+				return connector.attach(args);
+			} catch (Exception e) {
+				if (attempts.incrementAndGet() % 8 == 0) {
+					Logger.log("Waiting for debugger attach."); //$NON-NLS-1$
 				}
-				
-				// Check for timeout
-				if (itr <= 0 && vm == null && (ex == null || ex instanceof ClosedConnectionException)) {
-					// Log any exception
-					if (ex != null) {
-						Logger.logError("Debug connect timed out. Last exception was: " + ex.toString(), ex);
+				throw e;
+			}
+		}, ATTACH_RETRY_DELAY_MS, ATTACH_RETRY_DELAY_MS, timeoutMs, CodewindDebugConnector::disposeVM);
+
+		try {
+			VirtualMachine vm = RetryScheduler.await(attach, monitor);
+			if (vm == null) {
+				Logger.log("User cancelled debugger connecting"); //$NON-NLS-1$
+				// A probe may be attaching, a VM that arrives after the cancel is passed to disposeVM
+				// by the scheduler and one that arrived just before it is disposed here
+				attach.cancel(false);
+				attach.whenComplete((attachedVM, e) -> {
+					if (attachedVM != null) {
+						disposeVM(attachedVM);
 					}
-					throw new CoreException(new Status(IStatus.ERROR, CodewindCorePlugin.PLUGIN_ID, Messages.DebuggerConnectFailureTimeoutMsg, ex));
-				}
-
-				if (ex instanceof IllegalConnectorArgumentsException) {
-					throw (IllegalConnectorArgumentsException) ex;
-				}
-				if (ex instanceof InterruptedIOException) {
-					throw (InterruptedIOException) ex;
-				}
-				if (ex instanceof IOException) {
-					throw (IOException) ex;
-				}
+				});
+				return null;
+			}
 
-				IDebugTarget debugTarget = null;
-				if (vm != null) {
-					LaunchUtilities.setDebugTimeout(vm);
+			LaunchUtilities.setDebugTimeout(vm);
 
-					// This appears in the Debug view
-					final String debugName = getDebugLaunchName(app.name, app.getDebugConnectHost(), String.valueOf(app.getDebugConnectPort()));
+			// This appears in the Debug view
+			final String debugName = getDebugLaunchName(app.name, app.getDebugConnectHost(), String.valueOf(app.getDebugConnectPort()));
 
-					debugTarget = LaunchUtilities
-							.createLocalJDTDebugTarget(launch, app.getDebugConnectPort(), null, vm, debugName, false);
+			IDebugTarget debugTarget = LaunchUtilities
+					.createLocalJDTDebugTarget(launch, app.getDebugConnectPort(), null, vm, debugName, false);
 
-					monitor.worked(1);
-					monitor.done();
+			monitor.worked(1);
+			monitor.done();
+			return debugTarget;
+		} catch (ExecutionException e) {
+			Throwable ex = e.getCause();
+			// Check for timeout
+			if (ex instanceof TimeoutException || ex instanceof ClosedConnectionException) {
+				if (ex instanceof ClosedConnectionException) {
+					Logger.logError("Debug connect timed out. Last exception was: " + ex.toString(), ex);
 				}
-				return debugTarget;
-			} catch (InterruptedIOException e) {
+				throw new CoreException(new Status(IStatus.ERROR, CodewindCorePlugin.PLUGIN_ID, Messages.DebuggerConnectFailureTimeoutMsg, ex));
+			}
+			if (ex instanceof IllegalConnectorArgumentsException) {
+				throw (IllegalConnectorArgumentsException) ex;
+			}
+			if (ex instanceof InterruptedIOException) {
 				// timeout, consult status handler if there is one
 				IStatus status = new Status(IStatus.ERROR, CodewindCorePlugin.PLUGIN_ID,
-						IJavaLaunchConfigurationConstants.ERR_VM_CONNECT_TIMEOUT, "", e); //$NON-NLS-1$
+						IJavaLaunchConfigurationConstants.ERR_VM_CONNECT_TIMEOUT, "", ex); //$NON-NLS-1$
 				throw new CoreException(status);
 			}
-		} while (retry);
+			if (ex instanceof IOException) {
+				throw (IOException) ex;
+			}
+			Logger.logError("An error occurred trying to attach the debugger", ex); //$NON-NLS-1$
+			return null;
+		}
+	}
+
+	private static void disposeVM(VirtualMachine vm) {
+		Logger.log("Disconnecting the debugger that attached after the launch was cancelled"); //$NON-NLS-1$
+		try {
+			vm.dispose();
+		} catch (Exception e) {
+			Logger.logError("An error occurred trying to disconnect the debugger", e); //$NON-NLS-1$
+		}
 	}
 
 	private static String getDebugLaunchName(String projectName, String host, String debugPort) {
@@ -55,6 +55,7 @@ public class Messages extends NLS {
 	public static String AppConsoleName;
 	public static String LogFileConsoleName;
 	public static String LogFileInitialMsg;
+	public static String LogUpdateJobLabel;
 
 	public static String FileNotFoundTitle;
 	public static String FileNotFoundMsg;
@@ -83,6 +84,7 @@ public class Messages extends NLS {
 	public static String ConnectDebugJob;
 	
 	public static String RefreshResourceJobLabel;
+	public static String ValidationMarkersJobLabel;
 	public static String RefreshResourceError;
 	
 	public static String StartCodewindJobLabel;
@@ -97,6 +99,8 @@ public class Messages extends NLS {
 	public static String AuthGetTaskLabel;
 	public static String CreateProjectTaskLabel;
 	public static String BindingProjectTaskLabel;
+	public static String BatchBindTaskLabel;
+	public static String BatchOperationProgress;
 	public static String RemoveProjectTaskLabel;
 	public static String ValidateProjectTaskLabel;
 	public static String RestartProjectTaskLabel;
@@ -133,6 +137,9 @@ public class Messages extends NLS {
 	
 	public static String ProjectLinkErrorTitle;
 	
+	public static String CLIQueryRefreshJobLabel;
+	public static String ProjectCatalogLoadJobLabel;
+	
 	static {
 		// initialize resource bundle
 		NLS.initializeMessages(BUNDLE_NAME, Messages.class);
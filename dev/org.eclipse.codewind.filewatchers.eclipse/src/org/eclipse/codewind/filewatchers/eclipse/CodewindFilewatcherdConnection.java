@@ -13,19 +13,31 @@ package org.eclipse.codewind.filewatchers.eclipse;
 
 import java.io.File;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import org.eclipse.codewind.filewatchers.JavaNioWatchService;
 import org.eclipse.codewind.filewatchers.core.FWLogger;
 import org.eclipse.codewind.filewatchers.core.Filewatcher;
 import org.eclipse.codewind.filewatchers.core.IAuthTokenProvider;
 import org.eclipse.codewind.filewatchers.core.WatchEventEntry;
+import org.eclipse.codewind.filewatchers.eclipse.RefreshEchoFilter.RefreshWindow;
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.IWorkspace;
+import org.eclipse.core.resources.IWorkspaceRunnable;
 import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.Path;
 
 /**
  * This class is responsible for kicking off the Filewatcher core code (via the
@@ -51,6 +63,21 @@ public class CodewindFilewatcherdConnection {
 
 	private final String clientUuid;
 
+	/** Drops the changes found by refreshes of this connection's projects that came from Codewind. */
+	private final RefreshEchoFilter echoFilter = new RefreshEchoFilter();
+
+	/**
+	 * The folders (project relative) containing files changed by the user since they
+	 * were last taken by takeRecentChanges(...), per project.
+	 */
+	private final Map<IProject, Set<IPath>> recentChanges_synch = new HashMap<>();
+
+	/**
+	 * Once a project has more changed folders than this, the whole project is
+	 * treated as changed.
+	 */
+	private static final int MAX_RECENT_CHANGE_FOLDERS = 100;
+
 	public CodewindFilewatcherdConnection(String baseHttpUrl, File pathToCwctl, ICodewindProjectTranslator translator,
 			IAuthTokenProvider authTokenProvider /* nullable */) {
 
@@ -126,14 +153,14 @@ public class CodewindFilewatcherdConnection {
 		}
 
 		// Sort the changes by project ID (which we get from the translator)
-		HashMap<String /* project id */, List<WatchEventEntry>> entries = new HashMap<>();
+		HashMap<String /* project id */, List<FileChangeEntryEclipse>> entries = new HashMap<>();
 		result.forEach(e -> {
 			Optional<String> o = translator.getProjectId(e.getProject());
 			if (o.isPresent()) {
 				String projectId = o.get();
 
-				List<WatchEventEntry> weeList = entries.computeIfAbsent(projectId, f -> new ArrayList<>());
-				weeList.add(e.convertToWatchEvent());
+				List<FileChangeEntryEclipse> changes = entries.computeIfAbsent(projectId, f -> new ArrayList<>());
+				changes.add(e);
 			} else {
 				// Ignore: probably not a Codewind project.
 			}
@@ -141,11 +168,72 @@ public class CodewindFilewatcherdConnection {
 
 		// Pass the results to the watch service
 		entries.entrySet().forEach((e) -> {
-			platformWatchService.receiveWatchEntries(e.getKey(), e.getValue());
+			// Changes found by a refresh (for example, build output) are not user edits
+			List<FileChangeEntryEclipse> changes = echoFilter.filter(e.getValue().get(0).getProject(), e.getValue());
+			if (changes.isEmpty()) {
+				return;
+			}
+			changes.forEach(this::recordRecentChange);
+			platformWatchService.receiveWatchEntries(e.getKey(),
+					changes.stream().map(FileChangeEntryEclipse::convertToWatchEvent).collect(Collectors.toList()));
 		});
 
 	}
 
+	private void recordRecentChange(FileChangeEntryEclipse e) {
+		IPath projectLocation = e.getProject().getLocation();
+		if (projectLocation == null) {
+			return;
+		}
+		IPath path = Path.fromOSString(e.getFile().getPath());
+		if (!projectLocation.isPrefixOf(path)) {
+			return;
+		}
+		path = path.makeRelativeTo(projectLocation);
+		IPath folder = e.isDirectory() ? path : path.removeLastSegments(1);
+
+		synchronized (recentChanges_synch) {
+			Set<IPath> folders = recentChanges_synch.computeIfAbsent(e.getProject(), p -> new HashSet<>());
+			if (folders.size() >= MAX_RECENT_CHANGE_FOLDERS) {
+				// Too many to track, use the project root
+				folders.clear();
+				folders.add(Path.EMPTY);
+			} else if (!folders.contains(Path.EMPTY)) {
+				folders.add(folder);
+			}
+		}
+	}
+
+	/**
+	 * Returns the project relative folders containing files that the user has changed
+	 * since the last call for the project, and clears them. An empty path means that
+	 * the whole project should be treated as changed.
+	 */
+	public Set<IPath> takeRecentChanges(IProject project) {
+		synchronized (recentChanges_synch) {
+			Set<IPath> folders = recentChanges_synch.remove(project);
+			return folders != null ? folders : Collections.emptySet();
+		}
+	}
+
+	/**
+	 * Runs the given refresh of a project as a single workspace operation. Changes
+	 * found by the refresh under the generated paths (project relative, for example
+	 * build output folders) are not passed to the core filewatcher, and neither are
+	 * changes under the refreshed paths to files that are the same as when a refresh
+	 * last saw them. See RefreshEchoFilter.
+	 */
+	public void runRefresh(IProject project, Collection<IPath> refreshedPaths, Collection<IPath> generatedPaths,
+			IWorkspaceRunnable refresh, IProgressMonitor monitor) throws CoreException {
+		RefreshWindow window = echoFilter.beginRefresh(project, refreshedPaths, generatedPaths);
+		try {
+			// AVOID_UPDATE so that the change events are only sent at the end
+			ResourcesPlugin.getWorkspace().run(refresh, project, IWorkspace.AVOID_UPDATE, monitor);
+		} finally {
+			echoFilter.endRefresh(window);
+		}
+	}
+
 	/**
 	 * The CodewindResourceChangeListener converts file/folder changes into
 	 * instances of this class, which are then converted to WatchEventEntry (above)
@@ -192,6 +280,18 @@ public class CodewindFilewatcherdConnection {
 			return project;
 		}
 
+		public File getFile() {
+			return f;
+		}
+
+		public boolean isDirectory() {
+			return isDirectory;
+		}
+
+		public ChangeEntryEventType getEventType() {
+			return eventType;
+		}
+
 		@Override
 		public String toString() {
 			return convertToWatchEvent().toString();
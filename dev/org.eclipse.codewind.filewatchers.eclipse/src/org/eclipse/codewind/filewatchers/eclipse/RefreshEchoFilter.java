@@ -0,0 +1,253 @@
+/*******************************************************************************
+ * Copyright (c) 2020 IBM Corporation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.codewind.filewatchers.eclipse;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.codewind.filewatchers.core.FWLogger;
+import org.eclipse.codewind.filewatchers.eclipse.CodewindFilewatcherdConnection.FileChangeEntryEclipse;
+import org.eclipse.codewind.filewatchers.eclipse.CodewindFilewatcherdConnection.FileChangeEntryEclipse.ChangeEntryEventType;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.Path;
+
+/**
+ * Workspace refreshes that are run after a build pick up files that were written by
+ * Codewind itself (for example, build output). Without this filter, the resource
+ * changes from these refreshes would be passed to the core filewatcher and cause
+ * another project sync for files that did not come from the user.
+ *
+ * Each CodewindFilewatcherdConnection has its own filter, and only passes it the
+ * changes for the projects that the connection owns.
+ *
+ * A refresh opens a window for its project, which stays open for a short time after
+ * the refresh ends in case the resource change events are delivered late. A change
+ * under the refreshed paths that arrives while a window is open is suppressed if it
+ * is under one of the paths that the refresh expects Codewind to have generated, or
+ * if the file is the same as the last time a refresh saw it (according to the
+ * fingerprint index). All other changes are user edits and are passed through.
+ */
+public class RefreshEchoFilter {
+
+	private static final FWLogger log = FWLogger.getInstance();
+
+	/** How long a refresh window stays open after the refresh ends. */
+	private static final long WINDOW_GRACE_MS = 2000;
+
+	/** The maximum number of files in the fingerprint index for each project. */
+	private static final int MAX_FINGERPRINTS = 10000;
+
+	private final Object lock = new Object();
+
+	/** Synchronize on lock before accessing */
+	private final Map<IProject, List<RefreshWindow>> windows_synch = new HashMap<>();
+
+	/** Synchronize on lock before accessing. File path -> fingerprint, least recently used first. */
+	private final Map<IProject, Map<String, Fingerprint>> fingerprints_synch = new HashMap<>();
+
+	private final AtomicLong suppressedCount = new AtomicLong();
+	private final AtomicLong forwardedCount = new AtomicLong();
+
+	RefreshEchoFilter() {
+	}
+
+	/**
+	 * Opens a refresh window for the project. Only changes under the refreshed paths are
+	 * checked, and changes under the generated paths are treated as coming from Codewind
+	 * (both project relative, an empty path means the whole project). The returned window
+	 * must be passed to endRefresh(...) once the refresh is done.
+	 */
+	public RefreshWindow beginRefresh(IProject project, Collection<IPath> refreshedPaths, Collection<IPath> generatedPaths) {
+		RefreshWindow window = new RefreshWindow(project, refreshedPaths, generatedPaths);
+		synchronized (lock) {
+			windows_synch.computeIfAbsent(project, p -> new ArrayList<>()).add(window);
+		}
+		return window;
+	}
+
+	public void endRefresh(RefreshWindow window) {
+		synchronized (lock) {
+			window.closeTime = System.currentTimeMillis() + WINDOW_GRACE_MS;
+		}
+	}
+
+	/**
+	 * Returns the changes to a project that should be passed to the core filewatcher.
+	 * Only the changes under the paths of an open refresh window are fingerprinted.
+	 */
+	List<FileChangeEntryEclipse> filter(IProject project, List<FileChangeEntryEclipse> changes) {
+		List<RefreshWindow> openWindows;
+		long now = System.currentTimeMillis();
+		synchronized (lock) {
+			removeClosedWindows(now);
+			List<RefreshWindow> list = windows_synch.get(project);
+			if (list == null) {
+				return changes;
+			}
+			openWindows = new ArrayList<>(list);
+		}
+
+		// Check the files outside of the lock since it needs file system access
+		List<FileChangeEntryEclipse> result = new ArrayList<>(changes.size());
+		Map<FileChangeEntryEclipse, Fingerprint> refreshed = new LinkedHashMap<>();
+		int suppressed = 0;
+		for (FileChangeEntryEclipse change : changes) {
+			IPath location = Path.fromOSString(change.getFile().getPath());
+			if (openWindows.stream().anyMatch(w -> w.isGenerated(location))) {
+				suppressed++;
+			} else if (openWindows.stream().anyMatch(w -> w.isRefreshed(location))) {
+				refreshed.put(change, Fingerprint.of(change));
+			} else {
+				result.add(change);
+			}
+		}
+
+		if (!refreshed.isEmpty()) {
+			synchronized (lock) {
+				Map<String, Fingerprint> index = fingerprints_synch.computeIfAbsent(project,
+						p -> new LinkedHashMap<String, Fingerprint>(16, 0.75f, true) {
+							private static final long serialVersionUID = 1L;
+
+							@Override
+							protected boolean removeEldestEntry(Map.Entry<String, Fingerprint> eldest) {
+								return size() > MAX_FINGERPRINTS;
+							}
+						});
+				for (Map.Entry<FileChangeEntryEclipse, Fingerprint> entry : refreshed.entrySet()) {
+					Fingerprint previous = index.put(entry.getKey().getFile().getPath(), entry.getValue());
+					if (entry.getValue().equals(previous)) {
+						suppressed++;
+					} else {
+						result.add(entry.getKey());
+					}
+				}
+			}
+		}
+
+		suppressedCount.addAndGet(suppressed);
+		forwardedCount.addAndGet(result.size());
+		if (suppressed > 0 && log.isDebug()) {
+			log.logDebug("Suppressed " + suppressed + " of " + changes.size() + " changes from a workspace refresh ("
+					+ suppressedCount.get() + " suppressed, " + forwardedCount.get() + " forwarded in total)");
+		}
+
+		return result;
+	}
+
+	/** The number of changes that have been suppressed as refresh echoes. */
+	public long getSuppressedCount() {
+		return suppressedCount.get();
+	}
+
+	/** The number of changes that have been passed to the core filewatcher. */
+	public long getForwardedCount() {
+		return forwardedCount.get();
+	}
+
+	/** Synchronize on lock before calling */
+	private void removeClosedWindows(long now) {
+		Iterator<List<RefreshWindow>> it = windows_synch.values().iterator();
+		while (it.hasNext()) {
+			List<RefreshWindow> list = it.next();
+			list.removeIf(w -> !w.isOpen(now));
+			if (list.isEmpty()) {
+				it.remove();
+			}
+		}
+		// Forget the files of projects that have been deleted
+		fingerprints_synch.keySet().removeIf(project -> !project.exists());
+	}
+
+	/**
+	 * A refresh of a project that is in progress or has recently ended.
+	 */
+	public static class RefreshWindow {
+
+		private final List<IPath> refreshedLocations = new ArrayList<>();
+		private final List<IPath> generatedLocations = new ArrayList<>();
+
+		/** Synchronize on the filter lock before accessing */
+		private long closeTime = Long.MAX_VALUE;
+
+		private RefreshWindow(IProject project, Collection<IPath> refreshedPaths, Collection<IPath> generatedPaths) {
+			IPath projectLocation = project.getLocation();
+			if (projectLocation != null) {
+				refreshedPaths.forEach(p -> refreshedLocations.add(projectLocation.append(p)));
+				generatedPaths.forEach(p -> generatedLocations.add(projectLocation.append(p)));
+			}
+		}
+
+		private boolean isOpen(long now) {
+			return now <= closeTime;
+		}
+
+		private boolean isRefreshed(IPath location) {
+			return refreshedLocations.stream().anyMatch(l -> l.isPrefixOf(location));
+		}
+
+		private boolean isGenerated(IPath location) {
+			return generatedLocations.stream().anyMatch(l -> l.isPrefixOf(location));
+		}
+	}
+
+	/**
+	 * What is known about a file at the time of a change. Files that have not changed
+	 * since they were last seen have the same fingerprint.
+	 */
+	private static class Fingerprint {
+		private final boolean exists;
+		private final boolean isDirectory;
+		private final long length;
+		private final long lastModified;
+
+		private Fingerprint(boolean exists, boolean isDirectory, long length, long lastModified) {
+			this.exists = exists;
+			this.isDirectory = isDirectory;
+			this.length = length;
+			this.lastModified = lastModified;
+		}
+
+		static Fingerprint of(FileChangeEntryEclipse change) {
+			File file = change.getFile();
+			if (change.getEventType() == ChangeEntryEventType.DELETE || !file.exists()) {
+				return new Fingerprint(false, change.isDirectory(), 0, 0);
+			}
+			if (change.isDirectory()) {
+				return new Fingerprint(true, true, 0, 0);
+			}
+			return new Fingerprint(true, false, file.length(), file.lastModified());
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof Fingerprint)) {
+				return false;
+			}
+			Fingerprint other = (Fingerprint) obj;
+			return exists == other.exists && isDirectory == other.isDirectory && length == other.length
+					&& lastModified == other.lastModified;
+		}
+
+		@Override
+		public int hashCode() {
+			return Long.hashCode(length) * 31 + Long.hashCode(lastModified);
+		}
+	}
+}
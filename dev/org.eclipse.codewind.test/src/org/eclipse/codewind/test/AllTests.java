@@ -27,7 +27,13 @@ import org.junit.runners.Suite;
 	AppsodySpringAutoBuildTest.class,
 	AppsodyNodeExpressAutoBuildTest.class,
 	AppsodyOpenLibertyDebugTest.class,
-	AppsodySpringDebugTest.class
+	AppsodySpringDebugTest.class,
+	ApplicationUpdateTest.class,
+	ValidationMarkerTest.class,
+	ExplorerTreeBenchmarkTest.class,
+	TemplateSearchIndexTest.class,
+	BatchBindTest.class,
+	ProjectBatchOperationTest.class
 })
 
 public class AllTests {
@@ -0,0 +1,180 @@
+/*******************************************************************************
+ * Copyright (c) 2020 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.codewind.test;
+
+import java.io.StringReader;
+import java.net.URI;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.codewind.core.CodewindCorePlugin;
+import org.eclipse.codewind.core.internal.CodewindApplication;
+import org.eclipse.codewind.core.internal.CodewindApplication.Field;
+import org.eclipse.codewind.core.internal.CodewindApplicationFactory;
+import org.eclipse.codewind.core.internal.CodewindObjectFactory;
+import org.eclipse.codewind.core.internal.IUpdateHandler;
+import org.eclipse.codewind.core.internal.connection.CodewindConnection;
+import org.eclipse.codewind.core.internal.constants.AppStatus;
+import org.eclipse.codewind.core.internal.constants.CoreConstants;
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import junit.framework.TestCase;
+
+/**
+ * Replays project lists against a connection that is not connected to Codewind
+ * to check that updates with no changes are not passed on to the UI.
+ */
+public class ApplicationUpdateTest extends TestCase {
+
+	private static final int APP_COUNT = 20;
+
+	private CodewindConnection connection;
+	private IUpdateHandler oldHandler;
+	private final AtomicInteger appUpdates = new AtomicInteger();
+
+	@Override
+	protected void setUp() throws Exception {
+		// Count the application updates that reach the UI
+		oldHandler = CodewindCorePlugin.getUpdateHandler();
+		CodewindCorePlugin.setUpdateHandler(new IUpdateHandler() {
+			@Override
+			public void updateAll() {}
+			@Override
+			public void updateConnection(CodewindConnection connection) {}
+			@Override
+			public void updateApplication(CodewindApplication application) {
+				appUpdates.incrementAndGet();
+			}
+			@Override
+			public void removeConnection(CodewindConnection connection) {}
+			@Override
+			public void removeApplication(CodewindApplication application) {}
+		});
+		connection = CodewindObjectFactory.createLocalConnection(new URI("http://localhost:10000/"));
+		CodewindApplicationFactory.getAppsFromProjectsJson(connection, getProjectsJson(AppStatus.STARTED.appStatus).toString());
+		assertEquals("All of the applications should be created", APP_COUNT, connection.getApps().size());
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		connection.disconnect();
+		CodewindCorePlugin.setUpdateHandler(oldHandler);
+	}
+
+	public void testReplayWithNoChanges() throws Exception {
+		long[] versions = getVersions();
+		long forwarded = CodewindApplicationFactory.getForwardedUpdateCount();
+		long suppressed = CodewindApplicationFactory.getSuppressedUpdateCount();
+		appUpdates.set(0);
+
+		CodewindApplicationFactory.getAppsFromProjectsJson(connection, getProjectsJson(AppStatus.STARTED.appStatus).toString());
+
+		assertEquals("No application updates should reach the UI", 0, appUpdates.get());
+		assertEquals("No updates should be forwarded", forwarded, CodewindApplicationFactory.getForwardedUpdateCount());
+		assertEquals("All updates should be suppressed", suppressed + APP_COUNT, CodewindApplicationFactory.getSuppressedUpdateCount());
+		long[] newVersions = getVersions();
+		for (int i = 0; i < APP_COUNT; i++) {
+			assertEquals("The application version should not change", versions[i], newVersions[i]);
+		}
+	}
+
+	public void testStreamedReplay() throws Exception {
+		long forwarded = CodewindApplicationFactory.getForwardedUpdateCount();
+
+		CodewindApplicationFactory.getAppsFromProjectsStream(connection, new StringReader(getProjectsJson(AppStatus.STARTED.appStatus).toString()), null);
+		assertEquals("No updates should be forwarded", forwarded, CodewindApplicationFactory.getForwardedUpdateCount());
+
+		CodewindApplicationFactory.getAppsFromProjectsStream(connection, new StringReader(getProjectsJson(AppStatus.STOPPED.appStatus).toString()), null);
+		assertEquals("All updates should be forwarded", forwarded + APP_COUNT, CodewindApplicationFactory.getForwardedUpdateCount());
+		for (int i = 0; i < APP_COUNT; i++) {
+			assertEquals("The app status should be updated", AppStatus.STOPPED, connection.getAppByID(getProjectID(i)).getAppStatus());
+		}
+	}
+
+	public void testTruncatedStream() throws Exception {
+		String json = getProjectsJson(AppStatus.STARTED.appStatus).toString();
+		CodewindApplicationFactory.getAppsFromProjectsStream(connection, new StringReader(json.substring(0, json.length() / 2)), null);
+		assertEquals("Applications should not be removed if the project list is incomplete", APP_COUNT, connection.getApps().size());
+	}
+
+	public void testStatusChange() throws Exception {
+		CodewindApplication app = connection.getAppByID(getProjectID(0));
+		JSONObject appJso = getProjectJson(0, AppStatus.STOPPED.appStatus);
+
+		Set<Field> changes = CodewindApplicationFactory.updateApp(app, appJso);
+		assertTrue("The app status should be changed", changes.contains(Field.APP_STATUS));
+		assertFalse("The ports should not be changed", changes.contains(Field.PORTS));
+		assertEquals("The app status should be updated", AppStatus.STOPPED, app.getAppStatus());
+
+		changes = CodewindApplicationFactory.updateApp(app, appJso);
+		assertTrue("There should be no changes when the same update is replayed", changes.isEmpty());
+	}
+
+	public void testAutoBuildAndEnablement() throws Exception {
+		CodewindApplication app = connection.getAppByID(getProjectID(0));
+		appUpdates.set(0);
+		app.setAutoBuild(app.isAutoBuild());
+		app.setEnabled(app.isEnabled());
+		assertEquals("Setting the same values should not update the UI", 0, appUpdates.get());
+
+		app.setAutoBuild(!app.isAutoBuild());
+		assertEquals("Changing auto build should update the UI once", 1, appUpdates.get());
+
+		appUpdates.set(0);
+		JSONObject appJso = getProjectJson(0, AppStatus.STARTED.appStatus);
+		appJso.put(CoreConstants.KEY_AUTO_BUILD, app.isAutoBuild());
+		CodewindApplicationFactory.updateApplicationIfChanged(app, CodewindApplicationFactory.updateApp(app, appJso));
+		assertEquals("An update with no changes should not update the UI", 0, appUpdates.get());
+
+		appJso.put(CoreConstants.KEY_AUTO_BUILD, !app.isAutoBuild());
+		CodewindApplicationFactory.updateApplicationIfChanged(app, CodewindApplicationFactory.updateApp(app, appJso));
+		assertEquals("An update that changes auto build should update the UI once", 1, appUpdates.get());
+	}
+
+	private long[] getVersions() {
+		long[] versions = new long[APP_COUNT];
+		for (int i = 0; i < APP_COUNT; i++) {
+			versions[i] = connection.getAppByID(getProjectID(i)).getVersion();
+		}
+		return versions;
+	}
+
+	private JSONArray getProjectsJson(String appStatus) throws Exception {
+		JSONArray array = new JSONArray();
+		for (int i = 0; i < APP_COUNT; i++) {
+			array.put(getProjectJson(i, appStatus));
+		}
+		return array;
+	}
+
+	private JSONObject getProjectJson(int index, String appStatus) throws Exception {
+		JSONObject appJso = new JSONObject();
+		appJso.put(CoreConstants.KEY_PROJECT_ID, getProjectID(index));
+		appJso.put(CoreConstants.KEY_NAME, "updatetest" + index);
+		appJso.put(CoreConstants.KEY_PROJECT_TYPE, "nodejs");
+		appJso.put(CoreConstants.KEY_LANGUAGE, "nodejs");
+		appJso.put(CoreConstants.KEY_LOC_DISK, "/tmp/updatetest" + index);
+		appJso.put(CoreConstants.KEY_APP_STATUS, appStatus);
+		appJso.put(CoreConstants.KEY_BUILD_STATUS, "success");
+		appJso.put(CoreConstants.KEY_AUTO_BUILD, true);
+		JSONObject ports = new JSONObject();
+		ports.put(CoreConstants.KEY_EXPOSED_PORT, String.valueOf(32000 + index));
+		ports.put(CoreConstants.KEY_INTERNAL_PORT, "3000");
+		appJso.put(CoreConstants.KEY_PORTS, ports);
+		return appJso;
+	}
+
+	private String getProjectID(int index) {
+		return "00000000-0000-0000-0000-" + String.format("%012d", index);
+	}
+}
@@ -0,0 +1,94 @@
+/*******************************************************************************
+ * Copyright (c) 2020 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.codewind.test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.codewind.core.internal.CodewindApplication;
+import org.eclipse.codewind.core.internal.cli.ProjectBatchBind;
+import org.eclipse.codewind.core.internal.cli.ProjectBatchBind.BindRequest;
+import org.eclipse.codewind.core.internal.cli.ProjectBatchBind.BindResult;
+import org.eclipse.codewind.core.internal.cli.ProjectBatchBind.ValidateResult;
+import org.eclipse.codewind.core.internal.connection.CodewindConnection;
+import org.eclipse.codewind.test.util.CodewindUtil;
+import org.eclipse.codewind.test.util.TestUtil;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+/**
+ * Removes some projects from Codewind and adds them back in one batch, checking that
+ * the detected types are the original ones and that every project is added.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class BatchBindTest extends BaseTest {
+
+	private static final String[] PROJECT_NAMES = {"batchbindtest1", "batchbindtest2"};
+
+	private static CodewindConnection conn;
+	private static List<IProject> projects = new ArrayList<IProject>();
+	private static List<String> projectTypes = new ArrayList<String>();
+	private static List<BindRequest> bindRequests = new ArrayList<BindRequest>();
+
+	@Test
+	public void test01_doSetup() throws Exception {
+		TestUtil.print("Starting test: " + getName());
+		setup();
+		conn = getConnection();
+		for (String name : PROJECT_NAMES) {
+			CodewindApplication app = createProject(conn, null, NODE_EXPRESS_ID, name);
+			projects.add(importProject(app));
+			projectTypes.add(app.projectType.getId());
+			removeProject(app);
+		}
+	}
+
+	@Test
+	public void test02_validateProjects() throws Exception {
+		List<BindRequest> requests = new ArrayList<BindRequest>();
+		for (IProject project : projects) {
+			requests.add(new BindRequest(project.getName(), project.getLocation().toOSString()));
+		}
+		List<ValidateResult> results = ProjectBatchBind.validateProjects(conn, requests, new NullProgressMonitor());
+		assertEquals("There should be a validation result for each project", projects.size(), results.size());
+		for (ValidateResult result : results) {
+			assertTrue("Validation should succeed for project: " + result.request.name, result.isOK());
+			String expectedType = projectTypes.get(projects.indexOf(getProject(result.request.name)));
+			assertEquals("The detected type should be the original type for project: " + result.request.name, expectedType, result.info.type.getId());
+			bindRequests.add(result.getBindRequest());
+		}
+	}
+
+	@Test
+	public void test03_bindProjects() throws Exception {
+		List<BindResult> results = ProjectBatchBind.bindProjects(conn, bindRequests, new NullProgressMonitor());
+		assertEquals("There should be a bind result for each project", bindRequests.size(), results.size());
+		for (BindResult result : results) {
+			assertTrue("Bind should succeed for project: " + result.request.name, result.isOK());
+			assertTrue("The application " + result.request.name + " should be created", CodewindUtil.waitForProject(conn, result.request.name, 300, 5));
+		}
+	}
+
+	@Test
+	public void test99_tearDown() {
+		cleanupConnection(conn);
+		cleanup();
+		TestUtil.print("Ending test: " + getName());
+	}
+
+	private static IProject getProject(String name) {
+		return projects.stream().filter(project -> project.getName().equals(name)).findFirst().orElse(null);
+	}
+}
@@ -18,7 +18,12 @@ import org.junit.runners.Suite;
 @Suite.SuiteClasses({
 	GoAutoBuildTest.class,
 	NodeAutoBuildTest.class,
-	SpringDebugTest.class
+	SpringDebugTest.class,
+	ApplicationUpdateTest.class,
+	ValidationMarkerTest.class,
+	ExplorerTreeBenchmarkTest.class,
+	TemplateSearchIndexTest.class,
+	ProjectBatchOperationTest.class
 })
 
 public class BuildVerificationTests {
@@ -0,0 +1,157 @@
+/*******************************************************************************
+ * Copyright (c) 2020 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.codewind.test;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.eclipse.codewind.core.internal.CodewindApplication;
+import org.eclipse.codewind.core.internal.CodewindObjectFactory;
+import org.eclipse.codewind.core.internal.connection.CodewindConnection;
+import org.eclipse.codewind.core.internal.constants.ProjectLanguage;
+import org.eclipse.codewind.core.internal.constants.ProjectType;
+import org.eclipse.codewind.test.util.TestUtil;
+import org.eclipse.codewind.ui.internal.views.CodewindNavigatorContentProvider;
+import org.eclipse.codewind.ui.internal.views.CodewindNavigatorLabelProvider;
+import org.eclipse.codewind.ui.internal.views.CodewindNavigatorSorter;
+import org.eclipse.core.runtime.Path;
+
+import junit.framework.TestCase;
+
+/**
+ * Builds a Codewind explorer tree for a connection with a large number of projects
+ * and times the content, sorter and label providers.
+ */
+public class ExplorerTreeBenchmarkTest extends TestCase {
+
+	private static final int APP_COUNT = 2000;
+
+	private CodewindConnection connection;
+	private CodewindNavigatorLabelProvider labelProvider;
+
+	@Override
+	protected void setUp() throws Exception {
+		connection = CodewindObjectFactory.createLocalConnection(new URI("http://localhost:10000/"));
+		labelProvider = new CodewindNavigatorLabelProvider();
+
+		// Add the projects in a random order so the sorted index has to do some work
+		Random random = new Random(APP_COUNT);
+		long start = System.currentTimeMillis();
+		for (int i = 0; i < APP_COUNT; i++) {
+			String name = "project" + random.nextInt(APP_COUNT * 10);
+			connection.addApp(CodewindObjectFactory.createCodewindApplication(connection, "id" + i, name,
+					ProjectType.TYPE_NODEJS, ProjectLanguage.LANGUAGE_NODEJS, new Path("/benchmark/" + name + i)));
+		}
+		TestUtil.print("Added " + APP_COUNT + " projects in " + (System.currentTimeMillis() - start) + " ms");
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		labelProvider.dispose();
+		connection.disconnect();
+	}
+
+	public void testChildrenAreSorted() throws Exception {
+		CodewindNavigatorContentProvider contentProvider = new CodewindNavigatorContentProvider();
+		long start = System.currentTimeMillis();
+		Object[] children = contentProvider.getChildren(connection);
+		TestUtil.print("Got " + children.length + " children in " + (System.currentTimeMillis() - start) + " ms");
+
+		assertEquals("There should be a child for each project", APP_COUNT, children.length);
+		List<CodewindApplication> expected = new ArrayList<CodewindApplication>(connection.getApps());
+		expected.sort(CodewindConnection.APP_ORDER);
+		assertEquals("The children should already be sorted", expected, Arrays.asList(children));
+
+		// The viewer sorts the children again so make sure that is cheap and keeps the order
+		Object[] sorted = children.clone();
+		start = System.currentTimeMillis();
+		new CodewindNavigatorSorter().sort(null, sorted);
+		TestUtil.print("Sorted " + sorted.length + " children in " + (System.currentTimeMillis() - start) + " ms");
+		assertTrue("The sorter should not change the order", Arrays.equals(children, sorted));
+	}
+
+	public void testSortedAfterRemove() throws Exception {
+		List<CodewindApplication> apps = connection.getSortedApps();
+		CodewindApplication first = apps.get(0);
+		CodewindApplication middle = apps.get(APP_COUNT / 2);
+		connection.removeApp(first.projectID);
+		connection.removeApp(middle.projectID);
+
+		List<CodewindApplication> remaining = connection.getSortedApps();
+		assertEquals("Two projects should be removed", APP_COUNT - 2, remaining.size());
+		assertFalse("The first project should be removed", remaining.contains(first));
+		assertFalse("The middle project should be removed", remaining.contains(middle));
+		List<CodewindApplication> expected = new ArrayList<CodewindApplication>(remaining);
+		expected.sort(CodewindConnection.APP_ORDER);
+		assertEquals("The projects should still be sorted", expected, remaining);
+	}
+
+	public void testSortedAfterBatch() throws Exception {
+		// Add a batch of projects along with one that is already there
+		Random random = new Random(APP_COUNT + 1);
+		List<CodewindApplication> batch = new ArrayList<CodewindApplication>();
+		for (int i = 0; i < APP_COUNT; i++) {
+			String name = "batch" + random.nextInt(APP_COUNT * 10);
+			batch.add(CodewindObjectFactory.createCodewindApplication(connection, "batch" + i, name,
+					ProjectType.TYPE_NODEJS, ProjectLanguage.LANGUAGE_NODEJS, new Path("/benchmark/" + name + i)));
+		}
+		CodewindApplication existing = connection.getAppByID("id0");
+		batch.add(CodewindObjectFactory.createCodewindApplication(connection, "id0", "duplicate",
+				ProjectType.TYPE_NODEJS, ProjectLanguage.LANGUAGE_NODEJS, new Path("/benchmark/duplicate")));
+		long start = System.currentTimeMillis();
+		List<CodewindApplication> notAdded = connection.addAppsIfAbsent(batch);
+		TestUtil.print("Added a batch of " + batch.size() + " projects in " + (System.currentTimeMillis() - start) + " ms");
+		assertEquals("Only the duplicate should not be added", Arrays.asList(existing), notAdded);
+
+		// Remove half of the batch at once
+		List<String> removeIds = new ArrayList<String>();
+		for (int i = 0; i < APP_COUNT; i += 2) {
+			removeIds.add("batch" + i);
+		}
+		start = System.currentTimeMillis();
+		connection.removeApps(removeIds);
+		TestUtil.print("Removed a batch of " + removeIds.size() + " projects in " + (System.currentTimeMillis() - start) + " ms");
+
+		List<CodewindApplication> sorted = connection.getSortedApps();
+		assertEquals("The index should have the remaining projects", APP_COUNT + APP_COUNT / 2, sorted.size());
+		assertEquals("The sorted list should have every project", connection.getApps().size(), sorted.size());
+		List<CodewindApplication> expected = new ArrayList<CodewindApplication>(sorted);
+		expected.sort(CodewindConnection.APP_ORDER);
+		assertEquals("The projects should still be sorted", expected, sorted);
+	}
+
+	public void testLabelsAreReused() throws Exception {
+		List<CodewindApplication> apps = connection.getSortedApps();
+		long start = System.currentTimeMillis();
+		for (CodewindApplication app : apps) {
+			labelProvider.getStyledText(app);
+		}
+		TestUtil.print("Computed " + apps.size() + " labels in " + (System.currentTimeMillis() - start) + " ms");
+
+		start = System.currentTimeMillis();
+		for (CodewindApplication app : apps) {
+			labelProvider.getStyledText(app);
+		}
+		TestUtil.print("Got " + apps.size() + " cached labels in " + (System.currentTimeMillis() - start) + " ms");
+
+		CodewindApplication app = apps.get(0);
+		assertSame("The label should be reused if the project has not changed",
+				labelProvider.getStyledText(app), labelProvider.getStyledText(app));
+
+		String oldLabel = labelProvider.getText(app);
+		app.setEnabled(false);
+		assertFalse("The label should be updated when the project changes", oldLabel.equals(labelProvider.getText(app)));
+	}
+}
@@ -0,0 +1,158 @@
+/*******************************************************************************
+ * Copyright (c) 2020 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.codewind.test;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.codewind.core.internal.CodewindApplication;
+import org.eclipse.codewind.core.internal.CodewindObjectFactory;
+import org.eclipse.codewind.core.internal.ProjectBatchOperation;
+import org.eclipse.codewind.core.internal.connection.CodewindConnection;
+import org.eclipse.codewind.core.internal.constants.ProjectLanguage;
+import org.eclipse.codewind.core.internal.constants.ProjectType;
+import org.eclipse.codewind.test.util.TestUtil;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.MultiStatus;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.Path;
+import org.eclipse.core.runtime.SubMonitor;
+
+import junit.framework.TestCase;
+
+/**
+ * Checks that an operation on multiple projects runs them in parallel, no more than
+ * MAX_PARALLEL at a time, collects the errors and reports the progress of the tasks.
+ */
+public class ProjectBatchOperationTest extends TestCase {
+
+	private static final int APP_COUNT = 10;
+	private static final String PLUGIN_ID = "org.eclipse.codewind.test";
+
+	private CodewindConnection connection;
+	private List<CodewindApplication> apps;
+
+	@Override
+	protected void setUp() throws Exception {
+		connection = CodewindObjectFactory.createLocalConnection(new URI("http://localhost:10000/"));
+		apps = new ArrayList<CodewindApplication>();
+		for (int i = 0; i < APP_COUNT; i++) {
+			CodewindApplication app = CodewindObjectFactory.createCodewindApplication(connection, "id" + i, "project" + i,
+					ProjectType.TYPE_NODEJS, ProjectLanguage.LANGUAGE_NODEJS, new Path("/batch/project" + i));
+			apps.add(app);
+		}
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		connection.disconnect();
+	}
+
+	public void testParallel() throws Exception {
+		AtomicInteger running = new AtomicInteger();
+		AtomicInteger maxRunning = new AtomicInteger();
+		AtomicInteger count = new AtomicInteger();
+		long start = System.currentTimeMillis();
+		IStatus status = ProjectBatchOperation.run(apps, (app, monitor) -> {
+			maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+			Thread.sleep(200);
+			running.decrementAndGet();
+			count.incrementAndGet();
+		}, PLUGIN_ID, "Failed {0}", "Failed", new NullProgressMonitor());
+		TestUtil.print("Ran " + APP_COUNT + " operations in " + (System.currentTimeMillis() - start) + " ms");
+
+		assertTrue("The operations should succeed", status.isOK());
+		assertEquals("The operation should run for every project", APP_COUNT, count.get());
+		assertTrue("More than one operation should run at a time", maxRunning.get() > 1);
+		assertTrue("No more than " + ProjectBatchOperation.MAX_PARALLEL + " operations should run at a time",
+				maxRunning.get() <= ProjectBatchOperation.MAX_PARALLEL);
+	}
+
+	public void testErrors() throws Exception {
+		IStatus status = ProjectBatchOperation.run(apps, (app, monitor) -> {
+			if (app.name.endsWith("3") || app.name.endsWith("7")) {
+				throw new IOException("Failed " + app.name);
+			}
+		}, PLUGIN_ID, "Failed {0}", "Failed", new NullProgressMonitor());
+
+		assertEquals("The status should be an error", IStatus.ERROR, status.getSeverity());
+		assertTrue("The errors should be collected in a multi status", status instanceof MultiStatus);
+		assertEquals("There should be an error for each project that failed", 2, status.getChildren().length);
+
+		status = ProjectBatchOperation.run(apps.subList(3, 4), (app, monitor) -> {
+			throw new IOException("Failed " + app.name);
+		}, PLUGIN_ID, "Failed {0}", "Failed", new NullProgressMonitor());
+		assertEquals("A single project should give its own error", "Failed project3", status.getMessage());
+	}
+
+	public void testCancel() throws Exception {
+		AtomicInteger count = new AtomicInteger();
+		NullProgressMonitor monitor = new NullProgressMonitor();
+		IStatus status = ProjectBatchOperation.run(apps, (app, mon) -> {
+			count.incrementAndGet();
+			monitor.setCanceled(true);
+			while (!mon.isCanceled()) {
+				Thread.sleep(10);
+			}
+		}, PLUGIN_ID, "Failed {0}", "Failed", monitor);
+
+		assertEquals("The status should be canceled", IStatus.CANCEL, status.getSeverity());
+		assertTrue("The projects that had not started should be skipped", count.get() < APP_COUNT);
+	}
+
+	public void testProgress() throws Exception {
+		ProgressRecorder monitor = new ProgressRecorder();
+		AtomicInteger workedBeforeFinish = new AtomicInteger(-1);
+		List<String> results = ProjectBatchOperation.runAll(apps, app -> app.name, (app, mon) -> {
+			SubMonitor subMon = SubMonitor.convert(mon, 2);
+			subMon.worked(1);
+			try {
+				Thread.sleep(500);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			workedBeforeFinish.compareAndSet(-1, monitor.getWorked());
+			subMon.worked(1);
+			return app.name;
+		}, monitor);
+
+		assertEquals("There should be a result for every project", APP_COUNT, results.size());
+		assertTrue("The progress of the running tasks should be reported before they finish", workedBeforeFinish.get() > 0);
+		assertTrue("All of the work should be reported", monitor.getWorked() >= monitor.getTotal() - 1);
+	}
+
+	private static class ProgressRecorder extends NullProgressMonitor {
+		private int total = 0;
+		private int worked = 0;
+
+		@Override
+		public synchronized void beginTask(String name, int totalWork) {
+			total = totalWork;
+		}
+
+		@Override
+		public synchronized void worked(int work) {
+			worked += work;
+		}
+
+		public synchronized int getTotal() {
+			return total;
+		}
+
+		public synchronized int getWorked() {
+			return worked;
+		}
+	}
+}
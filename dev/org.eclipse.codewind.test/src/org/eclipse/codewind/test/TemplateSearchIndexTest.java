@@ -0,0 +1,123 @@
+/*******************************************************************************
+ * Copyright (c) 2020 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.codewind.test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+import org.eclipse.codewind.core.internal.connection.ProjectTemplateInfo;
+import org.eclipse.codewind.core.internal.connection.TemplateSearchIndex;
+import org.eclipse.codewind.core.internal.constants.ProjectLanguage;
+import org.eclipse.codewind.core.internal.constants.ProjectType;
+import org.eclipse.codewind.test.util.TestUtil;
+import org.json.JSONObject;
+
+import junit.framework.TestCase;
+
+/**
+ * Builds a search index for a large number of templates and checks that filtering
+ * gives the same results as checking every template, timing both.
+ */
+public class TemplateSearchIndexTest extends TestCase {
+
+	private static final int TEMPLATE_COUNT = 5000;
+
+	private static final String[] WORDS = {"node", "java", "spring", "swift", "python", "go", "microprofile",
+			"express", "kafka", "quarkus", "vertx", "django", "flask", "openliberty", "template", "stack", "starter"};
+	private static final String[] TYPES = {"nodejs", "liberty", "spring", "swift", "docker", "appsodyExtension"};
+	private static final String[] LANGUAGES = {"nodejs", "java", "swift", "python", "go"};
+
+	private List<ProjectTemplateInfo> templates;
+	private TemplateSearchIndex index;
+
+	@Override
+	protected void setUp() throws Exception {
+		Random random = new Random(TEMPLATE_COUNT);
+		templates = new ArrayList<ProjectTemplateInfo>();
+		for (int i = 0; i < TEMPLATE_COUNT; i++) {
+			JSONObject json = new JSONObject();
+			json.put(ProjectTemplateInfo.LABEL_KEY, getWord(random) + " " + getWord(random) + " " + i);
+			json.put(ProjectTemplateInfo.DESCRIPTION_KEY, "A " + getWord(random) + " " + getWord(random) + " " + getWord(random) + " project");
+			json.put(ProjectTemplateInfo.PROJECT_TYPE_KEY, TYPES[random.nextInt(TYPES.length)]);
+			json.put(ProjectTemplateInfo.LANGUAGE_KEY, LANGUAGES[random.nextInt(LANGUAGES.length)]);
+			json.put(ProjectTemplateInfo.SOURCE_KEY, "Source " + random.nextInt(20));
+			json.put(ProjectTemplateInfo.URL_KEY, "https://example.com/templates/" + i);
+			templates.add(new ProjectTemplateInfo(json));
+		}
+
+		long start = System.currentTimeMillis();
+		index = new TemplateSearchIndex(templates);
+		TestUtil.print("Indexed " + TEMPLATE_COUNT + " templates in " + (System.currentTimeMillis() - start) + " ms");
+	}
+
+	public void testTyping() throws Exception {
+		// Simulate the user typing a filter one character at a time, then deleting it
+		String filter = "microprofile";
+		long indexTime = 0;
+		long scanTime = 0;
+		for (int i = 1; i <= filter.length() * 2; i++) {
+			String query = filter.substring(0, i <= filter.length() ? i : filter.length() * 2 - i);
+			long start = System.nanoTime();
+			List<ProjectTemplateInfo> result = index.search(query);
+			indexTime += System.nanoTime() - start;
+
+			start = System.nanoTime();
+			List<ProjectTemplateInfo> expected = scan(query);
+			scanTime += System.nanoTime() - start;
+
+			assertEquals("The index should give the same templates as a full scan for: " + query, expected, result);
+		}
+		TestUtil.print("Typing with the index took " + indexTime / 1000000 + " ms, a full scan took " + scanTime / 1000000 + " ms");
+	}
+
+	public void testFields() throws Exception {
+		assertEquals("An empty filter should match all templates", TEMPLATE_COUNT, index.search("").size());
+		assertEquals("The label should be searched", scan("quarkus"), index.search("QUARKUS"));
+		assertEquals("The source should be searched", scan("source 1"), index.search("source 1"));
+		assertEquals("The language display name should be searched",
+				scan(ProjectLanguage.getDisplayName("python")), index.search(ProjectLanguage.getDisplayName("python")));
+		assertEquals("The type display name should be searched",
+				scan(ProjectType.getDisplayName("liberty")), index.search(ProjectType.getDisplayName("liberty")));
+		assertTrue("Nothing should match a filter that is not in any field", index.search("zzzz").isEmpty());
+	}
+
+	public void testWildcards() throws Exception {
+		List<ProjectTemplateInfo> result = index.search("spr?ng*kafka");
+		for (ProjectTemplateInfo info : result) {
+			String text = (info.getLabel() + "\n" + info.getDescription()).toLowerCase(Locale.ROOT);
+			assertTrue("The template should match the wildcard filter: " + info.getLabel(), text.matches("(?s).*spr.ng[^\\n]*kafka.*"));
+		}
+		assertFalse("Some templates should match the wildcard filter", result.isEmpty());
+	}
+
+	private List<ProjectTemplateInfo> scan(String filter) {
+		String query = filter.toLowerCase(Locale.ROOT);
+		List<ProjectTemplateInfo> result = new ArrayList<ProjectTemplateInfo>();
+		for (ProjectTemplateInfo info : templates) {
+			String[] fields = {info.getLabel(), ProjectType.getDisplayName(info.getProjectType()),
+					ProjectLanguage.getDisplayName(info.getLanguage()), info.getDescription(), info.getSource()};
+			for (String field : fields) {
+				if (field != null && field.toLowerCase(Locale.ROOT).contains(query)) {
+					result.add(info);
+					break;
+				}
+			}
+		}
+		return result;
+	}
+
+	private static String getWord(Random random) {
+		return WORDS[random.nextInt(WORDS.length)];
+	}
+}
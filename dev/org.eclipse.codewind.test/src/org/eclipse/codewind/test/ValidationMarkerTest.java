@@ -0,0 +1,186 @@
+/*******************************************************************************
+ * Copyright (c) 2020 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.codewind.test;
+
+import java.io.ByteArrayInputStream;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.codewind.core.internal.CodewindApplication.ValidationResult;
+import org.eclipse.codewind.core.internal.CodewindEclipseApplication;
+import org.eclipse.codewind.core.internal.CodewindObjectFactory;
+import org.eclipse.codewind.core.internal.connection.CodewindConnection;
+import org.eclipse.codewind.core.internal.constants.ProjectLanguage;
+import org.eclipse.codewind.core.internal.constants.ProjectType;
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IMarkerDelta;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IResourceChangeEvent;
+import org.eclipse.core.resources.IResourceChangeListener;
+import org.eclipse.core.resources.IResourceDelta;
+import org.eclipse.core.resources.ResourcesPlugin;
+
+import junit.framework.TestCase;
+
+/**
+ * Applies validation results to a workspace project and counts the resource
+ * change events and marker deltas that are produced.
+ */
+public class ValidationMarkerTest extends TestCase {
+
+	private static final String PROJECT_NAME = "validationmarkertest";
+	private static final int RESULT_COUNT = 500;
+	private static final int FILE_COUNT = 10;
+
+	private CodewindConnection connection;
+	private IProject project;
+	private CodewindEclipseApplication app;
+
+	@Override
+	protected void setUp() throws Exception {
+		project = ResourcesPlugin.getWorkspace().getRoot().getProject(PROJECT_NAME);
+		if (!project.exists()) {
+			project.create(null);
+		}
+		project.open(null);
+		for (int i = 0; i < FILE_COUNT; i++) {
+			IFile file = project.getFile("file" + i + ".txt");
+			if (!file.exists()) {
+				file.create(new ByteArrayInputStream(new byte[0]), true, null);
+			}
+		}
+		connection = CodewindObjectFactory.createLocalConnection(new URI("http://localhost:10000/"));
+		app = (CodewindEclipseApplication) CodewindObjectFactory.createCodewindApplication(connection, "validation-marker-test", PROJECT_NAME,
+				ProjectType.getType("nodejs", null), ProjectLanguage.getLanguage("nodejs"), project.getLocation());
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		connection.disconnect();
+		project.delete(true, true, null);
+	}
+
+	public void testInitialResults() throws Exception {
+		DeltaCounter counter = new DeltaCounter();
+		try {
+			app.updateValidationMarkers(getResults(0, RESULT_COUNT), null);
+		} finally {
+			counter.dispose();
+		}
+		assertEquals("The markers should be created in one workspace operation", 1, counter.events);
+		assertEquals("All of the markers should be added", RESULT_COUNT, counter.added);
+		assertEquals("There should be a marker for each result", RESULT_COUNT, getMarkerCount());
+	}
+
+	public void testReplayWithNoChanges() throws Exception {
+		app.updateValidationMarkers(getResults(0, RESULT_COUNT), null);
+
+		DeltaCounter counter = new DeltaCounter();
+		try {
+			app.updateValidationMarkers(getResults(0, RESULT_COUNT), null);
+		} finally {
+			counter.dispose();
+		}
+		assertEquals("No markers should be added", 0, counter.added);
+		assertEquals("No markers should be removed", 0, counter.removed);
+		assertEquals("No markers should be changed", 0, counter.changed);
+		assertEquals("The markers should be unchanged", RESULT_COUNT, getMarkerCount());
+	}
+
+	public void testPartialChange() throws Exception {
+		app.updateValidationMarkers(getResults(0, RESULT_COUNT), null);
+
+		DeltaCounter counter = new DeltaCounter();
+		try {
+			app.updateValidationMarkers(getResults(RESULT_COUNT / 2, RESULT_COUNT + RESULT_COUNT / 2), null);
+		} finally {
+			counter.dispose();
+		}
+		assertEquals("The markers should be updated in one workspace operation", 1, counter.events);
+		assertEquals("Only the new markers should be added", RESULT_COUNT / 2, counter.added);
+		assertEquals("Only the old markers should be removed", RESULT_COUNT / 2, counter.removed);
+		assertEquals("No markers should be changed", 0, counter.changed);
+		assertEquals("There should be a marker for each result", RESULT_COUNT, getMarkerCount());
+	}
+
+	public void testClear() throws Exception {
+		app.updateValidationMarkers(getResults(0, RESULT_COUNT), null);
+
+		DeltaCounter counter = new DeltaCounter();
+		try {
+			app.updateValidationMarkers(new ArrayList<ValidationResult>(), null);
+		} finally {
+			counter.dispose();
+		}
+		assertEquals("The markers should be removed in one workspace operation", 1, counter.events);
+		assertEquals("All of the markers should be removed", RESULT_COUNT, counter.removed);
+		assertEquals("There should be no markers", 0, getMarkerCount());
+	}
+
+	private List<ValidationResult> getResults(int start, int end) {
+		List<ValidationResult> results = new ArrayList<ValidationResult>();
+		for (int i = start; i < end; i++) {
+			String filePath = PROJECT_NAME + "/file" + (i % FILE_COUNT) + ".txt";
+			results.add(new ValidationResult(i % 2 == 0, filePath, "Validation problem " + i, null, null));
+		}
+		return results;
+	}
+
+	private int getMarkerCount() throws Exception {
+		return project.findMarkers(CodewindEclipseApplication.MARKER_TYPE, true, IResource.DEPTH_INFINITE).length;
+	}
+
+	private static class DeltaCounter implements IResourceChangeListener {
+		int events = 0;
+		int added = 0;
+		int removed = 0;
+		int changed = 0;
+
+		DeltaCounter() {
+			ResourcesPlugin.getWorkspace().addResourceChangeListener(this, IResourceChangeEvent.POST_CHANGE);
+		}
+
+		@Override
+		public void resourceChanged(IResourceChangeEvent event) {
+			events++;
+			try {
+				event.getDelta().accept(delta -> {
+					for (IMarkerDelta markerDelta : delta.getMarkerDeltas()) {
+						if (!CodewindEclipseApplication.MARKER_TYPE.equals(markerDelta.getType())) {
+							continue;
+						}
+						switch (markerDelta.getKind()) {
+							case IResourceDelta.ADDED:
+								added++;
+								break;
+							case IResourceDelta.REMOVED:
+								removed++;
+								break;
+							default:
+								changed++;
+								break;
+						}
+					}
+					return true;
+				});
+			} catch (Exception e) {
+				fail("Failed to process the resource delta: " + e);
+			}
+		}
+
+		void dispose() {
+			ResourcesPlugin.getWorkspace().removeResourceChangeListener(this);
+		}
+	}
+}
@@ -11,52 +11,262 @@
 
 package org.eclipse.codewind.ui.internal.actions;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.eclipse.codewind.core.internal.CodewindApplication;
+import org.eclipse.codewind.core.internal.CoreUtil;
 import org.eclipse.codewind.core.internal.Logger;
+import org.eclipse.codewind.core.internal.cli.ProjectBatchBind;
+import org.eclipse.codewind.core.internal.cli.ProjectBatchBind.BindRequest;
+import org.eclipse.codewind.core.internal.cli.ProjectBatchBind.BindResult;
+import org.eclipse.codewind.core.internal.cli.ProjectBatchBind.ValidateResult;
+import org.eclipse.codewind.core.internal.connection.CodewindConnection;
+import org.eclipse.codewind.core.internal.connection.CodewindConnectionManager;
+import org.eclipse.codewind.core.internal.constants.ProjectType;
+import org.eclipse.codewind.ui.CodewindUIPlugin;
+import org.eclipse.codewind.ui.internal.messages.Messages;
+import org.eclipse.codewind.ui.internal.views.ViewHelper;
 import org.eclipse.codewind.ui.internal.wizards.BindProjectWizard;
+import org.eclipse.codewind.ui.internal.wizards.ProjectDeployedDialog;
 import org.eclipse.core.resources.IProject;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.MultiStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.SubMonitor;
+import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.jface.action.IAction;
+import org.eclipse.jface.dialogs.MessageDialog;
 import org.eclipse.jface.viewers.ISelection;
 import org.eclipse.jface.viewers.IStructuredSelection;
+import org.eclipse.jface.viewers.LabelProvider;
+import org.eclipse.jface.window.Window;
 import org.eclipse.jface.wizard.WizardDialog;
+import org.eclipse.osgi.util.NLS;
 import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Shell;
 import org.eclipse.ui.IObjectActionDelegate;
 import org.eclipse.ui.IWorkbenchPart;
+import org.eclipse.ui.dialogs.ElementListSelectionDialog;
 
 public class BindProjectAction implements IObjectActionDelegate {
 	
-	private IProject project;
+	private List<IProject> projects = new ArrayList<IProject>();
 
 	@Override
 	public void run(IAction action) {
-		if (project == null) {
+		if (projects.isEmpty()) {
 			// Should not happen
 			Logger.logError("BindProjectAction ran but no project was selected"); //$NON-NLS-1$
 			return;
 		}
 
-		BindProjectWizard wizard = new BindProjectWizard(null, project);
+		if (projects.size() > 1) {
+			bindProjects(new ArrayList<IProject>(projects));
+			return;
+		}
+
+		BindProjectWizard wizard = new BindProjectWizard(null, projects.get(0));
 		WizardDialog dialog = new WizardDialog(Display.getDefault().getActiveShell(), wizard);
 		dialog.open();
 	}
 	
+	/**
+	 * Add the projects to a connection using the detected project types.  The projects are
+	 * validated in parallel and the user confirms the detected types, and what to do with any
+	 * existing deployments, as in the wizard.  Then the projects are bound in parallel and the
+	 * connection is refreshed once at the end.
+	 */
+	private void bindProjects(List<IProject> projects) {
+		CodewindConnection connection = selectConnection();
+		if (connection == null) {
+			return;
+		}
+		
+		Map<BindRequest, IProject> requests = new LinkedHashMap<BindRequest, IProject>();
+		for (IProject project : projects) {
+			if (connection.getAppByLocation(project.getLocation()) != null) {
+				Logger.log("Skipping the " + project.getName() + " project since it is already added to connection: " + connection.getName()); //$NON-NLS-1$ //$NON-NLS-2$
+				continue;
+			}
+			requests.put(new BindRequest(project.getName(), project.getLocation().toFile().getAbsolutePath()), project);
+		}
+		if (requests.isEmpty()) {
+			CoreUtil.openDialog(true, Messages.BindProjectErrorTitle, NLS.bind(Messages.BindProjectsAlreadyAddedError, connection.getName()));
+			return;
+		}
+		
+		Job job = new Job(NLS.bind(Messages.BindProjectsJobLabel, new String[] {connection.getName(), Integer.toString(requests.size())})) {
+			@Override
+			protected IStatus run(IProgressMonitor monitor) {
+				SubMonitor mon = SubMonitor.convert(monitor, 100);
+				MultiStatus multiStatus = new MultiStatus(CodewindUIPlugin.PLUGIN_ID, IStatus.ERROR,
+						NLS.bind(Messages.BindProjectsError, connection.getName()), null);
+				
+				// Detect the project types first so the user can confirm them
+				mon.setTaskName(NLS.bind(Messages.BindProjectsValidateJobLabel, new String[] {connection.getName(), Integer.toString(requests.size())}));
+				List<ValidateResult> validateResults = ProjectBatchBind.validateProjects(connection, new ArrayList<BindRequest>(requests.keySet()), mon.split(30));
+				List<ValidateResult> validated = new ArrayList<ValidateResult>();
+				for (ValidateResult result : validateResults) {
+					if (result.error != null) {
+						multiStatus.add(new Status(IStatus.ERROR, CodewindUIPlugin.PLUGIN_ID, NLS.bind(Messages.BindProjectsValidateError, result.request.name), result.error));
+					} else if (result.isOK() && result.info.type == ProjectType.TYPE_UNKNOWN) {
+						multiStatus.add(new Status(IStatus.ERROR, CodewindUIPlugin.PLUGIN_ID, NLS.bind(Messages.BindProjectsUnknownTypeError, result.request.name)));
+					} else if (result.isOK()) {
+						validated.add(result);
+					}
+				}
+				if (mon.isCanceled()) {
+					return Status.CANCEL_STATUS;
+				}
+				
+				// Ask the user to confirm the types and what to do with any existing deployments
+				List<BindItem> items = new ArrayList<BindItem>();
+				if (!validated.isEmpty()) {
+					validated.sort((r1, r2) -> r1.request.name.compareTo(r2.request.name));
+					Display.getDefault().syncExec(() -> items.addAll(confirmProjects(connection, validated, requests)));
+				}
+				if (items.isEmpty()) {
+					return multiStatus.isOK() ? Status.CANCEL_STATUS : multiStatus;
+				}
+				
+				// Check for a push registry if there are any Codewind style projects
+				if (!connection.isLocal() && items.stream().anyMatch(item -> ProjectType.isCodewindStyle(item.request.projectType))) {
+					try {
+						IStatus status = BindProjectWizard.checkPushRegistry(connection, mon.split(10));
+						if (!status.isOK()) {
+							return status;
+						}
+					} catch (Exception e) {
+						Logger.logError("An error occurred checking the push registry for connection: " + connection.getName(), e); //$NON-NLS-1$
+						return new Status(IStatus.ERROR, CodewindUIPlugin.PLUGIN_ID, Messages.NoPushRegistryError, e);
+					}
+				}
+				mon.setWorkRemaining(60);
+				
+				// Perform the selected action for projects already bound to another connection
+				SubMonitor deploymentMon = SubMonitor.convert(mon.split(10), items.size());
+				for (BindItem item : items) {
+					if (item.behaviour != null && !BindProjectWizard.handleExistingDeployments(item.behaviour, item.existingDeployments, deploymentMon.split(1))) {
+						return Status.CANCEL_STATUS;
+					}
+				}
+				
+				List<BindRequest> bindRequests = items.stream().map(item -> item.request).collect(Collectors.toList());
+				List<BindResult> results = ProjectBatchBind.bindProjects(connection, bindRequests, mon.split(50));
+				for (BindResult result : results) {
+					if (result.error != null) {
+						String msg = result.isTimeout() ? Messages.BindProjectWizardTimeout : Messages.BindProjectWizardError;
+						multiStatus.add(new Status(IStatus.ERROR, CodewindUIPlugin.PLUGIN_ID, NLS.bind(msg, result.request.path), result.error));
+					}
+				}
+				
+				ViewHelper.openCodewindExplorerView();
+				CodewindUIPlugin.getUpdateHandler().updateConnection(connection);
+				if (!multiStatus.isOK()) {
+					return multiStatus;
+				}
+				return monitor.isCanceled() ? Status.CANCEL_STATUS : Status.OK_STATUS;
+			}
+		};
+		job.schedule();
+	}
+	
+	/**
+	 * Ask the user to confirm the detected project types and, for any project that is already
+	 * deployed on another connection, what to do with the existing deployment.  Projects where
+	 * the user cancels the existing deployment dialog are skipped.  Must be called on the UI thread.
+	 */
+	private static List<BindItem> confirmProjects(CodewindConnection connection, List<ValidateResult> validated, Map<BindRequest, IProject> requests) {
+		List<BindItem> items = new ArrayList<BindItem>();
+		Shell shell = Display.getDefault().getActiveShell();
+		StringBuilder types = new StringBuilder();
+		for (ValidateResult result : validated) {
+			types.append(NLS.bind(Messages.BindProjectsConfirmEntry, result.request.name, result.info.type.getDisplayName())).append('\n');
+		}
+		if (!MessageDialog.openQuestion(shell, Messages.BindProjectsConfirmTitle, NLS.bind(Messages.BindProjectsConfirmMessage, connection.getName(), types.toString().trim()))) {
+			return items;
+		}
+		
+		for (ValidateResult result : validated) {
+			IPath projectPath = requests.get(result.request).getLocation();
+			List<CodewindApplication> existingDeployments = BindProjectWizard.getExistingDeployments(projectPath);
+			ProjectDeployedDialog.Behaviour behaviour = null;
+			if (!existingDeployments.isEmpty()) {
+				ProjectDeployedDialog dialog = new ProjectDeployedDialog(shell, projectPath, connection, existingDeployments);
+				if (dialog.open() != IStatus.OK) {
+					Logger.log("Skipping the " + result.request.name + " project since the existing deployment dialog was cancelled"); //$NON-NLS-1$ //$NON-NLS-2$
+					continue;
+				}
+				behaviour = dialog.getSelectedBehaviour();
+			}
+			items.add(new BindItem(result.getBindRequest(), existingDeployments, behaviour));
+		}
+		return items;
+	}
+	
+	private static class BindItem {
+		private final BindRequest request;
+		private final List<CodewindApplication> existingDeployments;
+		private final ProjectDeployedDialog.Behaviour behaviour;
+		
+		private BindItem(BindRequest request, List<CodewindApplication> existingDeployments, ProjectDeployedDialog.Behaviour behaviour) {
+			this.request = request;
+			this.existingDeployments = existingDeployments;
+			this.behaviour = behaviour;
+		}
+	}
+	
+	private CodewindConnection selectConnection() {
+		List<CodewindConnection> connections = CodewindConnectionManager.activeConnections().stream()
+				.filter(CodewindConnection::isConnected).collect(Collectors.toList());
+		if (connections.isEmpty()) {
+			CoreUtil.openDialog(true, Messages.BindProjectErrorTitle, Messages.BindProjectsNoConnectionError);
+			return null;
+		}
+		if (connections.size() == 1) {
+			return connections.get(0);
+		}
+		
+		ElementListSelectionDialog dialog = new ElementListSelectionDialog(Display.getDefault().getActiveShell(), new LabelProvider() {
+			@Override
+			public String getText(Object element) {
+				return ((CodewindConnection) element).getName();
+			}
+		});
+		dialog.setTitle(Messages.SelectConnectionPageTitle);
+		dialog.setMessage(Messages.SelectConnectionPageDescription);
+		dialog.setMultipleSelection(false);
+		dialog.setElements(connections.toArray());
+		if (dialog.open() != Window.OK) {
+			return null;
+		}
+		return (CodewindConnection) dialog.getFirstResult();
+	}
+	
 	@Override
 	public void selectionChanged(IAction action, ISelection selection) {
+        projects.clear();
         if (!(selection instanceof IStructuredSelection)) {
             action.setEnabled(false);
             return;
         }
 
         IStructuredSelection sel = (IStructuredSelection) selection;
-        if (sel.size() == 1) {
-            Object obj = sel.getFirstElement();
-            if (obj instanceof IProject) {
-            	project = (IProject)obj;
-            	action.setEnabled(project.isAccessible());
-            	return;
+        for (Object obj : sel.toList()) {
+            if (!(obj instanceof IProject) || !((IProject)obj).isAccessible()) {
+                projects.clear();
+                action.setEnabled(false);
+                return;
             }
+            projects.add((IProject)obj);
         }
-        
-        action.setEnabled(false);
+        action.setEnabled(!projects.isEmpty());
 	}
 
 	@Override
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2018, 2019 IBM Corporation and others.
+ * Copyright (c) 2018, 2020 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -11,14 +11,18 @@
 
 package org.eclipse.codewind.ui.internal.actions;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
 import org.eclipse.codewind.core.internal.CodewindApplication;
 import org.eclipse.codewind.core.internal.CodewindEclipseApplication;
 import org.eclipse.codewind.core.internal.Logger;
+import org.eclipse.codewind.core.internal.ProjectBatchOperation;
 import org.eclipse.codewind.ui.CodewindUIPlugin;
 import org.eclipse.codewind.ui.internal.messages.Messages;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
-import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.jface.viewers.ISelectionProvider;
 import org.eclipse.jface.viewers.IStructuredSelection;
@@ -26,11 +30,12 @@ import org.eclipse.osgi.util.NLS;
 import org.eclipse.ui.actions.SelectionProviderAction;
 
 /**
- * Action for enabling/disabling a Codewind project.  Not currently used.
+ * Action for enabling/disabling one or more Codewind projects.  All of the selected
+ * projects must currently be enabled or all must be disabled.
  */
 public class EnableDisableProjectAction extends SelectionProviderAction {
 
-    protected CodewindEclipseApplication app;
+    protected List<CodewindEclipseApplication> apps = new ArrayList<CodewindEclipseApplication>();
     
 	public EnableDisableProjectAction(ISelectionProvider selectionProvider) {
 		super(selectionProvider, Messages.DisableProjectLabel);
@@ -39,45 +44,56 @@ public class EnableDisableProjectAction extends SelectionProviderAction {
 
     @Override
     public void selectionChanged(IStructuredSelection sel) {
-        if (sel.size() == 1) {
-            Object obj = sel.getFirstElement();
-            if (obj instanceof CodewindEclipseApplication) {
-            	app = (CodewindEclipseApplication)obj;
-            	if (app.isAvailable()) {
-                	setText(Messages.DisableProjectLabel);
-                } else {
-                	setText(Messages.EnableProjectLabel);
-                }
-	            setEnabled(true);
-            	return;
+        apps = new ArrayList<CodewindEclipseApplication>();
+        for (Object obj : sel.toList()) {
+            if (!(obj instanceof CodewindEclipseApplication)) {
+                setEnabled(false);
+                return;
+            }
+            CodewindEclipseApplication app = (CodewindEclipseApplication)obj;
+            if (!apps.isEmpty() && app.isAvailable() != apps.get(0).isAvailable()) {
+                // Can't enable and disable at the same time
+                setEnabled(false);
+                return;
             }
+            apps.add(app);
         }
-        
-        setEnabled(false);
+        if (apps.isEmpty()) {
+            setEnabled(false);
+            return;
+        }
+        if (apps.get(0).isAvailable()) {
+        	setText(Messages.DisableProjectLabel);
+        } else {
+        	setText(Messages.EnableProjectLabel);
+        }
+        setEnabled(true);
     }
     
     @Override
     public void run() {
-        if (app == null) {
+        if (apps.isEmpty()) {
         	// should not be possible
         	Logger.logError("EnableDisableProjectAction ran but no application was selected"); //$NON-NLS-1$
 			return;
 		}
         
-        enableDisableProject(app, !app.isEnabled());
+        enableDisableProjects(apps, !apps.get(0).isEnabled());
     }
     
 	public static void enableDisableProject(CodewindApplication app, boolean enable) {
-		Job job = new Job(NLS.bind(Messages.EnableDisableProjectJob, app.name)) {
+		enableDisableProjects(Collections.singletonList(app), enable);
+	}
+	
+	public static void enableDisableProjects(List<? extends CodewindApplication> apps, boolean enable) {
+		final List<CodewindApplication> updateApps = new ArrayList<CodewindApplication>(apps);
+		String jobTitle = updateApps.size() == 1 ? NLS.bind(Messages.EnableDisableProjectJob, updateApps.get(0).name) :
+			NLS.bind(Messages.EnableDisableMultipleProjectsJob, updateApps.size());
+		Job job = new Job(jobTitle) {
 			@Override
 			protected IStatus run(IProgressMonitor monitor) {
-				try {
-					app.connection.requestProjectOpenClose(app, enable);
-					return Status.OK_STATUS;
-				} catch (Exception e) {
-					Logger.logError("An error occurred updating enablement for: " + app.name + ", with id: " + app.projectID, e); //$NON-NLS-1$ //$NON-NLS-2$
-					return new Status(IStatus.ERROR, CodewindUIPlugin.PLUGIN_ID, NLS.bind(Messages.ErrorOnEnableDisableProject, app.name), e);
-				}
+				return ProjectBatchOperation.run(updateApps, (app, mon) -> app.connection.requestProjectOpenClose(app, enable),
+						CodewindUIPlugin.PLUGIN_ID, Messages.ErrorOnEnableDisableProject, Messages.ErrorOnEnableDisableMultipleProjects, monitor);
 			}
 		};
 		job.schedule();
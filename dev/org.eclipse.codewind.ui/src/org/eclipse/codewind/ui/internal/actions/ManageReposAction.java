@@ -15,7 +15,6 @@ import java.lang.reflect.InvocationTargetException;
 import java.util.List;
 
 import org.eclipse.codewind.core.internal.Logger;
-import org.eclipse.codewind.core.internal.cli.TemplateUtil;
 import org.eclipse.codewind.core.internal.connection.CodewindConnection;
 import org.eclipse.codewind.core.internal.connection.RepositoryInfo;
 import org.eclipse.codewind.ui.internal.messages.Messages;
@@ -72,7 +71,7 @@ public class ManageReposAction extends SelectionProviderAction {
 			PlatformUI.getWorkbench().getProgressService().busyCursorWhile((monitor) -> {
 				try {
 					SubMonitor mon = SubMonitor.convert(monitor, NLS.bind(Messages.RepoListTask, connection.getName()), 100);
-					repoListArray[0] = TemplateUtil.listTemplateSources(connection.getConid(), mon.split(100));
+					repoListArray[0] = connection.getCatalog().getTemplateSources(mon.split(100));
 				} catch (Exception e) {
 					throw new InvocationTargetException(e, "An error occurred trying to get the template sources for: " + connection.getName() + ": " + e.getMessage()); //$NON-NLS-1$  //$NON-NLS-2$
 				}
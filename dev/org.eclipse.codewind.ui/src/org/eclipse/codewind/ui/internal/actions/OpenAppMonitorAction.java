@@ -22,6 +22,7 @@ import org.eclipse.codewind.ui.internal.messages.Messages;
 import org.eclipse.jface.viewers.ISelectionProvider;
 import org.eclipse.jface.viewers.IStructuredSelection;
 import org.eclipse.osgi.util.NLS;
+import org.eclipse.swt.widgets.Display;
 import org.eclipse.ui.PartInitException;
 import org.eclipse.ui.PlatformUI;
 import org.eclipse.ui.actions.SelectionProviderAction;
@@ -75,12 +76,19 @@ public class OpenAppMonitorAction extends SelectionProviderAction {
 			return;
 		}
 
-        app.confirmMetricsAvailable();
-        if (!app.hasMetricsDashboard()) {
-        	CoreUtil.openDialog(true, Messages.GenericActionNotSupported, Messages.AppMonitorNotSupported);
-        	return;
-        }
-
+        // The metrics dashboard is normally confirmed in the background when the application
+        // starts so only wait for the check if it has not finished yet
+        final CodewindApplication selectedApp = app;
+        selectedApp.confirmMetricsAvailable().thenAccept(available -> Display.getDefault().asyncExec(() -> {
+	        if (!available) {
+	        	CoreUtil.openDialog(true, Messages.GenericActionNotSupported, Messages.AppMonitorNotSupported);
+	        	return;
+	        }
+	        openDashboard(selectedApp, url);
+        }));
+    }
+    
+    private static void openDashboard(CodewindApplication app, URL url) {
 		try {
 			IWebBrowser browser = null;
 			IWorkbenchBrowserSupport browserSupport = PlatformUI.getWorkbench().getBrowserSupport();
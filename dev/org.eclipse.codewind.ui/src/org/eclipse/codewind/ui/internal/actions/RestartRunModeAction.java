@@ -11,8 +11,12 @@
 
 package org.eclipse.codewind.ui.internal.actions;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.eclipse.codewind.core.internal.CodewindEclipseApplication;
 import org.eclipse.codewind.core.internal.Logger;
+import org.eclipse.codewind.core.internal.ProjectBatchOperation;
 import org.eclipse.codewind.core.internal.cli.ProjectUtil;
 import org.eclipse.codewind.core.internal.constants.AppStatus;
 import org.eclipse.codewind.core.internal.constants.StartMode;
@@ -20,7 +24,6 @@ import org.eclipse.codewind.ui.CodewindUIPlugin;
 import org.eclipse.codewind.ui.internal.messages.Messages;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
-import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.jface.viewers.ISelectionProvider;
 import org.eclipse.jface.viewers.IStructuredSelection;
@@ -28,13 +31,14 @@ import org.eclipse.osgi.util.NLS;
 import org.eclipse.ui.actions.SelectionProviderAction;
 
 /**
- * Action to restart a Codewind application in run mode.
+ * Action to restart one or more Codewind applications in run mode.
  */
 public class RestartRunModeAction extends SelectionProviderAction {
 	
 	public static final String ACTION_ID = "org.eclipse.codewind.ui.restartRunModeAction";
 
-    protected CodewindEclipseApplication app;
+    protected List<CodewindEclipseApplication> apps = new ArrayList<CodewindEclipseApplication>();
+    protected boolean canRestart = false;
     
     public RestartRunModeAction(ISelectionProvider selectionProvider) {
         super(selectionProvider, Messages.RestartInRunMode);
@@ -44,48 +48,56 @@ public class RestartRunModeAction extends SelectionProviderAction {
 
     @Override
     public void selectionChanged(IStructuredSelection sel) {
-        if (sel.size() == 1) {
-            Object obj = sel.getFirstElement();
-            if (obj instanceof CodewindEclipseApplication) {
-            	app = (CodewindEclipseApplication)obj;
-            	if (app.isAvailable() && app.getProjectCapabilities().canRestart()) {
-		            setEnabled(app.getAppStatus() == AppStatus.STARTED || app.getAppStatus() == AppStatus.STARTING);
-	            	return;
-            	}
+        apps = new ArrayList<CodewindEclipseApplication>();
+        canRestart = false;
+        for (Object obj : sel.toList()) {
+            if (!(obj instanceof CodewindEclipseApplication)) {
+                setEnabled(false);
+                return;
+            }
+            CodewindEclipseApplication app = (CodewindEclipseApplication)obj;
+            if (!app.isAvailable() || !app.getProjectCapabilities().canRestart()) {
+                setEnabled(false);
+                return;
             }
+            apps.add(app);
+        }
+        canRestart = !apps.isEmpty();
+        boolean enabled = canRestart;
+        for (CodewindEclipseApplication app : apps) {
+            enabled = enabled && (app.getAppStatus() == AppStatus.STARTED || app.getAppStatus() == AppStatus.STARTING);
         }
-        setEnabled(false);
+        setEnabled(enabled);
     }
 
     @Override
     public void run() {
-        if (app == null) {
+        if (apps.isEmpty()) {
         	// should not be possible
         	Logger.logError("RestartRunModeAction ran but no application was selected"); //$NON-NLS-1$
 			return;
 		}
 
+        final List<CodewindEclipseApplication> restartApps = apps;
 		// Clear out any old launch and debug target
-		app.clearDebugger();
+		restartApps.forEach(app -> app.clearDebugger());
 
-		Job job = new Job(NLS.bind(Messages.RestartInRunModeTask, app.name)) {
+		String jobTitle = restartApps.size() == 1 ? NLS.bind(Messages.RestartInRunModeTask, restartApps.get(0).name) :
+			NLS.bind(Messages.RestartInRunModeMultipleTask, restartApps.size());
+		Job job = new Job(jobTitle) {
 			@Override
 			protected IStatus run(IProgressMonitor monitor) {
-				try {
-					// Restart the project in run mode
-					ProjectUtil.restartProject(app.name, app.projectID, StartMode.RUN.startMode, app.connection.getConid(), monitor);
-					return Status.OK_STATUS;
-				} catch (Exception e) {
-					Logger.logError("Error initiating restart for project: " + app.name, e); //$NON-NLS-1$
-					return new Status(IStatus.ERROR, CodewindUIPlugin.PLUGIN_ID, NLS.bind(Messages.ErrorOnRestartMsg, app.name), e);
-				}
+				// Restart the projects in run mode
+				return ProjectBatchOperation.run(restartApps,
+						(app, mon) -> ProjectUtil.restartProject(app.name, app.projectID, StartMode.RUN.startMode, app.connection.getConid(), mon),
+						CodewindUIPlugin.PLUGIN_ID, Messages.ErrorOnRestartMsg, Messages.ErrorOnRestartMultipleMsg, monitor);
 			}
 		};
 		job.schedule();
     }
     
     public boolean showAction() {
-    	// Don't show the action if the app does not support restart
-    	return (app != null && app.isAvailable() && app.getProjectCapabilities().canRestart());
+    	// Don't show the action if the apps do not support restart
+    	return canRestart;
     }
 }
@@ -11,24 +11,30 @@
 
 package org.eclipse.codewind.ui.internal.actions;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.eclipse.codewind.core.internal.CodewindApplication;
-import org.eclipse.codewind.core.internal.CoreUtil;
 import org.eclipse.codewind.core.internal.Logger;
+import org.eclipse.codewind.core.internal.ProjectBatchOperation;
 import org.eclipse.codewind.core.internal.constants.BuildStatus;
 import org.eclipse.codewind.core.internal.constants.CoreConstants;
 import org.eclipse.codewind.ui.CodewindUIPlugin;
 import org.eclipse.codewind.ui.internal.messages.Messages;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.jface.viewers.ISelectionProvider;
 import org.eclipse.jface.viewers.IStructuredSelection;
 import org.eclipse.osgi.util.NLS;
 import org.eclipse.ui.actions.SelectionProviderAction;
 
 /**
- * Action to start an application build.
+ * Action to start a build for one or more applications.
  */
 public class StartBuildAction extends SelectionProviderAction {
 
-	protected CodewindApplication app;
+	protected List<CodewindApplication> apps = new ArrayList<CodewindApplication>();
 	
 	public StartBuildAction(ISelectionProvider selectionProvider) {
 		super(selectionProvider, Messages.StartBuildActionLabel);
@@ -38,33 +44,41 @@ public class StartBuildAction extends SelectionProviderAction {
 
 	@Override
 	public void selectionChanged(IStructuredSelection sel) {
-		if (sel.size() == 1) {
-			Object obj = sel.getFirstElement();
-			if (obj instanceof CodewindApplication) {
-				app = (CodewindApplication) obj;
-				if (app.isAvailable() && app.getBuildStatus() != BuildStatus.IN_PROGRESS && app.getBuildStatus() != BuildStatus.QUEUED) {
-					setEnabled(true);
-					return;
-				}
+		apps = new ArrayList<CodewindApplication>();
+		for (Object obj : sel.toList()) {
+			if (!(obj instanceof CodewindApplication)) {
+				setEnabled(false);
+				return;
+			}
+			CodewindApplication app = (CodewindApplication) obj;
+			if (!app.isAvailable() || app.getBuildStatus() == BuildStatus.IN_PROGRESS || app.getBuildStatus() == BuildStatus.QUEUED) {
+				setEnabled(false);
+				return;
 			}
+			apps.add(app);
 		}
-		setEnabled(false);
+		setEnabled(!apps.isEmpty());
 	}
 
 	@Override
 	public void run() {
-		if (app == null) {
+		if (apps.isEmpty()) {
 			// should not be possible
 			Logger.logError("StartBuildAction ran but no application was selected"); //$NON-NLS-1$
 			return;
 		}
 
-		try {
-			app.connection.requestProjectBuild(app, CoreConstants.VALUE_ACTION_BUILD);
-		} catch (Exception e) {
-			Logger.logError("Error requesting build for application: " + app.name, e); //$NON-NLS-1$
-			CoreUtil.openDialog(true, NLS.bind(Messages.StartBuildError, app.name), e.getMessage());
-			return;
-		}
+		final List<CodewindApplication> buildApps = apps;
+		String jobTitle = buildApps.size() == 1 ? NLS.bind(Messages.StartBuildJob, buildApps.get(0).name) :
+			NLS.bind(Messages.StartBuildMultipleJob, buildApps.size());
+		Job job = new Job(jobTitle) {
+			@Override
+			protected IStatus run(IProgressMonitor monitor) {
+				return ProjectBatchOperation.run(buildApps,
+						(app, mon) -> app.connection.requestProjectBuild(app, CoreConstants.VALUE_ACTION_BUILD),
+						CodewindUIPlugin.PLUGIN_ID, Messages.StartBuildError, Messages.StartBuildMultipleError, monitor);
+			}
+		};
+		job.schedule();
 	}
 }
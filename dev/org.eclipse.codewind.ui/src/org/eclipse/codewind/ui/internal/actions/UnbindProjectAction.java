@@ -16,14 +16,13 @@ import java.util.List;
 
 import org.eclipse.codewind.core.internal.CodewindEclipseApplication;
 import org.eclipse.codewind.core.internal.Logger;
+import org.eclipse.codewind.core.internal.ProjectBatchOperation;
 import org.eclipse.codewind.core.internal.cli.ProjectUtil;
 import org.eclipse.codewind.ui.CodewindUIPlugin;
 import org.eclipse.codewind.ui.internal.IDEUtil;
 import org.eclipse.codewind.ui.internal.messages.Messages;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
-import org.eclipse.core.runtime.Status;
-import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.jface.dialogs.IDialogConstants;
 import org.eclipse.jface.dialogs.MessageDialog;
@@ -100,6 +99,7 @@ public class UnbindProjectAction extends SelectionProviderAction {
 		});
 		if (result[0] == 0) {  // OK button is 0 index
 			final boolean deleteContent = removeDialog.getDeleteContent();
+			final List<CodewindEclipseApplication> removeApps = apps;
 			String jobTitle;
 			if (apps.size() == 1) {
 				jobTitle = NLS.bind(Messages.UnbindActionJobTitle, apps.get(0).name);
@@ -109,20 +109,10 @@ public class UnbindProjectAction extends SelectionProviderAction {
 			Job job = new Job(jobTitle) {
 				@Override
 				protected IStatus run(IProgressMonitor monitor) {
-					SubMonitor mon = SubMonitor.convert(monitor, 40 * apps.size());
-					for (CodewindEclipseApplication app : apps) {
-						try {
-							app.setDeleteContents(deleteContent);
-							ProjectUtil.removeProject(app.name, app.projectID, mon.split(40));
-						} catch (Exception e) {
-							Logger.logError("Error requesting application remove: " + app.name, e); //$NON-NLS-1$
-							return new Status(IStatus.ERROR, CodewindUIPlugin.PLUGIN_ID, NLS.bind(Messages.UnbindActionError, app.name), e);
-						}
-						if (monitor.isCanceled()) {
-							return Status.CANCEL_STATUS;
-						}
-					}
-					return Status.OK_STATUS;
+					return ProjectBatchOperation.run(removeApps, (app, mon) -> {
+						app.setDeleteContents(deleteContent);
+						ProjectUtil.removeProject(app.name, app.projectID, mon);
+					}, CodewindUIPlugin.PLUGIN_ID, Messages.UnbindActionError, Messages.UnbindActionMultipleError, monitor);
 				}
 			};
 			job.schedule();
@@ -17,8 +17,10 @@ import java.util.Date;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.eclipse.codewind.core.internal.CodewindApplication;
+import org.eclipse.codewind.core.internal.CodewindApplication.Field;
 import org.eclipse.codewind.core.internal.CodewindEclipseApplication;
 import org.eclipse.codewind.core.internal.Logger;
 import org.eclipse.codewind.core.internal.cli.ProjectLinks;
@@ -116,6 +118,9 @@ public class ApplicationOverviewEditorPart extends EditorPart implements UpdateL
 	private AppInfoSection appInfoSection = null;
 	
 	private Font boldFont;
+	
+	// Set while an update is waiting to run on the UI thread so that a burst of events only causes one update
+	private final AtomicBoolean updatePending = new AtomicBoolean(false);
 
 	@Override
 	public void doSave(IProgressMonitor arg0) {
@@ -263,7 +268,8 @@ public class ApplicationOverviewEditorPart extends EditorPart implements UpdateL
 					@Override
 					protected IStatus run(IProgressMonitor monitor) {
 						app.connection.refreshApps(app.projectID);
-						Display.getDefault().asyncExec(() -> ApplicationOverviewEditorPart.this.update(conn, app));
+						// Update everything since some of the information (such as the settings file) is not tracked
+						Display.getDefault().asyncExec(() -> ApplicationOverviewEditorPart.this.update(conn, app, true));
 						return Status.OK_STATUS;
 					}
 				};
@@ -278,47 +284,45 @@ public class ApplicationOverviewEditorPart extends EditorPart implements UpdateL
 	@Override
 	public void update(UpdateType type, Object element) {
 		if (element instanceof CodewindApplication && ((CodewindApplication)element).projectID.equals(projectId)) {
-			Display.getDefault().asyncExec(() -> {
-				switch(type) {
-				case MODIFY:
-					CodewindApplication app = (CodewindApplication)element;
-					ApplicationOverviewEditorPart.this.update(app.connection, app);
-					break;
-				case REMOVE:
-					ApplicationOverviewEditorPart.this.getEditorSite().getPage().closeEditor(ApplicationOverviewEditorPart.this, false);
-					break;
-				}
-			});
+			switch(type) {
+			case MODIFY:
+				scheduleUpdate();
+				break;
+			case REMOVE:
+				closeEditor();
+				break;
+			}
 		} else if (element instanceof CodewindConnection && ((CodewindConnection)element).getConid().equals(connectionId)) {
-			Display.getDefault().asyncExec(() -> {
-				switch(type) {
-				case MODIFY:
-					CodewindConnection conn = (CodewindConnection)element;
-					CodewindApplication app = conn.getAppByID(projectId);
-					ApplicationOverviewEditorPart.this.update(conn, app);
-					break;
-				case REMOVE:
-					ApplicationOverviewEditorPart.this.getEditorSite().getPage().closeEditor(ApplicationOverviewEditorPart.this, false);
-					break;
-				}
-			});
+			switch(type) {
+			case MODIFY:
+				scheduleUpdate();
+				break;
+			case REMOVE:
+				closeEditor();
+				break;
+			}
 		} else if (element == null) {
-			// A null element means update everything
-			CodewindApplication app = getApp(getConn());
-			if (app != null) {
-				Display.getDefault().asyncExec(() -> {
-					switch(type) {
-					case MODIFY:
-						ApplicationOverviewEditorPart.this.update(app.connection, app);
-						break;
-					case REMOVE:
-						// Do nothing. There should never be a top level remove event.
-						break;
-					}
-				});
+			// A null element means update everything.  There should never be a top level remove event.
+			if (type == UpdateType.MODIFY) {
+				scheduleUpdate();
 			}
 		}
 	}
+	
+	private void scheduleUpdate() {
+		// Has no effect if an update is already waiting to run
+		if (updatePending.compareAndSet(false, true)) {
+			Display.getDefault().asyncExec(() -> {
+				updatePending.set(false);
+				CodewindConnection conn = getConn();
+				update(conn, getApp(conn));
+			});
+		}
+	}
+	
+	private void closeEditor() {
+		Display.getDefault().asyncExec(() -> getEditorSite().getPage().closeEditor(ApplicationOverviewEditorPart.this, false));
+	}
 
 	public void update(CodewindConnection conn, CodewindApplication app) {
 		update(conn, app, false);
@@ -342,10 +346,14 @@ public class ApplicationOverviewEditorPart extends EditorPart implements UpdateL
 			((GridData)messageComp.getLayoutData()).exclude = true;
 			sectionComp.setVisible(true);
 			((GridData)sectionComp.getLayoutData()).exclude = false;
-			projectInfoSection.update(app);
-			projectStatusSection.update(app);
-			projectLinkSection.update(app);
-			appInfoSection.update(app);
+			// Each section only updates its controls if something it shows has changed
+			boolean sectionChanged = projectInfoSection.update(app, init);
+			sectionChanged |= projectStatusSection.update(app, init);
+			sectionChanged |= projectLinkSection.update(app, init);
+			sectionChanged |= appInfoSection.update(app, init);
+			if (!sectionChanged && !changed) {
+				return;
+			}
 		}
 
 		Point currentSize = form.getBody().getSize();
@@ -372,6 +380,7 @@ public class ApplicationOverviewEditorPart extends EditorPart implements UpdateL
 	}
 	
 	private class ProjectInfoSection {
+		private final RenderedState rendered = new RenderedState();
 		
 		private final StringEntry typeEntry;
 		private final StringEntry languageEntry;
@@ -402,15 +411,21 @@ public class ApplicationOverviewEditorPart extends EditorPart implements UpdateL
 	        locationEntry = new StringEntry(composite, Messages.AppOverviewEditorLocationEntry);
 		}
 		
-		public void update(CodewindApplication app) {
+		public boolean update(CodewindApplication app, boolean force) {
+			// Everything shown here is fixed for the application
+			if (!rendered.update(app, 0, force)) {
+				return false;
+			}
 			typeEntry.setValue(app.projectType.getDisplayName(), true);
 			languageEntry.setValue(app.projectLanguage.getDisplayName(), true);
 			projectIdEntry.setValue(app.projectID, true);
 			locationEntry.setValue(app.fullLocalPath.toOSString(), true);
+			return true;
 		}
 	}
 	
 	private class ProjectStatusSection {
+		private final RenderedState rendered = new RenderedState();
 		private final StringEntry autoBuildEntry;
 		private final StringEntry injectMetricsEntry;
 		private final StringEntry appStatusEntry;
@@ -490,7 +505,12 @@ public class ApplicationOverviewEditorPart extends EditorPart implements UpdateL
 			IDEUtil.paintBackgroundToMatch(noProjectLogs, composite);
 		}
 		
-		public void update(CodewindApplication app) {
+		public boolean update(CodewindApplication app, boolean force) {
+			long version = app.getVersion(Field.ENABLED, Field.ACTION, Field.AUTO_BUILD, Field.METRICS, Field.APP_STATUS,
+					Field.BUILD_STATUS, Field.START_MODE, Field.LAST_BUILD, Field.LOGS);
+			if (!rendered.update(app, version, force)) {
+				return false;
+			}
 			autoBuildEntry.setValue(app.isAutoBuild() ? Messages.AppOverviewEditorAutoBuildOn : Messages.AppOverviewEditorAutoBuildOff, true);
 			injectMetricsEntry.setValue(metricsInjectionState(app.canInjectMetrics(), app.isMetricsInjected()), true);
 			appStatusEntry.setValue(getAppStatusString(app), true);
@@ -533,6 +553,7 @@ public class ApplicationOverviewEditorPart extends EditorPart implements UpdateL
 					noProjectLogs.requestLayout();
 				}
 			}
+			return true;
 		}
 		
 		private String getAppStatusString(CodewindApplication app) {
@@ -565,6 +586,7 @@ public class ApplicationOverviewEditorPart extends EditorPart implements UpdateL
 	}
 	
 	private class ProjectLinkSection {
+		private final RenderedState rendered = new RenderedState();
 		
 		private final Text toLinkDescriptionText, fromLinkDescriptionText;
 		private final LinkTable toLinkTable, fromLinkTable;
@@ -628,7 +650,13 @@ public class ApplicationOverviewEditorPart extends EditorPart implements UpdateL
 			((GridData) fromLinkTable.tableComp.getLayoutData()).exclude = true;
 		}
 		
-		public void update(CodewindApplication app) {
+		public boolean update(CodewindApplication app, boolean force) {
+			// The links from other projects and the target names change with the rest of the connection
+			long version = app.getVersion(Field.LINKS) + app.connection.getLinksVersion();
+			if (!rendered.update(app, version, force)) {
+				return false;
+			}
+			
 			// Update links
 			int itemCount = toLinkTable.linkTable.getItemCount();
 			toLinkTable.linkTable.removeAll();
@@ -670,7 +698,7 @@ public class ApplicationOverviewEditorPart extends EditorPart implements UpdateL
 				});
 			}
 			fromLinkTable.updateTable(itemCount, fromLinkDescriptionText, Messages.AppOverviewEditorProjectLinksNoFromLinks, Messages.AppOverviewEditorProjectLinksFromDescription);
-			
+			return true;
 		}
 		
 		private class LinkTable {
@@ -744,6 +772,7 @@ public class ApplicationOverviewEditorPart extends EditorPart implements UpdateL
 	}
 	
 	private class AppInfoSection {
+		private final RenderedState rendered = new RenderedState();
 		private final StringEntry containerIdEntry;
 		private final StringEntry podNameEntry;
 		private final StringEntry namespaceEntry;
@@ -870,7 +899,12 @@ public class ApplicationOverviewEditorPart extends EditorPart implements UpdateL
 	        });
 		}
 		
-		public void update(CodewindApplication app) {
+		public boolean update(CodewindApplication app, boolean force) {
+			long version = app.getVersion(Field.ENABLED, Field.ACTION, Field.CONTAINER, Field.URLS, Field.PORTS,
+					Field.START_MODE, Field.CAPABILITIES);
+			if (!rendered.update(app, version, force)) {
+				return false;
+			}
 			if (app.connection.isLocal()) {
 				containerIdEntry.setValue(app.isAvailable() ? app.getContainerId() : null, true);
 				podNameEntry.setValue(null, false);
@@ -900,6 +934,7 @@ public class ApplicationOverviewEditorPart extends EditorPart implements UpdateL
 			boolean hasSettingsFile = hasSettingsFile(app);
 			IDEUtil.setControlVisibility(editButton, hasSettingsFile);
 			IDEUtil.setControlVisibility(infoButton, hasSettingsFile);
+			return true;
 		}
 		
 		private boolean hasSettingsFile(CodewindApplication app) {
@@ -918,6 +953,26 @@ public class ApplicationOverviewEditorPart extends EditorPart implements UpdateL
 		}
 	}
 	
+	/**
+	 * The application and version of its state that a section last showed.
+	 */
+	private static class RenderedState {
+		private CodewindApplication app = null;
+		private long version = -1;
+		
+		/**
+		 * @return true if the section needs to be updated, in which case the new state is recorded
+		 */
+		boolean update(CodewindApplication app, long version, boolean force) {
+			if (!force && this.app == app && this.version == version) {
+				return false;
+			}
+			this.app = app;
+			this.version = version;
+			return true;
+		}
+	}
+	
 	@SuppressWarnings("deprecation")
 	private String formatTimestamp(long timestamp) {
 		// Temporary - improve by showing how long ago the build happened
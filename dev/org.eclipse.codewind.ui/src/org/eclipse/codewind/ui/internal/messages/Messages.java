@@ -113,6 +113,7 @@ public class Messages extends NLS {
 	public static String CodewindDisconnectedDetails;
 	public static String CodewindProjectNoStatus;
 	public static String CodewindProjectDisabled;
+	public static String CodewindRestoringQualifier;
 	public static String CodewindConnectionNoProjects;
 	public static String CodewindDescriptionContextRoot;
 	public static String CodewindHoverForDetails;
@@ -136,6 +137,7 @@ public class Messages extends NLS {
 	public static String UnbindActionJobTitle;
 	public static String UnbindActionMultipleJobTitle;
 	public static String UnbindActionError;
+	public static String UnbindActionMultipleError;
 	public static String UnbindActionBrokenLinksErrorSingle;
 	public static String UnbindActionBrokenLinksErrorMulti;
 	
@@ -187,6 +189,16 @@ public class Messages extends NLS {
 	public static String BindProjectWizardJobLabel;
 	public static String BindProjectWizardError;
 	public static String BindProjectWizardTimeout;
+	public static String BindProjectsJobLabel;
+	public static String BindProjectsError;
+	public static String BindProjectsNoConnectionError;
+	public static String BindProjectsAlreadyAddedError;
+	public static String BindProjectsValidateJobLabel;
+	public static String BindProjectsValidateError;
+	public static String BindProjectsUnknownTypeError;
+	public static String BindProjectsConfirmTitle;
+	public static String BindProjectsConfirmMessage;
+	public static String BindProjectsConfirmEntry;
 	
 	public static String SelectConnectionPageName;
 	public static String SelectConnectionPageTitle;
@@ -196,6 +208,8 @@ public class Messages extends NLS {
 	public static String MoveProjectJobLabel;
 	public static String MoveProjectError;
 	public static String MoveProjectTimeout;
+	public static String MoveProjectsJobLabel;
+	public static String MoveProjectsError;
 	
 	public static String ProjectDeployedDialogShell;
 	public static String ProjectDeployedDialogTitle;
@@ -254,11 +268,15 @@ public class Messages extends NLS {
 	public static String RestartInRunMode;
 	public static String RestartInRunModeTask;
 	public static String ErrorOnRestartMsg;
+	public static String RestartInRunModeMultipleTask;
+	public static String ErrorOnRestartMultipleMsg;
 	
 	public static String EnableProjectLabel;
 	public static String DisableProjectLabel;
 	public static String EnableDisableProjectJob;
 	public static String ErrorOnEnableDisableProject;
+	public static String EnableDisableMultipleProjectsJob;
+	public static String ErrorOnEnableDisableMultipleProjects;
 	
 	public static String EnableAutoBuildLabel;
 	public static String DisableAutoBuildLabel;
@@ -327,6 +345,9 @@ public class Messages extends NLS {
 	public static String ImportProjectError;
 	public static String StartBuildActionLabel;
 	public static String StartBuildError;
+	public static String StartBuildJob;
+	public static String StartBuildMultipleJob;
+	public static String StartBuildMultipleError;
 	
 	public static String DialogYesButton;
 	public static String DialogNoButton;
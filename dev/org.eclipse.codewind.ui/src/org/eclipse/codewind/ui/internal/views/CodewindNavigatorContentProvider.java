@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2018, 2019 IBM Corporation and others.
+ * Copyright (c) 2018, 2020 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -17,6 +17,7 @@ import org.eclipse.codewind.core.internal.CodewindApplication;
 import org.eclipse.codewind.core.internal.CodewindManager;
 import org.eclipse.codewind.core.internal.connection.CodewindConnection;
 import org.eclipse.codewind.core.internal.connection.CodewindConnectionManager;
+import org.eclipse.codewind.core.internal.connection.ConnectionSnapshot.AppEntry;
 import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.jface.viewers.ITreeContentProvider;
 
@@ -32,7 +33,13 @@ public class CodewindNavigatorContentProvider implements ITreeContentProvider {
 			return connections.toArray(new CodewindConnection[connections.size()]);
 		} else if (obj instanceof CodewindConnection) {
 			CodewindConnection connection = (CodewindConnection)obj;
-			List<CodewindApplication> apps = connection.getApps();
+			// Already sorted so the sorter has no work to do
+			List<CodewindApplication> apps = connection.getSortedApps();
+			if (apps.isEmpty() && connection.isRestoring()) {
+				// Show the projects from the last session until the connection is restored
+				List<AppEntry> entries = connection.getSnapshotApps();
+				return entries.toArray(new AppEntry[entries.size()]);
+			}
 			return apps.toArray(new CodewindApplication[apps.size()]);
 		}
 		return null;
@@ -52,6 +59,8 @@ public class CodewindNavigatorContentProvider implements ITreeContentProvider {
 		} else if (obj instanceof CodewindApplication) {
 			CodewindApplication app = (CodewindApplication)obj;
 			return app.connection;
+		} else if (obj instanceof AppEntry) {
+			return CodewindConnectionManager.getConnectionById(((AppEntry)obj).conid);
 		}
 		return null;
 	}
@@ -62,7 +71,10 @@ public class CodewindNavigatorContentProvider implements ITreeContentProvider {
 			return !CodewindConnectionManager.activeConnections().isEmpty();
 		} else if (obj instanceof CodewindConnection) {
 			CodewindConnection connection = (CodewindConnection)obj;
-			return connection.isConnected() && !connection.getApps().isEmpty();
+			if (connection.isRestoring()) {
+				return !connection.getSnapshotApps().isEmpty();
+			}
+			return connection.isConnected() && !connection.getSortedApps().isEmpty();
 		}
 		return false;
 	}
@@ -11,36 +11,40 @@
 
 package org.eclipse.codewind.ui.internal.views;
 
-import java.util.concurrent.TimeoutException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.eclipse.codewind.core.CodewindCorePlugin;
 import org.eclipse.codewind.core.internal.CodewindApplication;
-import org.eclipse.codewind.core.internal.CoreUtil;
 import org.eclipse.codewind.core.internal.Logger;
+import org.eclipse.codewind.core.internal.cli.ProjectBatchBind;
+import org.eclipse.codewind.core.internal.cli.ProjectBatchBind.BindRequest;
+import org.eclipse.codewind.core.internal.cli.ProjectBatchBind.BindResult;
 import org.eclipse.codewind.core.internal.cli.ProjectUtil;
 import org.eclipse.codewind.core.internal.connection.CodewindConnection;
 import org.eclipse.codewind.core.internal.constants.ProjectType;
 import org.eclipse.codewind.ui.CodewindUIPlugin;
-import org.eclipse.codewind.ui.internal.UIConstants;
 import org.eclipse.codewind.ui.internal.actions.OpenAppOverviewAction;
 import org.eclipse.codewind.ui.internal.messages.Messages;
-import org.eclipse.codewind.ui.internal.prefs.RegistryManagementDialog;
 import org.eclipse.codewind.ui.internal.wizards.BindProjectWizard;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.MultiStatus;
+import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.core.runtime.jobs.Job;
-import org.eclipse.jface.dialogs.IDialogConstants;
-import org.eclipse.jface.dialogs.MessageDialog;
 import org.eclipse.jface.util.LocalSelectionTransfer;
 import org.eclipse.jface.viewers.ISelection;
 import org.eclipse.jface.viewers.IStructuredSelection;
 import org.eclipse.osgi.util.NLS;
 import org.eclipse.swt.dnd.DropTargetEvent;
 import org.eclipse.swt.dnd.TransferData;
-import org.eclipse.swt.widgets.Composite;
-import org.eclipse.swt.widgets.Control;
 import org.eclipse.swt.widgets.Display;
 import org.eclipse.ui.navigator.CommonDropAdapter;
 import org.eclipse.ui.navigator.CommonDropAdapterAssistant;
@@ -48,31 +52,30 @@ import org.eclipse.ui.navigator.CommonDropAdapterAssistant;
 public class CodewindNavigatorDropAssistant extends CommonDropAdapterAssistant {
 	
 	private CodewindConnection targetConn;
-	private CodewindApplication sourceApp;
+	private List<CodewindApplication> sourceApps;
 	
 	@Override
 	public IStatus validateDrop(Object target, int operation, TransferData transferData) {
 		targetConn = null;
-		sourceApp = null;
+		sourceApps = null;
 		if (!(target instanceof CodewindConnection) || !((CodewindConnection)target).isConnected()) {
 			return Status.CANCEL_STATUS;
 		}
 		targetConn = (CodewindConnection)target;
 		
-		// Check that the source is an application that is not already added to this connection
+		// Check that the source is one or more applications that are not already added to this connection
 		if (LocalSelectionTransfer.getTransfer().isSupportedType(transferData)) {
 			ISelection s = LocalSelectionTransfer.getTransfer().getSelection();
 			if (!s.isEmpty() && s instanceof IStructuredSelection) {
-				IStructuredSelection sel = (IStructuredSelection) s;
-				Object obj = sel.getFirstElement();
-				if (obj instanceof CodewindApplication) {
-					CodewindApplication app = targetConn.getAppByName(((CodewindApplication)obj).name);
-					if (app != null) {
+				List<CodewindApplication> apps = new ArrayList<CodewindApplication>();
+				for (Object obj : ((IStructuredSelection) s).toList()) {
+					if (!(obj instanceof CodewindApplication) || targetConn.getAppByName(((CodewindApplication)obj).name) != null) {
 						return Status.CANCEL_STATUS;
 					}
-					sourceApp = (CodewindApplication)obj;
-					return Status.OK_STATUS;
+					apps.add((CodewindApplication)obj);
 				}
+				sourceApps = apps;
+				return Status.OK_STATUS;
 			}
 		}
 		return Status.CANCEL_STATUS;
@@ -80,78 +83,94 @@ public class CodewindNavigatorDropAssistant extends CommonDropAdapterAssistant {
 
 	@Override
 	public IStatus handleDrop(CommonDropAdapter dropAdapter, DropTargetEvent dropTargetEvent, Object target) {
-		if (targetConn == null || sourceApp == null) {
+		if (targetConn == null || sourceApps == null || sourceApps.isEmpty()) {
 			// This should not happen
 			Logger.logError("Drop handler called but either the target or the source is null");
 			return Status.CANCEL_STATUS;
 		}
 		
-		String jobName = NLS.bind(Messages.MoveProjectJobLabel, new String[] {targetConn.getName(), sourceApp.name});
+		final CodewindConnection targetConn = this.targetConn;
+		final List<CodewindApplication> sourceApps = this.sourceApps;
+		String jobName = sourceApps.size() == 1 ?
+				NLS.bind(Messages.MoveProjectJobLabel, new String[] {targetConn.getName(), sourceApps.get(0).name}) :
+				NLS.bind(Messages.MoveProjectsJobLabel, new String[] {targetConn.getName(), Integer.toString(sourceApps.size())});
 		Job job = new Job(jobName) {
 			@Override
 			protected IStatus run(IProgressMonitor monitor) {
-				try {
-					SubMonitor mon = SubMonitor.convert(monitor, jobName, 120);
-					
-					// Check for a push registry if Codewind style project
-					if (!targetConn.isLocal() && ProjectType.isCodewindStyle(sourceApp.projectType.getId()) && !targetConn.requestHasPushRegistry()) {
-						Display.getDefault().syncExec(new Runnable() {
-							@Override
-							public void run() {
-								MessageDialog dialog = new MessageDialog(Display.getDefault().getActiveShell(), Messages.NoPushRegistryTitle, null, Messages.NoPushRegistryMessage, MessageDialog.CONFIRM, 0, IDialogConstants.OK_LABEL, IDialogConstants.CANCEL_LABEL) {
-									@Override
-									protected Control createCustomArea(Composite parent) {
-										return CoreUtil.addLinkToDialog(parent, Messages.ImageRegistryDocLinkLabel, UIConstants.REGISTRY_INFO_URL);
-									}
-								};
-								if (dialog.open() == MessageDialog.OK) {
-									RegistryManagementDialog.open(getShell(), targetConn, mon.split(40));
-								} else {
-									mon.setCanceled(true);
-								}
-							}
-						});
-						if (mon.isCanceled()) {
-							return Status.CANCEL_STATUS;
-						}
-						if (!targetConn.requestHasPushRegistry()) {
-							return new Status(IStatus.ERROR, CodewindUIPlugin.PLUGIN_ID, Messages.NoPushRegistryError, null);
+				SubMonitor mon = SubMonitor.convert(monitor, jobName, 40 + 20 * sourceApps.size());
+				
+				// Check for a push registry if there are any Codewind style projects
+				if (!targetConn.isLocal() && sourceApps.stream().anyMatch(app -> ProjectType.isCodewindStyle(app.projectType.getId()))) {
+					try {
+						IStatus status = BindProjectWizard.checkPushRegistry(targetConn, mon.split(40));
+						if (!status.isOK()) {
+							return status;
 						}
+					} catch (Exception e) {
+						Logger.logError("An error occurred checking the push registry for connection: " + targetConn.getName(), e); //$NON-NLS-1$
+						return new Status(IStatus.ERROR, CodewindUIPlugin.PLUGIN_ID, Messages.NoPushRegistryError, e);
 					}
-					mon.setWorkRemaining(80);
-					
-					// Remove the application from the current connection
-					ProjectUtil.removeProject(sourceApp.name, sourceApp.projectID, mon.split(10));
-					if (monitor.isCanceled()) {
-						return Status.CANCEL_STATUS;
-					}
-					
-					// Add the application to the target connection
-					ProjectUtil.bindProject(sourceApp.name, sourceApp.fullLocalPath.toOSString(), sourceApp.projectLanguage.getId(), sourceApp.projectType.getId(), targetConn.getConid(), mon.split(60));
+				}
+				mon.setWorkRemaining(20 * sourceApps.size());
+				
+				MultiStatus multiStatus = new MultiStatus(CodewindUIPlugin.PLUGIN_ID, IStatus.ERROR,
+						NLS.bind(Messages.MoveProjectsError, targetConn.getName()), null);
+				
+				// Remove the applications from their current connections
+				Map<BindRequest, CodewindApplication> requests = new LinkedHashMap<BindRequest, CodewindApplication>();
+				for (CodewindApplication app : sourceApps) {
 					if (mon.isCanceled()) {
-						BindProjectWizard.cleanup(sourceApp.name, targetConn);
-						return Status.CANCEL_STATUS;
+						break;
+					}
+					try {
+						ProjectUtil.removeProject(app.name, app.projectID, mon.newChild(5));
+						requests.put(new BindRequest(app.name, app.fullLocalPath.toOSString(), app.projectLanguage.getId(), app.projectType.getId(), null), app);
+					} catch (Exception e) {
+						Logger.logError("An error occured trying to move project: " + app.fullLocalPath.toOSString(), e); //$NON-NLS-1$
+						multiStatus.add(new Status(IStatus.ERROR, CodewindUIPlugin.PLUGIN_ID, NLS.bind(Messages.MoveProjectError, new String[] {app.name, app.connection.getName(), targetConn.getName()}), e));
+					}
+				}
+				mon.setWorkRemaining(15 * sourceApps.size());
+				
+				// Add the applications to the target connection
+				List<BindResult> results = new ArrayList<BindResult>();
+				if (!mon.isCanceled()) {
+					results = ProjectBatchBind.bindProjects(targetConn, new ArrayList<BindRequest>(requests.keySet()), mon.newChild(15 * sourceApps.size()));
+				}
+				Set<BindRequest> moved = new HashSet<BindRequest>();
+				for (BindResult result : results) {
+					if (result.isOK()) {
+						moved.add(result.request);
+					} else if (result.error != null) {
+						CodewindApplication app = requests.get(result.request);
+						String msg = result.isTimeout() ? Messages.MoveProjectTimeout : Messages.MoveProjectError;
+						multiStatus.add(new Status(IStatus.ERROR, CodewindUIPlugin.PLUGIN_ID, NLS.bind(msg, new String[] {app.name, app.connection.getName(), targetConn.getName()}), result.error));
 					}
-					mon.split(10);
-					targetConn.refreshApps(null);
-					CodewindApplication newApp = targetConn.getAppByName(sourceApp.name);
+				}
+				
+				// If the move was canceled then add the projects that were removed but not moved back
+				// to their original connections so they are not left off of both connections
+				if (mon.isCanceled()) {
+					List<CodewindApplication> restoreApps = requests.entrySet().stream()
+							.filter(entry -> !moved.contains(entry.getKey())).map(Map.Entry::getValue).collect(Collectors.toList());
+					restore(restoreApps);
+				}
+				
+				if (sourceApps.size() == 1 && multiStatus.isOK() && !mon.isCanceled()) {
+					CodewindApplication newApp = targetConn.getAppByName(sourceApps.get(0).name);
 					if (newApp != null) {
 						if (CodewindCorePlugin.getDefault().getPreferenceStore().getBoolean(CodewindCorePlugin.AUTO_OPEN_OVERVIEW_PAGE)) {
 							Display.getDefault().asyncExec(() -> OpenAppOverviewAction.openAppOverview(newApp));
 						}
 					} else {
-						Logger.logError("The " + sourceApp.name + " application could not be found on connection: " + targetConn.getName()); //$NON-NLS-1$ //$NON-NLS-2$
+						Logger.logError("The " + sourceApps.get(0).name + " application could not be found on connection: " + targetConn.getName()); //$NON-NLS-1$ //$NON-NLS-2$
 					}
-					mon.worked(10);
-					mon.done();
-					CodewindUIPlugin.getUpdateHandler().updateConnection(targetConn);
-				} catch (TimeoutException e) {
-					Logger.logError("A timeout occurred trying to move project: " + sourceApp.fullLocalPath.toOSString(), e); //$NON-NLS-1$
-					BindProjectWizard.cleanup(sourceApp.name, targetConn);
-					return new Status(IStatus.ERROR, CodewindUIPlugin.PLUGIN_ID, NLS.bind(Messages.MoveProjectTimeout, new String[] {sourceApp.name, sourceApp.connection.getName(), targetConn.getName()}), e);
-				} catch (Exception e) {
-					Logger.logError("An error occured trying to move project: " + sourceApp.fullLocalPath.toOSString(), e); //$NON-NLS-1$
-					return new Status(IStatus.ERROR, CodewindUIPlugin.PLUGIN_ID, NLS.bind(Messages.MoveProjectError, new String[] {sourceApp.name, sourceApp.connection.getName(), targetConn.getName()}), e);
+				}
+				mon.done();
+				CodewindUIPlugin.getUpdateHandler().updateConnection(targetConn);
+				
+				if (!multiStatus.isOK()) {
+					return multiStatus.getChildren().length == 1 ? multiStatus.getChildren()[0] : multiStatus;
 				}
 				if (monitor.isCanceled()) {
 					return Status.CANCEL_STATUS;
@@ -163,4 +182,21 @@ public class CodewindNavigatorDropAssistant extends CommonDropAdapterAssistant {
 		
 		return Status.OK_STATUS;
 	}
+	
+	private static void restore(List<CodewindApplication> apps) {
+		Map<CodewindConnection, List<BindRequest>> requests = new LinkedHashMap<CodewindConnection, List<BindRequest>>();
+		for (CodewindApplication app : apps) {
+			requests.computeIfAbsent(app.connection, conn -> new ArrayList<BindRequest>())
+					.add(new BindRequest(app.name, app.fullLocalPath.toOSString(), app.projectLanguage.getId(), app.projectType.getId(), null));
+		}
+		for (Map.Entry<CodewindConnection, List<BindRequest>> entry : requests.entrySet()) {
+			// Not cancelable since the projects would be left off of both connections
+			for (BindResult result : ProjectBatchBind.bindProjects(entry.getKey(), entry.getValue(), new NullProgressMonitor())) {
+				if (!result.isOK()) {
+					Logger.logError("Failed to add the " + result.request.name + " project back to connection: " + entry.getKey().getName() + ", after the move was canceled", result.error); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+				}
+			}
+			CodewindUIPlugin.getUpdateHandler().updateConnection(entry.getKey());
+		}
+	}
 }
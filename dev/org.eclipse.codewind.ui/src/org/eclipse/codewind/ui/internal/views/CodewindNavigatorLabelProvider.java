@@ -11,11 +11,16 @@
 
 package org.eclipse.codewind.ui.internal.views;
 
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+
 import org.eclipse.codewind.core.internal.CodewindApplication;
 import org.eclipse.codewind.core.internal.CodewindManager;
 import org.eclipse.codewind.core.internal.CoreUtil;
 import org.eclipse.codewind.core.internal.cli.InstallStatus;
 import org.eclipse.codewind.core.internal.cli.InstallUtil;
+import org.eclipse.codewind.core.internal.connection.ConnectionSnapshot.AppEntry;
 import org.eclipse.codewind.core.internal.connection.LocalConnection;
 import org.eclipse.codewind.core.internal.connection.RemoteConnection;
 import org.eclipse.codewind.core.internal.constants.AppStatus;
@@ -27,6 +32,10 @@ import org.eclipse.codewind.core.internal.constants.ProjectType;
 import org.eclipse.codewind.ui.CodewindUIPlugin;
 import org.eclipse.codewind.ui.internal.messages.Messages;
 import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResourceChangeEvent;
+import org.eclipse.core.resources.IResourceChangeListener;
+import org.eclipse.core.resources.IResourceDelta;
+import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.jface.preference.JFacePreferences;
 import org.eclipse.jface.resource.FontDescriptor;
 import org.eclipse.jface.viewers.DelegatingStyledCellLabelProvider.IStyledLabelProvider;
@@ -60,6 +69,36 @@ public class CodewindNavigatorLabelProvider extends LabelProvider implements ISt
 		}
 	};
 	
+	// Project labels are only computed when the viewer asks for them (for example, when the
+	// connection is expanded) and then reused until the project or its links change
+	private final Map<CodewindApplication, AppLabel> appLabels = Collections.synchronizedMap(new WeakHashMap<CodewindApplication, AppLabel>());
+	
+	// The labels include the Eclipse project name so clear them if the workspace projects change
+	private final IResourceChangeListener projectListener = event -> {
+		IResourceDelta delta = event.getDelta();
+		if (delta == null) {
+			return;
+		}
+		for (IResourceDelta child : delta.getAffectedChildren()) {
+			if (child.getKind() != IResourceDelta.CHANGED
+					|| (child.getFlags() & (IResourceDelta.OPEN | IResourceDelta.DESCRIPTION | IResourceDelta.MOVED_FROM | IResourceDelta.MOVED_TO)) != 0) {
+				appLabels.clear();
+				return;
+			}
+		}
+	};
+	
+	public CodewindNavigatorLabelProvider() {
+		ResourcesPlugin.getWorkspace().addResourceChangeListener(projectListener, IResourceChangeEvent.POST_CHANGE);
+	}
+	
+	@Override
+	public void dispose() {
+		ResourcesPlugin.getWorkspace().removeResourceChangeListener(projectListener);
+		appLabels.clear();
+		super.dispose();
+	}
+	
 	@Override
 	public String getText(Object element) {
 		if (element instanceof CodewindManager) {
@@ -68,6 +107,9 @@ public class CodewindNavigatorLabelProvider extends LabelProvider implements ISt
 			LocalConnection connection = (LocalConnection)element;
 			String name = connection.getName();
 			CodewindManager manager = CodewindManager.getManager();
+			if (connection.isRestoring() && !connection.isConnected()) {
+				return name + " [" + Messages.CodewindRestoringQualifier + "]";
+			}
 			if (manager.getInstallerStatus() != null) {
 				switch(manager.getInstallerStatus()) {
 				case INSTALLING:
@@ -84,7 +126,7 @@ public class CodewindNavigatorLabelProvider extends LabelProvider implements ISt
 				if (status.isStarted()) {
 					if (connection.isConnected()) {
 						String text = name + " [" + Messages.CodewindRunningQualifier + "]";
-						if (connection.getApps().size() == 0) {
+						if (connection.getSortedApps().isEmpty()) {
 							text = text + " (" + Messages.CodewindConnectionNoProjects + ")";
 						}
 						return text;
@@ -111,61 +153,27 @@ public class CodewindNavigatorLabelProvider extends LabelProvider implements ISt
 		} else if (element instanceof RemoteConnection) {
 			RemoteConnection connection = (RemoteConnection) element;
 			String text = connection.getName();
-			if (!connection.isConnected()) {
+			if (connection.isRestoring() && !connection.isConnected()) {
+				text = text + " [" + Messages.CodewindRestoringQualifier + "]";
+			} else if (!connection.isConnected()) {
 				String errorMsg = connection.getConnectionErrorMsg();
 				if (errorMsg == null) {
 					errorMsg = Messages.CodewindDisconnected;
 				}
 				text = text + " (" + errorMsg + ")";
-			} else if (connection.getApps().size() == 0) {
+			} else if (connection.getSortedApps().isEmpty()) {
 				text = text + " (" + Messages.CodewindConnectionNoProjects + ")";
 			}
 			return text;
 		} else if (element instanceof CodewindApplication) {
 			CodewindApplication app = (CodewindApplication)element;
-			StringBuilder builder = new StringBuilder(app.name);
-			IProject project = CoreUtil.getEclipseProject(app);
-			if (project != null && !project.getName().equals(app.name)) {
-				builder.append("(" + project.getName() + ")");
-			}
-			
-			if (app.isEnabled()) {
-				AppStatus appStatus = app.getAppStatus();
-				BuildStatus buildStatus = app.getBuildStatus();
-				if (appStatus == AppStatus.UNKNOWN && buildStatus == BuildStatus.UNKOWN) {
-					builder.append(" [" + Messages.CodewindProjectNoStatus + "]");
-				} else {
-					if (appStatus != AppStatus.UNKNOWN) {
-						DetailedAppStatus details = app.getAppStatusDetails();
-						if (details != null && details.getMessage() != null && details.getSeverity() != Severity.INFO) {
-						    builder.append(" [" + appStatus.getDisplayString(app.getStartMode()) + ": ");
-							if (details.getSeverity() != null) {
-								builder.append("(" + details.getSeverity().displayString + ") ");
-							}
-							builder.append(Messages.CodewindHoverForDetails);
-							builder.append("]");
-						} else {
-							builder.append(" [" + appStatus.getDisplayString(app.getStartMode()) + "]");
-						}
-					}
-					
-					if (buildStatus != BuildStatus.UNKOWN) {
-						String buildDetails = app.getBuildDetails();
-						if (buildDetails != null && !buildDetails.isEmpty()) {
-							builder.append(" [" + buildStatus.getDisplayString() + ": " + buildDetails + "]");
-						} else {
-							builder.append(" [" + buildStatus.getDisplayString() + "]");
-						}
-					}
-					
-					if (!app.getProjectLinks().getBrokenLinks(app.connection).isEmpty()) {
-						builder.append(" (" + Messages.CodewindBrokenLinksError + ")");
-					}
-				}
-			} else {
-				builder.append(" [" + Messages.CodewindProjectDisabled + "]");
+			AppLabel label = getAppLabel(app);
+			if (label.text == null) {
+				label.text = getAppText(app, label.project);
 			}
-			return builder.toString();
+			return label.text;
+		} else if (element instanceof AppEntry) {
+			return ((AppEntry)element).name + " [" + Messages.CodewindRestoringQualifier + "]";
 		}
 		return super.getText(element);
 	}
@@ -179,7 +187,9 @@ public class CodewindNavigatorLabelProvider extends LabelProvider implements ISt
 			LocalConnection connection = (LocalConnection)element;
 			CodewindManager manager = CodewindManager.getManager();
 			styledString = new StyledString(connection.getName());
-			if (manager.getInstallerStatus() != null) {
+			if (connection.isRestoring() && !connection.isConnected()) {
+				styledString.append(" [" + Messages.CodewindRestoringQualifier + "]", StyledString.DECORATIONS_STYLER);
+			} else if (manager.getInstallerStatus() != null) {
 				switch(manager.getInstallerStatus()) {
 				case INSTALLING:
 					styledString.append(" [" + Messages.CodewindInstallingQualifier + "]", StyledString.DECORATIONS_STYLER);
@@ -199,7 +209,7 @@ public class CodewindNavigatorLabelProvider extends LabelProvider implements ISt
 				if (status.isStarted()) {
 					if (connection.isConnected()) {
 						styledString.append(" [" + Messages.CodewindRunningQualifier + "]", StyledString.DECORATIONS_STYLER);
-						if (connection.getApps().size() == 0) {
+						if (connection.getSortedApps().isEmpty()) {
 							styledString.append(" (" + Messages.CodewindConnectionNoProjects + ")", StyledString.DECORATIONS_STYLER);
 						}
 					} else {
@@ -231,9 +241,11 @@ public class CodewindNavigatorLabelProvider extends LabelProvider implements ISt
 		} else if (element instanceof RemoteConnection) {
 			RemoteConnection connection = (RemoteConnection) element;
 			styledString = new StyledString(connection.getName());
-			if (connection.isConnected()) {
+			if (connection.isRestoring() && !connection.isConnected()) {
+				styledString.append(" [" + Messages.CodewindRestoringQualifier + "]", StyledString.DECORATIONS_STYLER);
+			} else if (connection.isConnected()) {
 				styledString.append(" [" + Messages.CodewindConnected + "]", StyledString.DECORATIONS_STYLER);
-				if (connection.getApps().size() == 0) {
+				if (connection.getSortedApps().isEmpty()) {
 					styledString.append(" (" + Messages.CodewindConnectionNoProjects + ")", StyledString.DECORATIONS_STYLER);
 				}
 			} else {
@@ -247,54 +259,121 @@ public class CodewindNavigatorLabelProvider extends LabelProvider implements ISt
 			}
 		} else if (element instanceof CodewindApplication) {
 			CodewindApplication app = (CodewindApplication)element;
-			styledString = new StyledString(app.name);
-			IProject project = CoreUtil.getEclipseProject(app);
-			if (project != null && !project.getName().equals(app.name)) {
-				styledString.append("(" + project.getName() + ")");
+			AppLabel label = getAppLabel(app);
+			if (label.styledText == null) {
+				label.styledText = getAppStyledText(app, label.project);
 			}
-			
-			if (app.isEnabled()) {
-				AppStatus appStatus = app.getAppStatus();
-				BuildStatus buildStatus = app.getBuildStatus();
-				if (appStatus == AppStatus.UNKNOWN && buildStatus == BuildStatus.UNKOWN) {
-					styledString.append(" [" + Messages.CodewindProjectNoStatus + "]", StyledString.DECORATIONS_STYLER);
-				} else {
-					if (appStatus != AppStatus.UNKNOWN) {
-						DetailedAppStatus details = app.getAppStatusDetails();
-						if (details != null && details.getMessage() != null && details.getSeverity() != Severity.INFO) {
-							styledString.append(" [" + appStatus.getDisplayString(app.getStartMode()) + ": ", StyledString.DECORATIONS_STYLER);
-							Styler styler = details.getSeverity() != null && details.getSeverity() == Severity.ERROR ? ERROR_STYLER : StyledString.QUALIFIER_STYLER;
-							if (details.getSeverity() != null) {
-								styledString.append("(" + details.getSeverity().displayString + ") ", styler);
-							}
-							styledString.append(Messages.CodewindHoverForDetails, styler);
-							styledString.append("]", StyledString.DECORATIONS_STYLER);
-						} else {
-							styledString.append(" [" + appStatus.getDisplayString(app.getStartMode()) + "]", StyledString.DECORATIONS_STYLER);
+			styledString = label.styledText;
+		} else if (element instanceof AppEntry) {
+			styledString = new StyledString(((AppEntry)element).name);
+			styledString.append(" [" + Messages.CodewindRestoringQualifier + "]", StyledString.DECORATIONS_STYLER);
+		} else {
+			styledString = new StyledString(getText(element));
+		}
+		return styledString;
+	}
+
+	private AppLabel getAppLabel(CodewindApplication app) {
+		long version = app.getVersion();
+		long linksVersion = app.connection.getLinksVersion();
+		AppLabel label = appLabels.get(app);
+		if (label == null || label.version != version || label.linksVersion != linksVersion) {
+			label = new AppLabel(version, linksVersion, CoreUtil.getEclipseProject(app));
+			appLabels.put(app, label);
+		}
+		return label;
+	}
+
+	private static String getAppText(CodewindApplication app, IProject project) {
+		StringBuilder builder = new StringBuilder(app.name);
+		if (project != null && !project.getName().equals(app.name)) {
+			builder.append("(" + project.getName() + ")");
+		}
+		
+		if (app.isEnabled()) {
+			AppStatus appStatus = app.getAppStatus();
+			BuildStatus buildStatus = app.getBuildStatus();
+			if (appStatus == AppStatus.UNKNOWN && buildStatus == BuildStatus.UNKOWN) {
+				builder.append(" [" + Messages.CodewindProjectNoStatus + "]");
+			} else {
+				if (appStatus != AppStatus.UNKNOWN) {
+					DetailedAppStatus details = app.getAppStatusDetails();
+					if (details != null && details.getMessage() != null && details.getSeverity() != Severity.INFO) {
+					    builder.append(" [" + appStatus.getDisplayString(app.getStartMode()) + ": ");
+						if (details.getSeverity() != null) {
+							builder.append("(" + details.getSeverity().displayString + ") ");
 						}
-						
+						builder.append(Messages.CodewindHoverForDetails);
+						builder.append("]");
+					} else {
+						builder.append(" [" + appStatus.getDisplayString(app.getStartMode()) + "]");
 					}
-					
-					if (buildStatus != BuildStatus.UNKOWN) {
-						String buildDetails = app.getBuildDetails();
-						if (buildDetails != null) {
-							styledString.append(" [" + buildStatus.getDisplayString() + ": ", StyledString.DECORATIONS_STYLER);
-							styledString.append(buildDetails, StyledString.QUALIFIER_STYLER);
-							styledString.append("]", StyledString.DECORATIONS_STYLER);
-						} else {
-							styledString.append(" [" + buildStatus.getDisplayString() + "]", StyledString.DECORATIONS_STYLER);
+				}
+				
+				if (buildStatus != BuildStatus.UNKOWN) {
+					String buildDetails = app.getBuildDetails();
+					if (buildDetails != null && !buildDetails.isEmpty()) {
+						builder.append(" [" + buildStatus.getDisplayString() + ": " + buildDetails + "]");
+					} else {
+						builder.append(" [" + buildStatus.getDisplayString() + "]");
+					}
+				}
+				
+				if (!app.getProjectLinks().getBrokenLinks(app.connection).isEmpty()) {
+					builder.append(" (" + Messages.CodewindBrokenLinksError + ")");
+				}
+			}
+		} else {
+			builder.append(" [" + Messages.CodewindProjectDisabled + "]");
+		}
+		return builder.toString();
+	}
+
+	private static StyledString getAppStyledText(CodewindApplication app, IProject project) {
+		StyledString styledString = new StyledString(app.name);
+		if (project != null && !project.getName().equals(app.name)) {
+			styledString.append("(" + project.getName() + ")");
+		}
+		
+		if (app.isEnabled()) {
+			AppStatus appStatus = app.getAppStatus();
+			BuildStatus buildStatus = app.getBuildStatus();
+			if (appStatus == AppStatus.UNKNOWN && buildStatus == BuildStatus.UNKOWN) {
+				styledString.append(" [" + Messages.CodewindProjectNoStatus + "]", StyledString.DECORATIONS_STYLER);
+			} else {
+				if (appStatus != AppStatus.UNKNOWN) {
+					DetailedAppStatus details = app.getAppStatusDetails();
+					if (details != null && details.getMessage() != null && details.getSeverity() != Severity.INFO) {
+						styledString.append(" [" + appStatus.getDisplayString(app.getStartMode()) + ": ", StyledString.DECORATIONS_STYLER);
+						Styler styler = details.getSeverity() != null && details.getSeverity() == Severity.ERROR ? ERROR_STYLER : StyledString.QUALIFIER_STYLER;
+						if (details.getSeverity() != null) {
+							styledString.append("(" + details.getSeverity().displayString + ") ", styler);
 						}
+						styledString.append(Messages.CodewindHoverForDetails, styler);
+						styledString.append("]", StyledString.DECORATIONS_STYLER);
+					} else {
+						styledString.append(" [" + appStatus.getDisplayString(app.getStartMode()) + "]", StyledString.DECORATIONS_STYLER);
 					}
 					
-					if (!app.getProjectLinks().getBrokenLinks(app.connection).isEmpty()) {
-						styledString.append(" (" + Messages.CodewindBrokenLinksError + ")", ERROR_STYLER);
+				}
+				
+				if (buildStatus != BuildStatus.UNKOWN) {
+					String buildDetails = app.getBuildDetails();
+					if (buildDetails != null) {
+						styledString.append(" [" + buildStatus.getDisplayString() + ": ", StyledString.DECORATIONS_STYLER);
+						styledString.append(buildDetails, StyledString.QUALIFIER_STYLER);
+						styledString.append("]", StyledString.DECORATIONS_STYLER);
+					} else {
+						styledString.append(" [" + buildStatus.getDisplayString() + "]", StyledString.DECORATIONS_STYLER);
 					}
 				}
-			} else {
-				styledString.append(" [" + Messages.CodewindProjectDisabled + "]", StyledString.DECORATIONS_STYLER);
+				
+				if (!app.getProjectLinks().getBrokenLinks(app.connection).isEmpty()) {
+					styledString.append(" (" + Messages.CodewindBrokenLinksError + ")", ERROR_STYLER);
+				}
 			}
 		} else {
-			styledString = new StyledString(getText(element));
+			styledString.append(" [" + Messages.CodewindProjectDisabled + "]", StyledString.DECORATIONS_STYLER);
 		}
 		return styledString;
 	}
@@ -312,34 +391,38 @@ public class CodewindNavigatorLabelProvider extends LabelProvider implements ISt
 		} else if (element instanceof RemoteConnection) {
 			return CodewindUIPlugin.getImage(((RemoteConnection)element).isConnected() ? CodewindUIPlugin.REMOTE_CONNECTED_ICON : CodewindUIPlugin.REMOTE_DISCONNECTED_ICON);
 		} else if (element instanceof CodewindApplication) {
-			ProjectType type = ((CodewindApplication)element).projectType;
-			if (type == ProjectType.TYPE_LIBERTY) {
-					return CodewindUIPlugin.getImage(CodewindUIPlugin.MICROPROFILE_ICON);
-			} else if (type == ProjectType.TYPE_NODEJS) {
-					return CodewindUIPlugin.getImage(CodewindUIPlugin.NODE_ICON);
-			} else if (type == ProjectType.TYPE_SPRING) {
-					return CodewindUIPlugin.getImage(CodewindUIPlugin.SPRING_ICON);
-			} else if (type == ProjectType.TYPE_SWIFT) {
-					return CodewindUIPlugin.getImage(CodewindUIPlugin.SWIFT_ICON);
-			} else {
-				ProjectLanguage lang = ((CodewindApplication)element).projectLanguage;
-				if (lang.isGo()) {
-					return CodewindUIPlugin.getImage(CodewindUIPlugin.GO_ICON);
-				} else if (lang.isJava()) {
-					return CodewindUIPlugin.getImage(CodewindUIPlugin.JAVA_ICON);
-				} else if (lang.isJavaScript()) {
-					return CodewindUIPlugin.getImage(CodewindUIPlugin.NODE_ICON);
-				} else if (lang.isPython()) {
-					return CodewindUIPlugin.getImage(CodewindUIPlugin.PYTHON_ICON);
-				} else if (lang.isSwift()) {
-					return CodewindUIPlugin.getImage(CodewindUIPlugin.SWIFT_ICON);
-				}
-				return CodewindUIPlugin.getImage(CodewindUIPlugin.GENERIC_PROJECT_ICON);
-			}
+			CodewindApplication app = (CodewindApplication)element;
+			return getProjectImage(app.projectType, app.projectLanguage);
+		} else if (element instanceof AppEntry) {
+			AppEntry entry = (AppEntry)element;
+			return getProjectImage(entry.getProjectType(), entry.getProjectLanguage());
 		}
 		return null;
 	}
 	
+	private static Image getProjectImage(ProjectType type, ProjectLanguage lang) {
+		if (type == ProjectType.TYPE_LIBERTY) {
+			return CodewindUIPlugin.getImage(CodewindUIPlugin.MICROPROFILE_ICON);
+		} else if (type == ProjectType.TYPE_NODEJS) {
+			return CodewindUIPlugin.getImage(CodewindUIPlugin.NODE_ICON);
+		} else if (type == ProjectType.TYPE_SPRING) {
+			return CodewindUIPlugin.getImage(CodewindUIPlugin.SPRING_ICON);
+		} else if (type == ProjectType.TYPE_SWIFT) {
+			return CodewindUIPlugin.getImage(CodewindUIPlugin.SWIFT_ICON);
+		} else if (lang.isGo()) {
+			return CodewindUIPlugin.getImage(CodewindUIPlugin.GO_ICON);
+		} else if (lang.isJava()) {
+			return CodewindUIPlugin.getImage(CodewindUIPlugin.JAVA_ICON);
+		} else if (lang.isJavaScript()) {
+			return CodewindUIPlugin.getImage(CodewindUIPlugin.NODE_ICON);
+		} else if (lang.isPython()) {
+			return CodewindUIPlugin.getImage(CodewindUIPlugin.PYTHON_ICON);
+		} else if (lang.isSwift()) {
+			return CodewindUIPlugin.getImage(CodewindUIPlugin.SWIFT_ICON);
+		}
+		return CodewindUIPlugin.getImage(CodewindUIPlugin.GENERIC_PROJECT_ICON);
+	}
+	
     @Override
     public String getDescription(Object element) {
     	if (element instanceof LocalConnection) {
@@ -378,6 +461,20 @@ public class CodewindNavigatorLabelProvider extends LabelProvider implements ISt
 		return getDescription(element);
 	}
 
+	private static class AppLabel {
+		final long version;
+		final long linksVersion;
+		final IProject project;
+		String text;
+		StyledString styledText;
+		
+		AppLabel(long version, long linksVersion, IProject project) {
+			this.version = version;
+			this.linksVersion = linksVersion;
+			this.project = project;
+		}
+	}
+
 	static class BoldFontStyler extends Styler {
 	    @Override
 	    public void applyStyles(final TextStyle textStyle)
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019 IBM Corporation and others.
+ * Copyright (c) 2019, 2020 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -11,7 +11,10 @@
 
 package org.eclipse.codewind.ui.internal.views;
 
+import org.eclipse.codewind.core.internal.CodewindApplication;
 import org.eclipse.codewind.core.internal.connection.CodewindConnection;
+import org.eclipse.codewind.core.internal.connection.ConnectionSnapshot.AppEntry;
+import org.eclipse.jface.viewers.Viewer;
 import org.eclipse.jface.viewers.ViewerComparator;
 
 public class CodewindNavigatorSorter extends ViewerComparator {
@@ -28,4 +31,16 @@ public class CodewindNavigatorSorter extends ViewerComparator {
 		return super.category(element);
 	}
 
+	@Override
+	public int compare(Viewer viewer, Object e1, Object e2) {
+		// Compare projects directly rather than by their labels, which are expensive to compute
+		if (e1 instanceof CodewindApplication && e2 instanceof CodewindApplication) {
+			return CodewindConnection.APP_ORDER.compare((CodewindApplication) e1, (CodewindApplication) e2);
+		}
+		if (e1 instanceof AppEntry && e2 instanceof AppEntry) {
+			return String.CASE_INSENSITIVE_ORDER.compare(((AppEntry) e1).name, ((AppEntry) e2).name);
+		}
+		return super.compare(viewer, e1, e2);
+	}
+
 }
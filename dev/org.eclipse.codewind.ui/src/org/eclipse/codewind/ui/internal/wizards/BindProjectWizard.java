@@ -11,6 +11,7 @@
 
 package org.eclipse.codewind.ui.internal.wizards;
 
+import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
 import java.util.List;
@@ -61,6 +62,7 @@ import org.eclipse.swt.widgets.Display;
 import org.eclipse.ui.INewWizard;
 import org.eclipse.ui.IWorkbench;
 import org.eclipse.ui.PlatformUI;
+import org.json.JSONException;
 
 public class BindProjectWizard extends Wizard implements INewWizard {
 
@@ -189,15 +191,7 @@ public class BindProjectWizard extends Wizard implements INewWizard {
 		final String name = project != null ? project.getName() : projectPath.lastSegment();
 		
 		// Check if this application is already deployed on another connection
-		final List<CodewindApplication> existingDeployments = new ArrayList<CodewindApplication>();
-		for (CodewindConnection conn : CodewindConnectionManager.activeConnections()) {
-			if (conn.isConnected()) {
-				CodewindApplication app = conn.getAppByLocation(projectPath);
-				if (app != null && app.isEnabled()) {
-					existingDeployments.add(app);
-				}
-			}
-		}
+		final List<CodewindApplication> existingDeployments = getExistingDeployments(projectPath);
 		
 		// If the application is deployed on another connection, ask the user what they want to do
 		final ProjectDeployedDialog.Behaviour selectedBehaviour;
@@ -224,68 +218,17 @@ public class BindProjectWizard extends Wizard implements INewWizard {
 					SubMonitor mon = SubMonitor.convert(monitor, 140);
 					
 					// Check for a push registry if Codewind style project
-					if (!connection.isLocal() && ProjectType.isCodewindStyle(typeId) && !connection.requestHasPushRegistry()) {
-						Display.getDefault().syncExec(new Runnable() {
-							@Override
-							public void run() {
-								MessageDialog dialog = new MessageDialog(Display.getDefault().getActiveShell(), Messages.NoPushRegistryTitle, null, Messages.NoPushRegistryMessage, MessageDialog.CONFIRM, 0, IDialogConstants.OK_LABEL, IDialogConstants.CANCEL_LABEL) {
-									@Override
-									protected Control createCustomArea(Composite parent) {
-										return CoreUtil.addLinkToDialog(parent, Messages.ImageRegistryDocLinkLabel, UIConstants.REGISTRY_INFO_URL);
-									}
-								};
-								if (dialog.open() == MessageDialog.OK) {
-									RegistryManagementDialog.open(getShell(), connection, mon.split(40));
-								} else {
-									mon.setCanceled(true);
-								}
-							}
-						});
-						if (mon.isCanceled()) {
-							return Status.CANCEL_STATUS;
-						}
-						if (!connection.requestHasPushRegistry()) {
-							return new Status(IStatus.ERROR, CodewindUIPlugin.PLUGIN_ID, Messages.NoPushRegistryError, null);
+					if (!connection.isLocal() && ProjectType.isCodewindStyle(typeId)) {
+						IStatus status = checkPushRegistry(connection, mon.split(40));
+						if (!status.isOK()) {
+							return status;
 						}
 					}
 					mon.setWorkRemaining(100);
 					
 					// Perform selected action if project already bound to another connection
-					if (selectedBehaviour != null) {
-						switch (selectedBehaviour) {
-							case REMOVE:
-								mon.setTaskName(Messages.BindProjectWizardRemoveTask);
-								for (CodewindApplication app : existingDeployments) {
-									try {
-										ProjectUtil.removeProject(app.name, app.projectID, mon.split(10));
-									} catch (Exception e) {
-										Logger.logError("An error occurred trying to unbind the " + app.name + " project from connection: " + app.connection.getBaseURI()); //$NON-NLS-1$ //$NON-NLS-2$
-									}
-									if (mon.isCanceled()) {
-										return Status.CANCEL_STATUS;
-									}
-								}
-								break;
-							case DISABLE:
-								mon.setTaskName(Messages.BindProjectWizardDisableTask);
-								mon.split(10 * existingDeployments.size());
-								for (CodewindApplication app : existingDeployments) {
-									try {
-										app.connection.requestProjectOpenClose(app, false);
-									} catch (Exception e) {
-										Logger.logError("An error occurred trying to disable the " + app.name + " project on connection: " + app.connection.getBaseURI()); //$NON-NLS-1$ //$NON-NLS-2$
-									}
-									if (mon.isCanceled()) {
-										return Status.CANCEL_STATUS;
-									}
-									mon.worked(10);
-								}
-								break;
-							case MAINTAIN:
-							default:
-								// Do nothing
-								break;
-						}
+					if (selectedBehaviour != null && !handleExistingDeployments(selectedBehaviour, existingDeployments, mon.split(50))) {
+						return Status.CANCEL_STATUS;
 					}
 					mon.setWorkRemaining(50);
 					
@@ -346,6 +289,98 @@ public class BindProjectWizard extends Wizard implements INewWizard {
 		return true;
 	}
 	
+	/**
+	 * Check that the connection has an image push registry, asking the user to set one
+	 * up if it does not.  Only needed for Codewind style projects on remote connections.
+	 */
+	public static IStatus checkPushRegistry(CodewindConnection connection, IProgressMonitor monitor) throws IOException, JSONException {
+		SubMonitor mon = SubMonitor.convert(monitor, 40);
+		if (connection.requestHasPushRegistry()) {
+			return Status.OK_STATUS;
+		}
+		Display.getDefault().syncExec(new Runnable() {
+			@Override
+			public void run() {
+				MessageDialog dialog = new MessageDialog(Display.getDefault().getActiveShell(), Messages.NoPushRegistryTitle, null, Messages.NoPushRegistryMessage, MessageDialog.CONFIRM, 0, IDialogConstants.OK_LABEL, IDialogConstants.CANCEL_LABEL) {
+					@Override
+					protected Control createCustomArea(Composite parent) {
+						return CoreUtil.addLinkToDialog(parent, Messages.ImageRegistryDocLinkLabel, UIConstants.REGISTRY_INFO_URL);
+					}
+				};
+				if (dialog.open() == MessageDialog.OK) {
+					RegistryManagementDialog.open(Display.getDefault().getActiveShell(), connection, mon.split(40));
+				} else {
+					mon.setCanceled(true);
+				}
+			}
+		});
+		if (mon.isCanceled()) {
+			return Status.CANCEL_STATUS;
+		}
+		if (!connection.requestHasPushRegistry()) {
+			return new Status(IStatus.ERROR, CodewindUIPlugin.PLUGIN_ID, Messages.NoPushRegistryError, null);
+		}
+		return Status.OK_STATUS;
+	}
+
+	/**
+	 * Get the enabled applications for the project on the connected connections.
+	 */
+	public static List<CodewindApplication> getExistingDeployments(IPath projectPath) {
+		List<CodewindApplication> existingDeployments = new ArrayList<CodewindApplication>();
+		for (CodewindConnection conn : CodewindConnectionManager.activeConnections()) {
+			if (conn.isConnected()) {
+				CodewindApplication app = conn.getAppByLocation(projectPath);
+				if (app != null && app.isEnabled()) {
+					existingDeployments.add(app);
+				}
+			}
+		}
+		return existingDeployments;
+	}
+	
+	/**
+	 * Remove or disable the existing deployments of a project depending on what the user
+	 * selected in the ProjectDeployedDialog.  Returns false if the monitor was canceled.
+	 */
+	public static boolean handleExistingDeployments(ProjectDeployedDialog.Behaviour behaviour, List<CodewindApplication> existingDeployments, IProgressMonitor monitor) {
+		SubMonitor mon = SubMonitor.convert(monitor, 10 * existingDeployments.size());
+		switch (behaviour) {
+			case REMOVE:
+				mon.setTaskName(Messages.BindProjectWizardRemoveTask);
+				for (CodewindApplication app : existingDeployments) {
+					try {
+						ProjectUtil.removeProject(app.name, app.projectID, mon.newChild(10));
+					} catch (Exception e) {
+						Logger.logError("An error occurred trying to unbind the " + app.name + " project from connection: " + app.connection.getBaseURI()); //$NON-NLS-1$ //$NON-NLS-2$
+					}
+					if (mon.isCanceled()) {
+						return false;
+					}
+				}
+				break;
+			case DISABLE:
+				mon.setTaskName(Messages.BindProjectWizardDisableTask);
+				for (CodewindApplication app : existingDeployments) {
+					try {
+						app.connection.requestProjectOpenClose(app, false);
+					} catch (Exception e) {
+						Logger.logError("An error occurred trying to disable the " + app.name + " project on connection: " + app.connection.getBaseURI()); //$NON-NLS-1$ //$NON-NLS-2$
+					}
+					if (mon.isCanceled()) {
+						return false;
+					}
+					mon.worked(10);
+				}
+				break;
+			case MAINTAIN:
+			default:
+				// Do nothing
+				break;
+		}
+		return true;
+	}
+
 	public static void cleanup(String projectName, CodewindConnection connection) {
 		Job job = new Job(NLS.bind(Messages.ProjectCleanupJobLabel, projectName)) {
 			@Override
@@ -12,7 +12,9 @@
 package org.eclipse.codewind.ui.internal.wizards;
 
 import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 import java.util.regex.Pattern;
@@ -20,12 +22,12 @@ import java.util.regex.Pattern;
 import org.eclipse.codewind.core.internal.CoreUtil;
 import org.eclipse.codewind.core.internal.Logger;
 import org.eclipse.codewind.core.internal.cli.RegistryUtil;
-import org.eclipse.codewind.core.internal.cli.TemplateUtil;
 import org.eclipse.codewind.core.internal.connection.CodewindConnection;
 import org.eclipse.codewind.core.internal.connection.ImagePushRegistryInfo;
 import org.eclipse.codewind.core.internal.connection.ProjectTemplateInfo;
 import org.eclipse.codewind.core.internal.connection.RegistryInfo;
 import org.eclipse.codewind.core.internal.connection.RepositoryInfo;
+import org.eclipse.codewind.core.internal.connection.TemplateSearchIndex;
 import org.eclipse.codewind.core.internal.constants.ProjectLanguage;
 import org.eclipse.codewind.core.internal.constants.ProjectType;
 import org.eclipse.codewind.ui.CodewindUIPlugin;
@@ -65,21 +67,30 @@ import org.eclipse.swt.widgets.TableColumn;
 import org.eclipse.swt.widgets.TableItem;
 import org.eclipse.swt.widgets.Text;
 import org.eclipse.ui.PlatformUI;
-import org.eclipse.ui.dialogs.SearchPattern;
 import org.eclipse.ui.dialogs.WizardNewProjectCreationPage;
 
 public class NewCodewindProjectPage extends WizardNewProjectCreationPage {
 	
 	private static final Pattern projectNamePattern = Pattern.compile("^[a-zA-Z0-9_.-]+$"); //$NON-NLS-1$
+
+	// The template table is filtered once the user stops typing for this long
+	private static final int FILTER_DELAY_MS = 150;
 			
 	private CodewindConnection connection;
 	private List<ProjectTemplateInfo> templateList;
-	private SearchPattern pattern = new SearchPattern(SearchPattern.RULE_PATTERN_MATCH | SearchPattern.RULE_PREFIX_MATCH | SearchPattern.RULE_BLANK_MATCH);
+	private TemplateSearchIndex searchIndex;
 	private Text filterText;
 	private Table selectionTable;
 	private Text descriptionLabel, styleLabel, sourceLabel;
 	private Composite manageReposComp, manageRegistriesComp;
 	private Link manageReposLink, manageRegistriesLink;
+	private boolean filterPending = false;
+	private final Runnable filterRunnable = () -> {
+		filterPending = false;
+		if (selectionTable != null && !selectionTable.isDisposed()) {
+			updateSelectionTable();
+		}
+	};
 	
 	protected NewCodewindProjectPage(CodewindConnection connection) {
 		super(Messages.NewProjectPage_ShellTitle);
@@ -216,7 +227,7 @@ public class NewCodewindProjectPage extends WizardNewProjectCreationPage {
 			public void widgetSelected(SelectionEvent event) {
 				List<RepositoryInfo> repoList;
 				try {
-					repoList = TemplateUtil.listTemplateSources(connection.getConid(), new NullProgressMonitor());
+					repoList = connection.getCatalog().getTemplateSources(new NullProgressMonitor());
 					RepositoryManagementDialog repoDialog = new RepositoryManagementDialog(getShell(), connection, repoList);
 					if (repoDialog.open() == Window.OK) {
 						if (repoDialog.hasChanges()) {
@@ -233,7 +244,7 @@ public class NewCodewindProjectPage extends WizardNewProjectCreationPage {
 									}
 									try {
 										mon.setTaskName(Messages.NewProjectPage_RefreshTemplatesTask);
-										templateList = TemplateUtil.listTemplates(true, connection.getConid(), mon.split(25));
+										setTemplates(getTemplates(mon.split(25)));
 									} catch (Exception e) {
 										throw new InvocationTargetException(e, Messages.NewProjectPage_RefreshTemplatesError);
 									}
@@ -311,7 +322,9 @@ public class NewCodewindProjectPage extends WizardNewProjectCreationPage {
 		filterText.addModifyListener(new ModifyListener() {
 			@Override
 			public void modifyText(ModifyEvent event) {
-				updateSelectionTable();
+				// Reschedules the filter if it is already waiting to run
+				filterPending = true;
+				filterText.getDisplay().timerExec(FILTER_DELAY_MS, filterRunnable);
 			}
 		});
 
@@ -319,6 +332,11 @@ public class NewCodewindProjectPage extends WizardNewProjectCreationPage {
 			@Override
 			public void handleEvent(Event event) {
 				if (event.keyCode == SWT.ARROW_DOWN) {
+					if (filterPending) {
+						// Apply the filter change that is still waiting
+						filterText.getDisplay().timerExec(-1, filterRunnable);
+						filterRunnable.run();
+					}
 					if (selectionTable.getItemCount() > 0) {
 						selectionTable.setSelection(0);
 						updateDetails();
@@ -428,41 +446,41 @@ public class NewCodewindProjectPage extends WizardNewProjectCreationPage {
 		}
 		setErrorMessage(null);
 		setPageComplete(false);
-		IRunnableWithProgress runnable = new IRunnableWithProgress() {
-			@Override
-			public void run(IProgressMonitor monitor) throws InvocationTargetException {
-				try {
-					SubMonitor mon = SubMonitor.convert(monitor, Messages.NewProjectPage_GetTemplatesTask, 100);
-					templateList = TemplateUtil.listTemplates(true, connection.getConid(), mon.split(100));
-				} catch (Exception e) {
-					throw new InvocationTargetException(e);
+		List<ProjectTemplateInfo> cachedTemplates = connection.getCatalog().getCachedTemplates();
+		if (cachedTemplates != null) {
+			// The templates were prefetched so show them straight away
+			setTemplates(cachedTemplates);
+		} else {
+			IRunnableWithProgress runnable = new IRunnableWithProgress() {
+				@Override
+				public void run(IProgressMonitor monitor) throws InvocationTargetException {
+					try {
+						SubMonitor mon = SubMonitor.convert(monitor, Messages.NewProjectPage_GetTemplatesTask, 100);
+						setTemplates(getTemplates(mon.split(100)));
+					} catch (Exception e) {
+						throw new InvocationTargetException(e);
+					}
 				}
+			};
+				
+			try {
+				if (getWizard().getPageCount() > 0 && getWizard().getContainer() != null) {
+					getWizard().getContainer().run(true, true, runnable);
+				} else {
+					PlatformUI.getWorkbench().getProgressService().busyCursorWhile(runnable);
+				}
+			} catch (InvocationTargetException e) {
+				Logger.logError("An error occurred getting the templates for the " + connection.getName() + " connection.", e.getTargetException()); //$NON-NLS-1$ //$NON-NLS-2$
+				setErrorMessage(Messages.NewProjectPage_TemplateListError);
+				return;
+			} catch (InterruptedException e) {
+				// The user cancelled the operation
 			}
-		};
-			
-		try {
-			if (getWizard().getPageCount() > 0 && getWizard().getContainer() != null) {
-				getWizard().getContainer().run(true, true, runnable);
-			} else {
-				PlatformUI.getWorkbench().getProgressService().busyCursorWhile(runnable);
-			}
-		} catch (InvocationTargetException e) {
-			Logger.logError("An error occurred getting the templates for the " + connection.getName() + " connection.", e.getTargetException()); //$NON-NLS-1$ //$NON-NLS-2$
-			setErrorMessage(Messages.NewProjectPage_TemplateListError);
-			return;
-		} catch (InterruptedException e) {
-			// The user cancelled the operation
 		}
 		
 		if (templateList.isEmpty()) {
 			setErrorMessage(Messages.NewProjectPage_EmptyTemplateList);
 		} else {
-			templateList.sort(new Comparator<ProjectTemplateInfo>() {
-				@Override
-				public int compare(ProjectTemplateInfo info1, ProjectTemplateInfo info2) {
-					return info1.getLabel().compareTo(info2.getLabel());
-				}
-			});
 			createItems(selectionTable, getFilterText());
 			if (selectionTable.getItemCount() > 0) {
 				selectionTable.setSelection(0);
@@ -471,23 +489,37 @@ public class NewCodewindProjectPage extends WizardNewProjectCreationPage {
 		}
 	}
 
+	private List<ProjectTemplateInfo> getTemplates(IProgressMonitor monitor) throws Exception {
+		List<ProjectTemplateInfo> templates = connection.getCatalog().getTemplates(monitor);
+		return templates == null ? Collections.<ProjectTemplateInfo>emptyList() : templates;
+	}
+
+	private void setTemplates(List<ProjectTemplateInfo> templates) {
+		// The catalog list is shared so sort a copy
+		List<ProjectTemplateInfo> sorted = new ArrayList<ProjectTemplateInfo>(templates);
+		sorted.sort(new Comparator<ProjectTemplateInfo>() {
+			@Override
+			public int compare(ProjectTemplateInfo info1, ProjectTemplateInfo info2) {
+				return info1.getLabel().compareTo(info2.getLabel());
+			}
+		});
+		templateList = sorted;
+		searchIndex = new TemplateSearchIndex(sorted);
+	}
+
 	private void createItems(Table table, String filter) {
 		// Create the items for the table.
 		table.removeAll();
 		if (templateList == null || templateList.isEmpty()) {
 			return;
 		}
-		pattern.setPattern("*" + filter + "*");
-		for (ProjectTemplateInfo templateInfo : templateList) {
-			String template = templateInfo.getLabel();
-			String type = ProjectType.getDisplayName(templateInfo.getProjectType());
-			String language = ProjectLanguage.getDisplayName(templateInfo.getLanguage());
-			String description = templateInfo.getDescription();
-			String source = templateInfo.getSource();
-			if (pattern.matches(template) || (type != null && pattern.matches(type)) || (language != null && pattern.matches(language)) ||
-					(description != null && pattern.matches(description)) || (source != null && pattern.matches(source))) {
+		table.setRedraw(false);
+		try {
+			for (ProjectTemplateInfo templateInfo : searchIndex.search(filter)) {
+				String type = ProjectType.getDisplayName(templateInfo.getProjectType());
+				String language = ProjectLanguage.getDisplayName(templateInfo.getLanguage());
 				TableItem item = new TableItem(table, SWT.NONE);
-				item.setText(0, template);
+				item.setText(0, templateInfo.getLabel());
 				if (type != null) {
 					item.setText(1, type);
 				}
@@ -496,6 +528,8 @@ public class NewCodewindProjectPage extends WizardNewProjectCreationPage {
 				}
 				item.setData(templateInfo);
 			}
+		} finally {
+			table.setRedraw(true);
 		}
 	}
 	
@@ -20,7 +20,6 @@ import java.util.List;
 import java.util.Map;
 
 import org.eclipse.codewind.core.internal.Logger;
-import org.eclipse.codewind.core.internal.cli.TemplateUtil;
 import org.eclipse.codewind.core.internal.connection.CodewindConnection;
 import org.eclipse.codewind.core.internal.connection.ProjectTypeInfo;
 import org.eclipse.codewind.core.internal.connection.ProjectTypeInfo.ProjectSubtypeInfo;
@@ -155,7 +154,7 @@ public class ProjectTypeSelectionPage extends WizardPage {
 			public void widgetSelected(SelectionEvent event) {
 				List<RepositoryInfo> repoList;
 				try {
-					repoList = TemplateUtil.listTemplateSources(connection.getConid(), new NullProgressMonitor());
+					repoList = connection.getCatalog().getTemplateSources(new NullProgressMonitor());
 					RepositoryManagementDialog repoDialog = new RepositoryManagementDialog(getShell(), connection, repoList);
 					if (repoDialog.open() == Window.OK) {
 						if (repoDialog.hasChanges()) {
@@ -288,6 +287,13 @@ public class ProjectTypeSelectionPage extends WizardPage {
 	}
 	
 	public void initTypeMap() {
+		List<ProjectTypeInfo> cachedTypes = connection.getCatalog().getCachedProjectTypes();
+		if (cachedTypes != null) {
+			// The project types were prefetched so use them straight away
+			typeMap = getProjectTypeMap(cachedTypes);
+			return;
+		}
+
 		IRunnableWithProgress runnable = new IRunnableWithProgress() {
 			@Override
 			public void run(IProgressMonitor monitor) throws InvocationTargetException {
@@ -444,26 +450,24 @@ public class ProjectTypeSelectionPage extends WizardPage {
 	private Map<String, ProjectTypeInfo> getProjectTypeMap(IProgressMonitor monitor) {
 		SubMonitor mon = SubMonitor.convert(monitor, 100);
 		List<ProjectTypeInfo> projectTypes = null;
-		Map<String, ProjectTypeInfo> typeMap = new HashMap<String, ProjectTypeInfo>();
 		try {
-			projectTypes = connection.requestProjectTypes();
-			mon.worked(100);
+			projectTypes = connection.getCatalog().getProjectTypes(mon.split(100));
 		} catch (Exception e) {
 			Logger.logError("An error occurred trying to get the list of project types for connection: " + connection.getBaseURI(), e); //$NON-NLS-1$
-			return typeMap;
+			return new HashMap<String, ProjectTypeInfo>();
 		}
+		return getProjectTypeMap(projectTypes);
+	}
+
+	private Map<String, ProjectTypeInfo> getProjectTypeMap(List<ProjectTypeInfo> projectTypes) {
+		Map<String, ProjectTypeInfo> typeMap = new HashMap<String, ProjectTypeInfo>();
 		if (projectTypes == null || projectTypes.isEmpty()) {
 			Logger.log("The list of project types is empty for connection: " + connection.getBaseURI()); //$NON-NLS-1$
 			return typeMap;
 		}
+		// The catalog has already merged the subtypes for types that are reported more than once
 		for (ProjectTypeInfo projectType : projectTypes) {
-			ProjectTypeInfo existing = typeMap.get(projectType.getId());
-			if (existing == null) {
-				typeMap.put(projectType.getId(), projectType);
-			}
-			else {
-				existing.addSubtypes(projectType.getSubtypes());
-			}
+			typeMap.put(projectType.getId(), projectType);
 		}
 		return typeMap;
 	}